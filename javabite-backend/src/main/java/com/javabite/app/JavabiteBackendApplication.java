@@ -1,11 +1,14 @@
 package com.javabite.app;
 
+import com.javabite.app.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class JavabiteBackendApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,13 @@
+package com.javabite.app.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class AsyncConfig {
+    // Virtual-thread mode only: @Async staff mails then leave the request thread on a virtual thread.
+    // Otherwise @Async is inert and mails are sent on the committing thread, after commit.
+}
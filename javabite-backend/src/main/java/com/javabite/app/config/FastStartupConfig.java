@@ -0,0 +1,55 @@
+package com.javabite.app.config;
+
+import com.javabite.app.monitoring.StartupTimingFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * fast-startup profile: beans are created on first use (spring.main.lazy-initialization=true),
+ * except the ones the first order request or the background jobs can't wait for.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final List<Class<?>> EAGER_TYPES = List.of(
+            DataSource.class,
+            EntityManagerFactory.class,
+            AbstractEntityManagerFactoryBean.class,
+            Flyway.class,
+            FlywayMigrationInitializer.class,
+            SecurityFilterChain.class,
+            StartupTimingFilter.class
+    );
+
+    /**
+     * Keep the database, security chain and @Scheduled beans eager:
+     * the JPA bootstrap would otherwise land on the first request,
+     * and lazy @Scheduled beans would never be created at all.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerCriticalBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (EAGER_TYPES.stream().anyMatch(type -> type.isAssignableFrom(beanType))
+                || hasScheduledMethods(beanType));
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
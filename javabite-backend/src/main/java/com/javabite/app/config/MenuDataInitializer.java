@@ -2,7 +2,9 @@ package com.javabite.app.config;
 
 import com.javabite.app.model.Category;
 import com.javabite.app.model.MenuItem;
+import com.javabite.app.model.SeedMarker;
 import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.SeedMarkerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -15,14 +17,23 @@ import java.math.BigDecimal;
 @RequiredArgsConstructor
 @Slf4j
 public class MenuDataInitializer {
+    static final String SEED_MARKER = "menu-items-v1";
+
     private final MenuItemRepository menuItemRepository;
+    private final SeedMarkerRepository seedMarkerRepository;
 
     @Bean
     @Order(2) // Run after user initialization
     public CommandLineRunner initializeMenuData() {
         return args -> {
+            if (seedMarkerRepository.existsById(SEED_MARKER)) {
+                log.info("Seed '{}' already applied. Skipping menu initialization.", SEED_MARKER);
+                return;
+            }
+
             if (menuItemRepository.count() > 0) {
                 log.info("Menu items already exist in database. Skipping initialization.");
+                markSeeded();
                 return;
             }
 
@@ -67,9 +78,14 @@ public class MenuDataInitializer {
                     "https://images.unsplash.com/photo-1626094309830-abbb0c99da4a?w=400&h=400&fit=crop");
 
             log.info("Menu items initialized successfully!");
+            markSeeded();
         };
     }
 
+    private void markSeeded() {
+        seedMarkerRepository.save(SeedMarker.builder().name(SEED_MARKER).build());
+    }
+
     private void createMenuItem(String name, String description, BigDecimal price,
                                 Category category, String imageUrl) {
         MenuItem item = MenuItem.builder()
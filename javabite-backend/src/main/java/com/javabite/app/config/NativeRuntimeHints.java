@@ -0,0 +1,74 @@
+package com.javabite.app.config;
+
+import com.javabite.app.service.CustomUserDetails;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reachability hints for the native image (mvn -Pnative native:compile).
+ * Spring AOT already covers beans, JPA managed types and typed @RequestBody/@ResponseBody
+ * signatures; this adds what it can't infer from ResponseEntity<?> / ApiResponse.data.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> BINDING_PACKAGES = List.of(
+            "com.javabite.app.model",
+            "com.javabite.app.payload",
+            "com.javabite.app.dto"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Jackson (de)serialization of entities, request/response payloads and DTOs
+        BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+        for (Class<?> type : scan(classLoader)) {
+            bindingHints.registerReflectionHints(hints.reflection(), type);
+        }
+
+        // Security context kept in the HTTP session
+        bindingHints.registerReflectionHints(hints.reflection(), CustomUserDetails.class);
+        hints.serialization()
+                .registerType(SecurityContextImpl.class)
+                .registerType(UsernamePasswordAuthenticationToken.class)
+                .registerType(SimpleGrantedAuthority.class)
+                .registerType(CustomUserDetails.class);
+
+        // JDK proxies created by SqlTelemetryDataSource
+        hints.proxies()
+                .registerJdkProxy(Connection.class)
+                .registerJdkProxy(Statement.class)
+                .registerJdkProxy(PreparedStatement.class)
+                .registerJdkProxy(CallableStatement.class)
+                .registerJdkProxy(ResultSet.class);
+    }
+
+    private static List<Class<?>> scan(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : BINDING_PACKAGES) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+        }
+        return types;
+    }
+}
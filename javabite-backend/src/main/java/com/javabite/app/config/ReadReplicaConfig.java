@@ -0,0 +1,55 @@
+package com.javabite.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Read/write split: @Transactional(readOnly = true) work goes to a replica pool.
+ * Off by default; enable with app.datasource.replica.enabled=true.
+ *
+ * Both Hikari pools live inside the routing DataSource (not as beans) so the
+ * SQL telemetry wrapper only wraps the single DataSource the app sees.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(
+            DataSourceProperties primaryProperties,
+            Environment environment,
+            @Value("${app.datasource.replica.max-lag-seconds:10}") long maxLagSeconds,
+            @Value("${app.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${app.datasource.replica.health-check-interval-ms:5000}") long healthCheckIntervalMs) {
+
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        DataSourceProperties replicaProperties = binder.bind("app.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new RuntimeException("app.datasource.replica.url must be set when the replica is enabled"));
+        HikariDataSource replica = replicaProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        log.info("✅ Read replica routing enabled: {} (max lag {}s)", replicaProperties.getUrl(), maxLagSeconds);
+
+        return new ReadWriteRoutingDataSource(primary, replica, maxLagSeconds, lagQuery, healthCheckIntervalMs);
+    }
+}
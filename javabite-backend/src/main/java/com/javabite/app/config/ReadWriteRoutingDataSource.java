@@ -0,0 +1,146 @@
+package com.javabite.app.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ *
+ * Routing happens when a connection is first used: @Transactional(readOnly = true) marks the
+ * lazy connection read-only before any statement runs, so it is bound to the replica.
+ * A background check marks the replica unavailable when it is down or lags more than
+ * maxLagSeconds behind the primary; read-only work then falls back to the primary.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final ScheduledExecutorService healthChecker;
+
+    private volatile boolean replicaAvailable = true;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      long maxLagSeconds, String lagQuery, long healthCheckIntervalMs) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+        setReadOnlyDataSource(new ReplicaOrPrimary());
+
+        if (healthCheckIntervalMs > 0) {
+            this.healthChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "replica-health");
+                t.setDaemon(true);
+                return t;
+            });
+            this.healthChecker.scheduleWithFixedDelay(this::checkReplica,
+                    healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.healthChecker = null;
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * Probe the replica: reachable, and (when a lag query is configured) within the staleness bound
+     */
+    public void checkReplica() {
+        boolean available;
+        try (Connection con = replica.getConnection()) {
+            available = con.isValid(2) && withinLagBound(con);
+        } catch (SQLException e) {
+            log.debug("Replica health check failed: {}", e.getMessage());
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("✅ Read replica available again - routing read-only transactions to it");
+            } else {
+                log.warn("⚠️ Read replica unavailable or too stale - read-only transactions use the primary");
+            }
+        }
+        replicaAvailable = available;
+    }
+
+    private boolean withinLagBound(Connection con) throws SQLException {
+        if (maxLagSeconds <= 0 || lagQuery == null || lagQuery.isBlank()) {
+            return true;
+        }
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                // Replication not configured or stopped
+                return false;
+            }
+            long lag = rs.getLong(lagColumn(rs));
+            return !rs.wasNull() && lag <= maxLagSeconds;
+        }
+    }
+
+    private static int lagColumn(ResultSet rs) throws SQLException {
+        // MySQL 8.0.22+ reports Seconds_Behind_Source, older servers Seconds_Behind_Master
+        for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+            String name = rs.getMetaData().getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(name) || "Seconds_Behind_Master".equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Read-only target: the replica while it is healthy, otherwise the primary
+     */
+    private class ReplicaOrPrimary extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (replicaAvailable) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    replicaAvailable = false;
+                    log.warn("⚠️ Replica connection failed, falling back to primary: {}", e.getMessage());
+                }
+            }
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
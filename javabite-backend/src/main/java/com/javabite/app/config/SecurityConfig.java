@@ -73,7 +73,7 @@ public class SecurityConfig {
 
         // Expose headers that frontend can access
         configuration.setExposedHeaders(Arrays.asList(
-                "Authorization", "Content-Type"
+                "Authorization", "Content-Type", "Idempotent-Replayed"
         ));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -98,13 +98,16 @@ public class SecurityConfig {
                                 "/api/auth/signup",
                                 "/api/auth/login",
                                 "/api/menu/**",
-                                "/error"
+                                "/api/stores",
+                                "/error",
+                                "/actuator/health"
                         ).permitAll()
 
                         // Authenticated endpoints
                         .requestMatchers("/api/auth/me", "/api/auth/logout").authenticated()
 
                         // Role-based API access
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/bookings/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/chef/**").hasRole("CHEF")
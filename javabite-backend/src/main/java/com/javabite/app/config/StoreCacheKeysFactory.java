@@ -0,0 +1,39 @@
+package com.javabite.app.config;
+
+import org.hibernate.annotations.TenantId;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Second-level cache keys: store-scoped (@TenantId) entities are keyed by store and id,
+ * as Hibernate does by default, so one store can never be served another's cached row.
+ * Shared entities such as User are keyed by id alone: one cache entry no matter which
+ * store's session loaded it, which {@code Cache.evict(User.class, id)} can then find.
+ */
+public class StoreCacheKeysFactory extends DefaultCacheKeysFactory {
+
+    private final Map<Class<?>, Boolean> storeScoped = new ConcurrentHashMap<>();
+
+    @Override
+    public Object createEntityKey(Object id, EntityPersister persister, SessionFactoryImplementor factory,
+                                  String tenantIdentifier) {
+        boolean scoped = storeScoped.computeIfAbsent(persister.getMappedClass(), StoreCacheKeysFactory::hasTenantId);
+        return super.createEntityKey(id, persister, factory, scoped ? tenantIdentifier : null);
+    }
+
+    private static boolean hasTenantId(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(TenantId.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package com.javabite.app.config;
+
+import java.util.function.Supplier;
+
+/**
+ * The store the current thread is working for.
+ *
+ * Set per request by {@link StoreContextFilter} and per store by the schedulers;
+ * Hibernate reads it through {@link StoreTenantResolver} to scope every query
+ * and insert on @TenantId entities. Unset means the default store.
+ */
+public final class StoreContext {
+
+    public static final long DEFAULT_STORE_ID = 1L;
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private StoreContext() {
+    }
+
+    public static Long getCurrentStoreId() {
+        Long storeId = CURRENT.get();
+        return storeId != null ? storeId : DEFAULT_STORE_ID;
+    }
+
+    public static void setCurrentStoreId(Long storeId) {
+        CURRENT.set(storeId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run work for one store, restoring the previous store afterwards.
+     * Open the transaction inside the callback: the session binds its store when it opens.
+     */
+    public static <T> T callAs(Long storeId, Supplier<T> work) {
+        Long previous = CURRENT.get();
+        CURRENT.set(storeId);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAs(Long storeId, Runnable work) {
+        callAs(storeId, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
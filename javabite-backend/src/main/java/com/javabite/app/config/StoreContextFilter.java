@@ -0,0 +1,64 @@
+package com.javabite.app.config;
+
+import com.javabite.app.service.CustomUserDetails;
+import com.javabite.app.service.StoreService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Picks the store for a request: staff are pinned to their home store, everyone
+ * else chooses with the X-Store-Id header (default store when absent).
+ * Runs after the security chain so the logged-in user is known.
+ */
+@RequiredArgsConstructor
+public class StoreContextFilter extends OncePerRequestFilter {
+
+    public static final String STORE_HEADER = "X-Store-Id";
+
+    private final StoreService storeService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long storeId = resolveStoreId(request);
+        if (storeId == null || !storeService.isActiveStore(storeId)) {
+            response.setStatus(400);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"success\": false, \"message\": \"Unknown store\"}");
+            return;
+        }
+
+        StoreContext.setCurrentStoreId(storeId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StoreContext.clear();
+        }
+    }
+
+    private Long resolveStoreId(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user
+                && user.getStoreId() != null) {
+            return user.getStoreId();
+        }
+
+        String header = request.getHeader(STORE_HEADER);
+        if (header == null || header.isBlank()) {
+            return StoreContext.DEFAULT_STORE_ID;
+        }
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.javabite.app.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.annotations.TenantId;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Base class for every repository: load-by-id honours the store like queries do.
+ *
+ * Hibernate adds the @TenantId restriction to queries but not to EntityManager.find, so
+ * findById would hand out another store's order, booking or menu item by id. Here an
+ * entity owned by a different store than {@link StoreContext}'s is reported as not found.
+ * Entities without @TenantId (users, stores) are unaffected.
+ */
+public class StoreScopedJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    private final Field storeField;
+
+    public StoreScopedJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.storeField = tenantField(entityInformation.getJavaType());
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        return super.findById(id).filter(this::inCurrentStore);
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private boolean inCurrentStore(T entity) {
+        return storeField == null
+                || Objects.equals(ReflectionUtils.getField(storeField, entity), StoreContext.getCurrentStoreId());
+    }
+
+    private static Field tenantField(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(TenantId.class)) {
+                    ReflectionUtils.makeAccessible(field);
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.javabite.app.config;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Hands the current store to Hibernate as the tenant id for @TenantId columns
+ */
+public class StoreTenantResolver implements CurrentTenantIdentifierResolver<Long> {
+
+    @Override
+    public Long resolveCurrentTenantIdentifier() {
+        return StoreContext.getCurrentStoreId();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package com.javabite.app.config;
+
+import com.javabite.app.service.StoreService;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Store tenancy: @TenantId entities (orders, bookings, menu, feedback, queues, rollups)
+ * are filtered and stamped by Hibernate with the store from {@link StoreContext},
+ * and cached per store in the second-level cache ({@link StoreCacheKeysFactory}).
+ * Repositories check the store on load-by-id too ({@link StoreScopedJpaRepository}).
+ */
+@Configuration
+@EnableJpaRepositories(basePackages = "com.javabite.app.repository", repositoryBaseClass = StoreScopedJpaRepository.class)
+public class TenancyConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer storeTenantResolverCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new StoreTenantResolver());
+            // Hibernate ignores hibernate.cache.keys_factory; the region factory takes it directly
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, new JCacheRegionFactory(new StoreCacheKeysFactory()));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<StoreContextFilter> storeContextFilter(StoreService storeService) {
+        FilterRegistrationBean<StoreContextFilter> registration =
+                new FilterRegistrationBean<>(new StoreContextFilter(storeService));
+        // Right after Spring Security, so the authenticated user is available
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
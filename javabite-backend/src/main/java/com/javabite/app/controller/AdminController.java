@@ -3,6 +3,7 @@ package com.javabite.app.controller;
 import com.javabite.app.model.Order;
 import com.javabite.app.model.User;
 import com.javabite.app.payload.*;
+import com.javabite.app.service.DashboardStatsCache;
 import com.javabite.app.service.OrderService;
 import com.javabite.app.service.UserService;
 import jakarta.annotation.PostConstruct;
@@ -18,6 +19,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
@@ -28,11 +31,12 @@ public class AdminController {
 
     private final UserService userService;
     private final OrderService orderService;
+    private final DashboardStatsCache dashboardStatsCache;
 
     @PostMapping("/create-chef")
     public ResponseEntity<ApiResponse> createChef(@Valid @RequestBody CreateChefRequest request) {
         try {
-            log.info("🔵 Creating chef: {}", request.getEmail());
+            log.debug("🔵 Creating chef: {}", request.getEmail());
             User chef = userService.createChef(request);
 
             Map<String, Object> responseData = new HashMap<>();
@@ -53,7 +57,7 @@ public class AdminController {
     @PostMapping("/create-waiter")
     public ResponseEntity<ApiResponse> createWaiter(@Valid @RequestBody CreateWaiterRequest request) {
         try {
-            log.info("🔵 Creating waiter: {}", request.getEmail());
+            log.debug("🔵 Creating waiter: {}", request.getEmail());
             User waiter = userService.createWaiter(request);
 
             Map<String, Object> responseData = new HashMap<>();
@@ -73,7 +77,7 @@ public class AdminController {
 
     @GetMapping("/staff/chefs")
     public ResponseEntity<ApiResponse> getAllChefs() {
-        log.info("🔵 Fetching all chefs");
+        log.debug("🔵 Fetching all chefs");
         List<User> chefs = userService.getAllChefs();
 
         List<Map<String, Object>> response = chefs.stream()
@@ -87,13 +91,13 @@ public class AdminController {
                 })
                 .collect(Collectors.toList());
 
-        log.info("✅ Retrieved {} chefs", response.size());
+        log.debug("✅ Retrieved {} chefs", response.size());
         return ResponseEntity.ok(new ApiResponse(true, "Chefs retrieved successfully", response));
     }
 
     @GetMapping("/staff/waiters")
     public ResponseEntity<ApiResponse> getAllWaiters() {
-        log.info("🔵 Fetching all waiters");
+        log.debug("🔵 Fetching all waiters");
         List<User> waiters = userService.getAllWaiters();
 
         List<Map<String, Object>> response = waiters.stream()
@@ -107,14 +111,14 @@ public class AdminController {
                 })
                 .collect(Collectors.toList());
 
-        log.info("✅ Retrieved {} waiters", response.size());
+        log.debug("✅ Retrieved {} waiters", response.size());
         return ResponseEntity.ok(new ApiResponse(true, "Waiters retrieved successfully", response));
     }
 
     @PutMapping("/staff/{userId}/toggle")
     public ResponseEntity<ApiResponse> toggleStaffStatus(@PathVariable Long userId) {
         try {
-            log.info("🔵 Toggling staff status for user ID: {}", userId);
+            log.debug("🔵 Toggling staff status for user ID: {}", userId);
             User user = userService.toggleUserStatus(userId);
 
             Map<String, Object> data = new HashMap<>();
@@ -133,7 +137,7 @@ public class AdminController {
     @DeleteMapping("/staff/{userId}")
     public ResponseEntity<ApiResponse> deleteStaff(@PathVariable Long userId) {
         try {
-            log.info("🔵 Deleting staff with ID: {}", userId);
+            log.debug("🔵 Deleting staff with ID: {}", userId);
             userService.deleteUser(userId);
 
             log.info("✅ Staff member deleted successfully");
@@ -146,14 +150,14 @@ public class AdminController {
 
     @GetMapping("/orders/pending")
     public ResponseEntity<ApiResponse> getPendingOrders() {
-        log.info("🔵 Fetching pending orders");
+        log.debug("🔵 Fetching pending orders");
         List<Order> orders = orderService.getPendingOrders();
 
         List<OrderResponse> response = orders.stream()
                 .map(OrderResponse::fromEntity)
                 .collect(Collectors.toList());
 
-        log.info("✅ Retrieved {} pending orders", response.size());
+        log.debug("✅ Retrieved {} pending orders", response.size());
         return ResponseEntity.ok(new ApiResponse(true, "Pending orders retrieved", response));
     }
 
@@ -165,11 +169,11 @@ public class AdminController {
             @PathVariable Long orderId,
             @RequestBody Map<String, Object> request) {
 
-        log.info("🔵 ========================================");
-        log.info("🔵 ASSIGN STAFF REQUEST RECEIVED");
-        log.info("🔵 Order ID: {}", orderId);
-        log.info("🔵 Request Body: {}", request);
-        log.info("🔵 ========================================");
+        log.debug("🔵 ========================================");
+        log.debug("🔵 ASSIGN STAFF REQUEST RECEIVED");
+        log.debug("🔵 Order ID: {}", orderId);
+        log.debug("🔵 Request Body: {}", request);
+        log.debug("🔵 ========================================");
 
         try {
             // Parse IDs with detailed logging
@@ -178,16 +182,16 @@ public class AdminController {
 
             if (request.get("chefId") != null) {
                 Object chefIdObj = request.get("chefId");
-                log.info("🔵 Raw chefId value: {} (type: {})", chefIdObj, chefIdObj.getClass().getName());
+                log.debug("🔵 Raw chefId value: {} (type: {})", chefIdObj, chefIdObj.getClass().getName());
                 chefId = Long.valueOf(chefIdObj.toString());
-                log.info("🔵 Parsed chefId: {}", chefId);
+                log.debug("🔵 Parsed chefId: {}", chefId);
             }
 
             if (request.get("waiterId") != null) {
                 Object waiterIdObj = request.get("waiterId");
-                log.info("🔵 Raw waiterId value: {} (type: {})", waiterIdObj, waiterIdObj.getClass().getName());
+                log.debug("🔵 Raw waiterId value: {} (type: {})", waiterIdObj, waiterIdObj.getClass().getName());
                 waiterId = Long.valueOf(waiterIdObj.toString());
-                log.info("🔵 Parsed waiterId: {}", waiterId);
+                log.debug("🔵 Parsed waiterId: {}", waiterId);
             }
 
             // Validation
@@ -197,26 +201,26 @@ public class AdminController {
                         .body(new ApiResponse(false, "Chef ID is required"));
             }
 
-            log.info("🔵 Assigning Order #{} to Chef ID: {}, Waiter ID: {}", orderId, chefId, waiterId);
+            log.debug("🔵 Assigning Order #{} to Chef ID: {}, Waiter ID: {}", orderId, chefId, waiterId);
 
             // Step 1: Assign chef
-            log.info("🔵 Step 1: Assigning chef...");
+            log.debug("🔵 Step 1: Assigning chef...");
             Order order = orderService.assignChefToOrder(orderId, chefId);
-            log.info("✅ Chef assigned successfully. Order status: {}", order.getStatus());
+            log.debug("✅ Chef assigned successfully. Order status: {}", order.getStatus());
 
             // Step 2: Assign waiter if provided
             if (waiterId != null) {
-                log.info("🔵 Step 2: Assigning waiter...");
+                log.debug("🔵 Step 2: Assigning waiter...");
                 order = orderService.assignWaiterToOrder(orderId, waiterId);
-                log.info("✅ Waiter assigned successfully. Order status: {}", order.getStatus());
+                log.debug("✅ Waiter assigned successfully. Order status: {}", order.getStatus());
             } else {
-                log.info("ℹ️ No waiter assigned (optional)");
+                log.debug("ℹ️ No waiter assigned (optional)");
             }
 
-            log.info("✅ ========================================");
-            log.info("✅ ORDER ASSIGNMENT COMPLETED SUCCESSFULLY");
-            log.info("✅ Order #{}: Chef ID {}, Waiter ID {}", orderId, chefId, waiterId);
-            log.info("✅ ========================================");
+            log.debug("✅ ========================================");
+            log.debug("✅ ORDER ASSIGNMENT COMPLETED SUCCESSFULLY");
+            log.info("✅ Order {}: Chef ID {}, Waiter ID {}", kv("orderId", orderId), chefId, waiterId);
+            log.debug("✅ ========================================");
 
             return ResponseEntity.ok(
                     new ApiResponse(true, "Staff assigned successfully", OrderResponse.fromEntity(order))
@@ -247,7 +251,7 @@ public class AdminController {
                         .body(new ApiResponse(false, "Chef ID is required"));
             }
 
-            log.info("🔵 Assigning chef {} to order {}", chefId, orderId);
+            log.debug("🔵 Assigning chef {} to order {}", chefId, orderId);
             Order order = orderService.assignChefToOrder(orderId, chefId);
 
             log.info("✅ Chef assigned successfully");
@@ -271,7 +275,7 @@ public class AdminController {
                         .body(new ApiResponse(false, "Waiter ID is required"));
             }
 
-            log.info("🔵 Assigning waiter {} to order {}", waiterId, orderId);
+            log.debug("🔵 Assigning waiter {} to order {}", waiterId, orderId);
             Order order = orderService.assignWaiterToOrder(orderId, waiterId);
 
             log.info("✅ Waiter assigned successfully");
@@ -287,8 +291,9 @@ public class AdminController {
     @GetMapping("/dashboard/stats")
     public ResponseEntity<ApiResponse> getDashboardStats() {
         try {
-            log.info("🔵 Fetching dashboard stats");
-            Map<String, Object> stats = orderService.getAdminDashboardStats();
+            log.debug("🔵 Fetching dashboard stats");
+            Map<String, Object> stats = dashboardStatsCache.get(
+                    DashboardStatsCache.ADMIN_DASHBOARD, orderService::getAdminDashboardStats);
 
             log.info("✅ Dashboard stats retrieved");
             return ResponseEntity.ok(new ApiResponse(true, "Dashboard stats retrieved", stats));
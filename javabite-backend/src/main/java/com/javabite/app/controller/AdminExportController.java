@@ -0,0 +1,92 @@
+package com.javabite.app.controller;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
+/**
+ * Streaming exports for accounting.
+ * GET /api/admin/export/{orders|bookings|feedback}?format=csv|ndjson&from=2024-01-01&to=2024-12-31
+ *
+ * Unlike /api/admin/orders/all and /api/bookings/admin/all, rows are written as they
+ * are read, so a multi-year export doesn't have to fit in memory.
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}, allowCredentials = "true")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return stream("orders", format, from, to,
+                (exportFormat, out) -> exportService.exportOrders(from, to, exportFormat, out));
+    }
+
+    @GetMapping("/bookings")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return stream("bookings", format, from, to,
+                (exportFormat, out) -> exportService.exportBookings(from, to, exportFormat, out));
+    }
+
+    @GetMapping("/feedback")
+    public ResponseEntity<StreamingResponseBody> exportFeedback(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return stream("feedback", format, from, to,
+                (exportFormat, out) -> exportService.exportFeedback(from, to, exportFormat, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, String format, LocalDate from, LocalDate to,
+                                     BiConsumer<ExportService.Format, OutputStream> writer) {
+        ExportService.Format exportFormat;
+        try {
+            exportFormat = ExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unsupported export format: " + format + " (use csv or ndjson)");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+
+        String filename = name
+                + (from != null ? "-from-" + from : "")
+                + (to != null ? "-to-" + to : "")
+                + "." + exportFormat.getExtension();
+        log.info("Admin exporting {} as {} ({} .. {})", name, exportFormat, from, to);
+
+        // The body is written on an async thread: carry the request's store over
+        Long storeId = StoreContext.getCurrentStoreId();
+        StreamingResponseBody body = out -> StoreContext.runAs(storeId, () -> writer.accept(exportFormat, out));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+}
@@ -0,0 +1,57 @@
+package com.javabite.app.controller;
+
+import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.payload.FloorPlanRequest;
+import com.javabite.app.service.TableAllocationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Floor plan of the current store: tables, seats, zones and combinable neighbours
+ */
+@RestController
+@RequestMapping("/api/admin/floor-plan")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}, allowCredentials = "true")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminFloorPlanController {
+
+    private final TableAllocationService allocationService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse> getFloorPlan() {
+        return ResponseEntity.ok(new ApiResponse(true, "Floor plan retrieved successfully",
+                describe(allocationService.getFloorPlan())));
+    }
+
+    /**
+     * Replace the whole floor plan
+     * PUT /api/admin/floor-plan {"tables": [{"tableNumber": 1, "seats": 2, "zone": "WINDOW", "combinableWith": 2}, ...]}
+     */
+    @PutMapping
+    public ResponseEntity<ApiResponse> replaceFloorPlan(@Valid @RequestBody FloorPlanRequest request) {
+        try {
+            TableAllocationService.FloorPlan plan = allocationService.replaceFloorPlan(request);
+            return ResponseEntity.ok(new ApiResponse(true, "Floor plan updated", describe(plan)));
+        } catch (RuntimeException e) {
+            log.error("Floor plan update failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    private static Map<String, Object> describe(TableAllocationService.FloorPlan plan) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("tables", plan.getTables());
+        data.put("defaultLayout", plan.isDefaultLayout());
+        data.put("largestParty", plan.getLargestParty());
+        return data;
+    }
+}
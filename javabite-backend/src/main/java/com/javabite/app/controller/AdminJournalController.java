@@ -0,0 +1,80 @@
+package com.javabite.app.controller;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.journal.OrderEventJournal;
+import com.javabite.app.journal.OrderStatusProjection;
+import com.javabite.app.payload.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Order event journal: live status counts for the current store, and
+ * point-in-time rebuilds by replaying the journal
+ */
+@RestController
+@RequestMapping("/api/admin/journal")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}, allowCredentials = "true")
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class AdminJournalController {
+
+    private final OrderEventJournal journal;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse> getJournal() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("lastSequence", journal.getLastSequence());
+        data.put("segments", journal.getSegmentCount());
+        data.put("lastSnapshotSequence", journal.getLastSnapshotSequence());
+        data.put("openOrders", journal.getOpenOrders());
+        data.put("statusCounts", journal.describeStore(StoreContext.getCurrentStoreId()));
+        return ResponseEntity.ok(new ApiResponse(true, "Journal retrieved successfully", data));
+    }
+
+    /**
+     * Rebuild the store's status counts from the whole journal, optionally as of a moment
+     * POST /api/admin/journal/replay?at=2026-01-31T18:00:00
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<ApiResponse> replay(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        try {
+            long cutoff = at != null
+                    ? at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : Long.MAX_VALUE;
+            OrderStatusProjection projection = new OrderStatusProjection();
+
+            long started = System.nanoTime();
+            long events = journal.replay(1, Long.MAX_VALUE, event -> {
+                if (event.getTimestamp() <= cutoff) {
+                    projection.apply(event);
+                }
+            });
+            long nanos = System.nanoTime() - started;
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("events", events);
+            data.put("applied", projection.getEventsApplied());
+            data.put("millis", nanos / 1_000_000);
+            data.put("eventsPerSecond", nanos > 0 ? events * 1_000_000_000L / nanos : events);
+            data.put("statusCounts", projection.describe(StoreContext.getCurrentStoreId()));
+            log.info("📒 Journal replay: {} event(s) in {} ms", events, nanos / 1_000_000);
+            return ResponseEntity.ok(new ApiResponse(true, "Journal replayed", data));
+        } catch (RuntimeException e) {
+            log.error("Journal replay failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.javabite.app.controller;
+
+import com.javabite.app.model.DailyRollup;
+import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.service.DailyRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily sales/operations rollups for reports and trend charts
+ */
+@RestController
+@RequestMapping("/api/admin/rollups")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}, allowCredentials = "true")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRollupController {
+
+    private final DailyRollupService rollupService;
+
+    /**
+     * Closed days in a range (default: last 30 days)
+     * GET /api/admin/rollups?from=2024-01-01&to=2024-01-31
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse> getRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now().minusDays(1);
+        LocalDate start = from != null ? from : end.minusDays(29);
+
+        List<DailyRollup> rollups = rollupService.getRollups(start, end);
+        return ResponseEntity.ok(new ApiResponse(true, "Rollups retrieved successfully", rollups));
+    }
+
+    /**
+     * Rebuild rollups for existing history (default: through yesterday)
+     * POST /api/admin/rollups/backfill?from=2023-01-01&to=2024-12-31
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now().minusDays(1);
+            log.info("Admin backfilling rollups {} .. {}", from, end);
+            int days = rollupService.backfill(from, end);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("from", from);
+            data.put("to", end);
+            data.put("days", days);
+            return ResponseEntity.ok(new ApiResponse(true, "Rollups backfilled", data));
+        } catch (RuntimeException e) {
+            log.error("Rollup backfill failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.javabite.app.controller;
+
+import com.javabite.app.model.Store;
+import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.payload.StoreRequest;
+import com.javabite.app.service.StoreService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Store management. Data endpoints work on the store picked by StoreContextFilter
+ * (X-Store-Id header for admins and customers, home store for staff).
+ */
+@RestController
+@RequestMapping("/api/admin/stores")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}, allowCredentials = "true")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminStoreController {
+
+    private final StoreService storeService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse> getAllStores() {
+        List<Store> stores = storeService.getAllStores();
+        return ResponseEntity.ok(new ApiResponse(true, "Stores retrieved successfully", stores));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse> createStore(@Valid @RequestBody StoreRequest request) {
+        try {
+            if (request.getCode() == null || request.getName() == null || request.getTotalTables() == null) {
+                throw new RuntimeException("Code, name and total tables are required");
+            }
+            Store store = storeService.createStore(request.getCode(), request.getName(), request.getTotalTables());
+            return ResponseEntity.ok(new ApiResponse(true, "Store created successfully", store));
+        } catch (RuntimeException e) {
+            log.error("Store creation failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse> updateStore(@PathVariable Long id, @Valid @RequestBody StoreRequest request) {
+        try {
+            Store store = storeService.updateStore(id, request.getName(), request.getTotalTables(), request.getActive());
+            return ResponseEntity.ok(new ApiResponse(true, "Store updated successfully", store));
+        } catch (RuntimeException e) {
+            log.error("Store update failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+}
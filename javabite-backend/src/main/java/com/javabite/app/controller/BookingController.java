@@ -5,6 +5,9 @@ import com.javabite.app.model.TableBooking;
 import com.javabite.app.payload.ApiResponse;
 import com.javabite.app.payload.CreateBookingRequest;
 import com.javabite.app.service.CustomUserDetails;
+import com.javabite.app.service.DashboardStatsCache;
+import com.javabite.app.service.IdempotencyService;
+import com.javabite.app.service.TableAllocationService;
 import com.javabite.app.service.TableBookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,27 +32,33 @@ import java.util.Map;
 public class BookingController {
 
     private final TableBookingService bookingService;
+    private final IdempotencyService idempotencyService;
+    private final TableAllocationService tableAllocationService;
+    private final DashboardStatsCache dashboardStatsCache;
 
     // ==================== CUSTOMER ENDPOINTS ====================
     // ✅ CRITICAL: All specific paths MUST come BEFORE /{bookingId}
 
     /**
-     * Create a new table booking
+     * Create a new table booking (retry-safe with an Idempotency-Key header)
      */
     @PostMapping("/create")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> createBooking(
             @Valid @RequestBody CreateBookingRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        try {
-            TableBooking booking = bookingService.createBooking(userDetails.getId(), request);
-            log.info("✅ Booking created: #{} for customer {}", booking.getId(), userDetails.getEmail());
-            return ResponseEntity.status(HttpStatus.CREATED).body(booking);
-        } catch (RuntimeException e) {
-            log.error("❌ Failed to create booking: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                    .body(new ApiResponse(false, e.getMessage()));
-        }
+        return idempotencyService.execute(userDetails.getId(), "bookings", idempotencyKey, request, () -> {
+            try {
+                TableBooking booking = bookingService.createBooking(userDetails.getId(), request);
+                log.info("✅ Booking created: #{} for customer {}", booking.getId(), userDetails.getEmail());
+                return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+            } catch (RuntimeException e) {
+                log.error("❌ Failed to create booking: {}", e.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, e.getMessage()));
+            }
+        });
     }
 
     /**
@@ -75,11 +84,12 @@ public class BookingController {
     @GetMapping("/available-tables")
     public ResponseEntity<?> getAvailableTables(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam String time) {
+            @RequestParam String time,
+            @RequestParam(required = false) Integer guests) {
         try {
             log.info("📡 Checking available tables for {} at {}", date, time);
 
-            List<Integer> availableTables = bookingService.getAvailableTablesForSlot(date, time);
+            List<Integer> availableTables = bookingService.getAvailableTablesForSlot(date, time, guests);
 
             log.info("✅ Found {} available tables", availableTables.size());
 
@@ -87,7 +97,7 @@ public class BookingController {
                     "date", date,
                     "time", time,
                     "availableTables", availableTables,
-                    "totalTables", 20
+                    "totalTables", bookingService.getTotalTables()
             ));
         } catch (Exception e) {
             log.error("❌ Failed to fetch available tables: {}", e.getMessage());
@@ -96,6 +106,15 @@ public class BookingController {
         }
     }
 
+    /**
+     * Current store's tables with seats and zones (for the table picker)
+     */
+    @GetMapping("/floor-plan")
+    public ResponseEntity<?> getFloorPlan() {
+        return ResponseEntity.ok(new ApiResponse(true, "Floor plan retrieved successfully",
+                tableAllocationService.getFloorPlan().getTables()));
+    }
+
     /**
      * Check availability for specific date and time (legacy endpoint)
      */
@@ -220,9 +239,14 @@ public class BookingController {
     @GetMapping("/admin/date/{date}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getBookingsByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
         try {
-            List<TableBooking> bookings = bookingService.getBookingsForDate(date);
+            // ?from=18:00&to=20:00 narrows to bookings starting in that window
+            List<TableBooking> bookings = from != null || to != null
+                    ? bookingService.getBookingsForTimeRange(date, from, to)
+                    : bookingService.getBookingsForDate(date);
             return ResponseEntity.ok(bookings);
         } catch (Exception e) {
             log.error("❌ Failed to fetch bookings by date: {}", e.getMessage());
@@ -268,7 +292,8 @@ public class BookingController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getBookingStats() {
         try {
-            Map<String, Object> stats = bookingService.getBookingStats();
+            Map<String, Object> stats = dashboardStatsCache.get(
+                    DashboardStatsCache.BOOKING_STATS, bookingService::getBookingStats);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             log.error("❌ Failed to fetch booking stats: {}", e.getMessage());
@@ -31,10 +31,7 @@ public class ChefController {
     @GetMapping("/orders/new")
     public ResponseEntity<ApiResponse> getNewOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<Order> orders = orderService.getChefNewOrders(userDetails.getId());
-        List<OrderResponse> response = orders.stream()
-                .map(OrderResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponse> response = orderService.getChefNewOrders(userDetails.getId());
 
         return ResponseEntity.ok(
                 new ApiResponse(true, "New orders retrieved successfully", response)
@@ -47,10 +44,7 @@ public class ChefController {
     @GetMapping("/orders/active")
     public ResponseEntity<ApiResponse> getActiveOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<Order> orders = orderService.getChefActiveOrders(userDetails.getId());
-        List<OrderResponse> response = orders.stream()
-                .map(OrderResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponse> response = orderService.getChefActiveOrders(userDetails.getId());
 
         return ResponseEntity.ok(
                 new ApiResponse(true, "Active orders retrieved successfully", response)
@@ -1,8 +1,10 @@
 package com.javabite.app.controller;
 
 import com.javabite.app.dto.BookingDTO;
+import com.javabite.app.payload.PageResponse;
 import com.javabite.app.service.BookingService;
 import com.javabite.app.service.CustomUserDetails;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 @RestController
+@Slf4j
 @RequestMapping("/api/customer/bookings")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 @PreAuthorize("hasRole('CUSTOMER')")
@@ -33,7 +36,26 @@ public class CustomerBookingController {
             List<BookingDTO> bookings = bookingService.getCustomerBookingHistory(userDetails.getId());
             return ResponseEntity.ok(bookings);
         } catch (Exception e) {
-            e.printStackTrace(); // ✅ DEBUG: Print error to console
+            log.error("❌ Failed to load booking history", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Get one page of booking history (?page=0&size=20, newest first)
+     */
+    @GetMapping("/history/page")
+    public ResponseEntity<?> getBookingHistoryPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            return ResponseEntity.ok(PageResponse.fromPage(
+                    bookingService.getCustomerBookingHistoryPage(userDetails.getId(), page, size)));
+        } catch (Exception e) {
+            log.error("❌ Failed to load booking history page {}", page, e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
@@ -49,7 +71,7 @@ public class CustomerBookingController {
             List<BookingDTO> bookings = bookingService.getCustomerActiveBookings(userDetails.getId());
             return ResponseEntity.ok(bookings);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("❌ Failed to load active bookings", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
@@ -71,7 +93,7 @@ public class CustomerBookingController {
             error.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("❌ Failed to load booking {}", id, e);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Booking not found");
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
@@ -97,12 +119,12 @@ public class CustomerBookingController {
 
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
-            e.printStackTrace();
+            log.warn("⚠️ Booking {} not cancelled: {}", id, e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("❌ Failed to cancel booking {}", id, e);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Failed to cancel booking");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
@@ -118,7 +140,7 @@ public class CustomerBookingController {
             Map<String, Object> stats = bookingService.getCustomerBookingStats(userDetails.getId());
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
-            e.printStackTrace(); // ✅ DEBUG: Print error to console
+            log.error("❌ Failed to load booking stats", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
@@ -18,6 +18,8 @@ import java.util.stream.Collectors;
 @Slf4j
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 public class MenuController {
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final MenuService menuService;
 
     @GetMapping
@@ -50,6 +52,32 @@ public class MenuController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchMenuItems(@RequestParam String q,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Search query is required"));
+        }
+        List<MenuItemResponse> response = menuService.searchMenuItems(q, clamp(limit));
+        return ResponseEntity.ok(
+                new ApiResponse(true, "Menu search results retrieved successfully", response)
+        );
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse> autocompleteMenuItems(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "8") int limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Search query is required"));
+        }
+        return ResponseEntity.ok(
+                new ApiResponse(true, "Suggestions retrieved successfully",
+                        menuService.autocompleteMenuItems(q, clamp(limit)))
+        );
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse> getMenuItemById(@PathVariable Long id) {
         try {
@@ -63,4 +91,8 @@ public class MenuController {
                     .body(new ApiResponse(false, e.getMessage()));
         }
     }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
 }
@@ -2,9 +2,12 @@ package com.javabite.app.controller;
 
 import com.javabite.app.model.Order;
 import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.payload.CreateBatchOrderRequest;
 import com.javabite.app.payload.CreateOrderRequest;
 import com.javabite.app.payload.OrderResponse;
+import com.javabite.app.payload.PageResponse;
 import com.javabite.app.service.CustomUserDetails;
+import com.javabite.app.service.IdempotencyService;
 import com.javabite.app.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,8 +18,11 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
@@ -25,24 +31,61 @@ import java.util.stream.Collectors;
 @PreAuthorize("isAuthenticated()")
 public class OrderController {
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
+    /**
+     * Place an order. Send an Idempotency-Key header to make retries safe:
+     * a repeated key returns the first response instead of placing another order.
+     */
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
-    public ResponseEntity<ApiResponse> createOrder(
+    public ResponseEntity<?> createOrder(
             @Valid @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        try {
-            Order order = orderService.createOrder(userDetails.getId(), request);
-            OrderResponse response = OrderResponse.fromEntity(order);
+        return idempotencyService.execute(userDetails.getId(), "orders", idempotencyKey, request, () -> {
+            try {
+                Order order = orderService.createOrder(userDetails.getId(), request);
+                OrderResponse response = OrderResponse.fromEntity(order);
 
-            log.info("Order created: #{}", order.getId());
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(new ApiResponse(true, "Order placed successfully", response));
-        } catch (RuntimeException e) {
-            log.error("Failed to create order: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                    .body(new ApiResponse(false, e.getMessage()));
-        }
+                log.info("Order created: {}", kv("orderId", order.getId()));
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new ApiResponse(true, "Order placed successfully", response));
+            } catch (RuntimeException e) {
+                log.error("Failed to create order: {}", e.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Place several carts for one table at once (group order): one round trip,
+     * one transaction. Also retry-safe with an Idempotency-Key header.
+     * POST /api/orders/batch
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<?> createOrders(
+            @Valid @RequestBody CreateBatchOrderRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return idempotencyService.execute(userDetails.getId(), "orders-batch", idempotencyKey, request, () -> {
+            try {
+                List<OrderResponse> response = orderService.createOrders(userDetails.getId(), request).stream()
+                        .map(OrderResponse::fromEntity)
+                        .collect(Collectors.toList());
+
+                log.info("Batch of {} orders created for booking {}", response.size(),
+                        kv("bookingId", request.getTableBookingId()));
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new ApiResponse(true, response.size() + " orders placed successfully", response));
+            } catch (RuntimeException e) {
+                log.error("Failed to create batch order: {}", e.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, e.getMessage()));
+            }
+        });
     }
 
     @GetMapping("/my-orders")
@@ -59,6 +102,31 @@ public class OrderController {
         );
     }
 
+    @GetMapping("/my-orders/page")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse> getMyOrdersPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PageResponse<OrderResponse> response = PageResponse.fromPage(
+                orderService.getCustomerOrdersPage(userDetails.getId(), page, size),
+                OrderResponse::fromEntity);
+
+        return ResponseEntity.ok(
+                new ApiResponse(true, "Orders retrieved successfully", response)
+        );
+    }
+
+    @GetMapping("/my-orders/summary")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse> getMyOrdersSummary(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Map<String, Object> summary = orderService.getCustomerOrderSummary(userDetails.getId());
+        return ResponseEntity.ok(
+                new ApiResponse(true, "Order summary retrieved successfully", summary)
+        );
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<ApiResponse> getOrderById(
             @PathVariable Long orderId,
@@ -0,0 +1,28 @@
+package com.javabite.app.controller;
+
+import com.javabite.app.model.Store;
+import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.service.StoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Public store list so the frontend can offer a store picker (sent back as X-Store-Id)
+ */
+@RestController
+@RequestMapping("/api/stores")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class StoreController {
+
+    private final StoreService storeService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse> getActiveStores() {
+        List<Store> stores = storeService.getActiveStores();
+        return ResponseEntity.ok(new ApiResponse(true, "Stores retrieved successfully", stores));
+    }
+}
@@ -13,7 +13,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/waiter")
@@ -29,10 +28,7 @@ public class WaiterController {
     public ResponseEntity<ApiResponse> getReadyOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            List<Order> orders = orderService.getWaiterReadyOrders(userDetails.getId());
-            List<OrderResponse> response = orders.stream()
-                    .map(OrderResponse::fromEntity)
-                    .collect(Collectors.toList());
+            List<OrderResponse> response = orderService.getWaiterReadyOrders(userDetails.getId());
 
             return ResponseEntity.ok(
                     new ApiResponse(true, "Ready orders retrieved", response)
@@ -72,10 +68,7 @@ public class WaiterController {
     public ResponseEntity<ApiResponse> getAssignedOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            List<Order> orders = orderService.getWaiterAssignedOrders(userDetails.getId());
-            List<OrderResponse> response = orders.stream()
-                    .map(OrderResponse::fromEntity)
-                    .collect(Collectors.toList());
+            List<OrderResponse> response = orderService.getWaiterAssignedOrders(userDetails.getId());
 
             return ResponseEntity.ok(
                     new ApiResponse(true, "Assigned orders retrieved", response)
@@ -94,10 +87,7 @@ public class WaiterController {
     public ResponseEntity<ApiResponse> getPreparingOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            List<Order> orders = orderService.getWaiterPreparingOrders(userDetails.getId());
-            List<OrderResponse> response = orders.stream()
-                    .map(OrderResponse::fromEntity)
-                    .collect(Collectors.toList());
+            List<OrderResponse> response = orderService.getWaiterPreparingOrders(userDetails.getId());
 
             return ResponseEntity.ok(
                     new ApiResponse(true, "Preparing orders retrieved", response)
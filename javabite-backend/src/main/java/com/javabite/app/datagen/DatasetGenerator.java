@@ -0,0 +1,484 @@
+package com.javabite.app.datagen;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.BookingStatus;
+import com.javabite.app.model.OrderStatus;
+import com.javabite.app.model.Role;
+import com.javabite.app.service.DailyRollupService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-loads a synthetic trading history (customers, bookings, orders with items and
+ * feedback) for benchmarks, straight through JDBC batch inserts on parallel chunks.
+ *
+ * Every row is a pure function of (seed, table, row index): each one gets its own
+ * SplittableRandom, so the output does not depend on batch size, thread count or the
+ * order chunks finish in. Every row gets an explicit id from a range reserved up
+ * front, which is what lets an order point at its booking (and that booking's
+ * customer, date and time) without reading anything back. Order items get
+ * MAX_ITEMS_PER_ORDER ids per order and feedback one per candidate order, so those
+ * two ranges have gaps.
+ *
+ * Meant for an otherwise idle database: rows go in under the configured store id,
+ * bypassing Hibernate, the order journal and the board read model (all generated
+ * orders are already COMPLETED or CANCELLED, so no board has anything to show).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    /** Shared by every generated customer, so only one bcrypt hash is computed per run */
+    public static final String CUSTOMER_PASSWORD = "datagen123";
+    public static final String EMAIL_DOMAIN = "@datagen.javabite.test";
+
+    private static final int CUSTOMERS = 1;
+    private static final int BOOKINGS = 2;
+    private static final int ORDERS = 3;
+    private static final int FEEDBACK = 4;
+
+    // Mon..Sun: quiet start of the week, busy Friday and Saturday
+    private static final double[] WEEKDAY_WEIGHT = {0.8, 0.85, 0.9, 1.0, 1.3, 1.5, 1.2};
+    private static final double MAX_WEEKDAY_WEIGHT = 1.5;
+    private static final int FIRST_SEATING = 7 * 60;
+    private static final int LAST_SEATING = 21 * 60 + 45;
+    private static final int MAX_ITEMS_PER_ORDER = 5;
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley",
+            "Jamie", "Avery", "Quinn", "Priya", "Chen", "Fatima", "Mateo", "Aisha", "Lukas", "Yuki", "Omar"};
+    private static final String[] LAST_NAMES = {"Smith", "Garcia", "Nguyen", "Patel", "Kim", "Müller", "Rossi",
+            "Silva", "Okafor", "Cohen", "Ivanova", "Haddad", "Tanaka", "Brown", "Dubois", "Larsen"};
+    private static final String[] COMMENTS = {"Great coffee, friendly staff", "Food took a while but worth it",
+            "Lovely atmosphere", "A bit noisy at lunchtime", "Will come back", "Pastries were stale",
+            "Perfect brunch spot", "Service was slow today"};
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO users (id, name, email, password, role, enabled, "
+            + "max_active_orders, current_active_orders, is_available, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOOKING = "INSERT INTO table_bookings (id, store_id, customer_id, user_id, "
+            + "booking_date, booking_time, booking_minute, number_of_guests, table_number, status, created_at, "
+            + "updated_at, cancelled_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER = "INSERT INTO orders (id, store_id, customer_id, table_booking_id, "
+            + "chef_id, waiter_id, status, payment_status, payment_method, paid_at, subtotal, tax, discount, "
+            + "auto_assigned, created_at, updated_at, chef_assigned_at, waiter_assigned_at, preparation_started_at, "
+            + "ready_at, served_at, completed_at, cancelled_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM = "INSERT INTO order_items (id, order_id, menu_item_id, quantity, "
+            + "price_at_order) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_FEEDBACK = "INSERT INTO feedback (id, store_id, order_id, customer_id, "
+            + "overall_rating, food_rating, service_rating, ambiance_rating, value_rating, comment, would_recommend, "
+            + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DailyRollupService dailyRollupService;
+
+    /**
+     * Generate the whole dataset. Tables are loaded in foreign-key order; within a
+     * table, chunks of spec.batchSize() rows are written in parallel, one transaction each.
+     */
+    public DatasetReport generate(DatasetSpec spec) {
+        long started = System.nanoTime();
+        Context ctx = prepare(spec);
+        log.info("🧪 Generating dataset for store {} (seed {}): {} customers, {} bookings, {} orders, {} feedback",
+                spec.storeId(), spec.seed(), spec.customers(), spec.bookings(), spec.orders(), spec.feedback());
+
+        ExecutorService pool = Executors.newFixedThreadPool(spec.threads());
+        try {
+            long customers = inChunks(pool, ctx, "users", spec.customers(), this::writeCustomers);
+            long bookings = inChunks(pool, ctx, "table_bookings", spec.bookings(), this::writeBookings);
+            AtomicLong items = new AtomicLong();
+            long orders = inChunks(pool, ctx, "orders", spec.orders(), (c, from, to) -> {
+                long[] written = writeOrders(c, from, to);
+                items.addAndGet(written[1]);
+                return written[0];
+            });
+            long feedback = inChunks(pool, ctx, "feedback", spec.feedback(), this::writeFeedback);
+
+            // Anything cached before the load (menu queries, users) may now be stale
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+            if (spec.backfillRollups() && spec.orders() + spec.bookings() > 0) {
+                StoreContext.runAs(spec.storeId(), () ->
+                        dailyRollupService.backfill(ctx.today().minusDays(spec.days()), ctx.today().minusDays(1)));
+            }
+
+            DatasetReport report = new DatasetReport(customers, bookings, orders, items.get(), feedback,
+                    ctx.firstCustomerId(), ctx.firstBookingId(), ctx.firstOrderId(),
+                    (System.nanoTime() - started) / 1_000_000_000.0);
+            log.info("🧪 Dataset ready: {}", report);
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Delete the rows of one earlier run by their id ranges, in reverse foreign-key
+     * order. Rollups it backfilled are left alone (re-close the days to refresh them).
+     */
+    public void remove(DatasetReport report) {
+        long lastOrderId = report.firstOrderId() + report.orders() - 1;
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM feedback WHERE order_id BETWEEN ? AND ?", report.firstOrderId(), lastOrderId);
+            jdbcTemplate.update("DELETE FROM order_items WHERE order_id BETWEEN ? AND ?", report.firstOrderId(), lastOrderId);
+            jdbcTemplate.update("DELETE FROM orders WHERE id BETWEEN ? AND ?", report.firstOrderId(), lastOrderId);
+            jdbcTemplate.update("DELETE FROM table_bookings WHERE id BETWEEN ? AND ?",
+                    report.firstBookingId(), report.firstBookingId() + report.bookings() - 1);
+            jdbcTemplate.update("DELETE FROM users WHERE id BETWEEN ? AND ? AND email LIKE ?",
+                    report.firstCustomerId(), report.firstCustomerId() + report.customers() - 1, "%" + EMAIL_DOMAIN);
+        });
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        log.info("🧪 Removed generated dataset: {}", report);
+    }
+
+    // ============================================
+    // TABLE WRITERS
+    // ============================================
+
+    private long writeCustomers(Context ctx, long from, long to) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            SplittableRandom r = random(ctx, CUSTOMERS, i);
+            long id = ctx.firstCustomerId() + i;
+            LocalDateTime createdAt = ctx.today().minusDays(ctx.spec().days() + r.nextInt(365))
+                    .atTime(r.nextInt(24), r.nextInt(60));
+            rows.add(new Object[]{id,
+                    FIRST_NAMES[r.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[r.nextInt(LAST_NAMES.length)],
+                    "customer" + id + EMAIL_DOMAIN, ctx.passwordHash(), Role.CUSTOMER.name(), true,
+                    5, 0, true, Timestamp.valueOf(createdAt)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER, rows);
+        return rows.size();
+    }
+
+    private long writeBookings(Context ctx, long from, long to) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            BookingRow b = booking(ctx, i);
+            LocalDateTime closedAt = b.at().plusMinutes(90);
+            rows.add(new Object[]{b.id(), ctx.spec().storeId(), b.customerId(), b.customerId(),
+                    Date.valueOf(b.at().toLocalDate()), String.format("%02d:%02d", b.minute() / 60, b.minute() % 60),
+                    b.minute(), b.guests(), b.tableNumber(), b.status().name(), Timestamp.valueOf(b.createdAt()),
+                    Timestamp.valueOf(b.status() == BookingStatus.CANCELLED ? b.cancelledAt() : closedAt),
+                    b.status() == BookingStatus.CANCELLED ? Timestamp.valueOf(b.cancelledAt()) : null});
+        }
+        jdbcTemplate.batchUpdate(INSERT_BOOKING, rows);
+        return rows.size();
+    }
+
+    /**
+     * Returns {orders written, order items written}
+     */
+    private long[] writeOrders(Context ctx, long from, long to) {
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            OrderRow o = order(ctx, i);
+            boolean completed = o.status() == OrderStatus.COMPLETED;
+            orders.add(new Object[]{o.id(), ctx.spec().storeId(), o.customerId(), o.bookingId(),
+                    o.chefId(), o.waiterId(), o.status().name(), completed ? "PAID" : "REFUNDED",
+                    o.paymentMethod(), Timestamp.valueOf(o.createdAt()), o.subtotal(), o.tax(), BigDecimal.ZERO,
+                    o.chefId() != null, Timestamp.valueOf(o.createdAt()), Timestamp.valueOf(o.closedAt()),
+                    timestamp(o.chefAssignedAt()), timestamp(o.chefAssignedAt()), timestamp(o.preparationStartedAt()),
+                    timestamp(o.readyAt()), timestamp(o.servedAt()),
+                    completed ? Timestamp.valueOf(o.closedAt()) : null,
+                    completed ? null : Timestamp.valueOf(o.closedAt())});
+            for (int k = 0; k < o.menuItemIds().length; k++) {
+                items.add(new Object[]{ctx.firstOrderItemId() + i * MAX_ITEMS_PER_ORDER + k, o.id(),
+                        o.menuItemIds()[k], o.quantities()[k], o.prices()[k]});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orders);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, items);
+        return new long[]{orders.size(), items.size()};
+    }
+
+    private long writeFeedback(Context ctx, long from, long to) {
+        long stride = ctx.spec().orders() / ctx.spec().feedback();
+        LocalDateTime latest = ctx.today().atStartOfDay().minusMinutes(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            // Spread over the whole order history; only completed orders can be reviewed
+            OrderRow o = order(ctx, i * stride);
+            if (o.status() != OrderStatus.COMPLETED) {
+                continue;
+            }
+            SplittableRandom r = random(ctx, FEEDBACK, i);
+            int overall = rating(r);
+            LocalDateTime createdAt = o.closedAt().plusMinutes(5 + r.nextInt(180));
+            rows.add(new Object[]{ctx.firstFeedbackId() + i, ctx.spec().storeId(), o.id(), o.customerId(), overall,
+                    nearby(r, overall), nearby(r, overall), nearby(r, overall), nearby(r, overall),
+                    r.nextDouble() < 0.4 ? COMMENTS[r.nextInt(COMMENTS.length)] : null, overall >= 4,
+                    Timestamp.valueOf(createdAt.isAfter(latest) ? latest : createdAt)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_FEEDBACK, rows);
+        return rows.size();
+    }
+
+    // ============================================
+    // ROW FUNCTIONS
+    // ============================================
+
+    private BookingRow booking(Context ctx, long index) {
+        SplittableRandom r = random(ctx, BOOKINGS, index);
+        long customerId = ctx.firstCustomerId() + r.nextLong(ctx.spec().customers());
+        LocalDate date = tradingDay(r, ctx);
+        int minute = tradingMinute(r);
+        LocalDateTime at = date.atTime(minute / 60, minute % 60);
+
+        double roll = r.nextDouble();
+        BookingStatus status = roll < 0.85 ? BookingStatus.COMPLETED
+                : roll < 0.95 ? BookingStatus.CANCELLED : BookingStatus.NO_SHOW;
+        int guests = 1 + r.nextInt(6);
+        int tableNumber = ctx.tableNumbers()[r.nextInt(ctx.tableNumbers().length)];
+        LocalDateTime createdAt = at.minusHours(1 + r.nextInt(14 * 24));
+        long leadMinutes = Math.max(1, Duration.between(createdAt, at).toMinutes());
+        LocalDateTime cancelledAt = createdAt.plusMinutes(r.nextLong(leadMinutes));
+        return new BookingRow(ctx.firstBookingId() + index, customerId, at, minute, guests, tableNumber, status,
+                createdAt, cancelledAt);
+    }
+
+    private OrderRow order(Context ctx, long index) {
+        SplittableRandom r = random(ctx, ORDERS, index);
+        // Orders come from tables that turned up; a cancelled or no-show booking only
+        // keeps its (cancelled) order when a few redraws in a row all miss
+        BookingRow booking = booking(ctx, r.nextLong(ctx.spec().bookings()));
+        for (int redraw = 0; redraw < 3 && booking.status() != BookingStatus.COMPLETED; redraw++) {
+            booking = booking(ctx, r.nextLong(ctx.spec().bookings()));
+        }
+        boolean completed = booking.status() == BookingStatus.COMPLETED && r.nextDouble() < 0.95;
+
+        int count = 1 + r.nextInt(MAX_ITEMS_PER_ORDER);
+        long[] menuItemIds = new long[count];
+        int[] quantities = new int[count];
+        BigDecimal[] prices = new BigDecimal[count];
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int k = 0; k < count; k++) {
+            int item = r.nextInt(ctx.menuItemIds().length);
+            menuItemIds[k] = ctx.menuItemIds()[item];
+            quantities[k] = 1 + r.nextInt(3);
+            prices[k] = ctx.menuPrices()[item];
+            subtotal = subtotal.add(ctx.menuPrices()[item].multiply(BigDecimal.valueOf(quantities[k])));
+        }
+        BigDecimal tax = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+
+        LocalDateTime createdAt = booking.at().plusMinutes(r.nextInt(30));
+        String paymentMethod = r.nextDouble() < 0.7 ? "CARD" : "CASH";
+        if (!completed) {
+            return new OrderRow(ctx.firstOrderId() + index, booking.customerId(), booking.id(), null, null,
+                    OrderStatus.CANCELLED, paymentMethod, menuItemIds, quantities, prices, subtotal, tax,
+                    createdAt, null, null, null, null, createdAt.plusMinutes(1 + r.nextInt(20)));
+        }
+
+        LocalDateTime chefAssignedAt = createdAt.plusMinutes(1 + r.nextInt(4));
+        LocalDateTime preparationStartedAt = chefAssignedAt.plusMinutes(1 + r.nextInt(5));
+        LocalDateTime readyAt = preparationStartedAt.plusMinutes(5 + r.nextInt(16));
+        LocalDateTime servedAt = readyAt.plusMinutes(1 + r.nextInt(5));
+        return new OrderRow(ctx.firstOrderId() + index, booking.customerId(), booking.id(),
+                pick(r, ctx.chefIds()), pick(r, ctx.waiterIds()), OrderStatus.COMPLETED, paymentMethod,
+                menuItemIds, quantities, prices, subtotal, tax,
+                createdAt, chefAssignedAt, preparationStartedAt, readyAt, servedAt, servedAt.plusMinutes(r.nextInt(30)));
+    }
+
+    /**
+     * A day in the last spec.days() days, weighted by weekday with a gentle growth
+     * trend towards today (rejection sampling, so it stays a function of the random)
+     */
+    private static LocalDate tradingDay(SplittableRandom r, Context ctx) {
+        int days = ctx.spec().days();
+        while (true) {
+            int daysAgo = 1 + r.nextInt(days);
+            LocalDate date = ctx.today().minusDays(daysAgo);
+            double weight = WEEKDAY_WEIGHT[date.getDayOfWeek().getValue() - 1] * (1.0 - 0.3 * daysAgo / days);
+            if (r.nextDouble() * MAX_WEEKDAY_WEIGHT < weight) {
+                return date;
+            }
+        }
+    }
+
+    /**
+     * Minute of day on a quarter hour: a breakfast bump, the lunch rush and dinner
+     */
+    private static int tradingMinute(SplittableRandom r) {
+        double roll = r.nextDouble();
+        double minute;
+        if (roll < 0.20) {
+            minute = 8 * 60 + 30 + r.nextGaussian() * 40;
+        } else if (roll < 0.65) {
+            minute = 12 * 60 + 45 + r.nextGaussian() * 45;
+        } else {
+            minute = 19 * 60 + r.nextGaussian() * 60;
+        }
+        int clamped = (int) Math.max(FIRST_SEATING, Math.min(LAST_SEATING, Math.round(minute)));
+        return clamped - clamped % 15;
+    }
+
+    private static int rating(SplittableRandom r) {
+        double roll = r.nextDouble();
+        return roll < 0.04 ? 1 : roll < 0.10 ? 2 : roll < 0.25 ? 3 : roll < 0.60 ? 4 : 5;
+    }
+
+    private static int nearby(SplittableRandom r, int rating) {
+        return Math.max(1, Math.min(5, rating + r.nextInt(3) - 1));
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private Context prepare(DatasetSpec spec) {
+        long[] menuItemIds = jdbcTemplate.queryForList(
+                "SELECT id FROM menu_items WHERE store_id = ? AND available = TRUE ORDER BY id", Long.class,
+                spec.storeId()).stream().mapToLong(Long::longValue).toArray();
+        if (spec.orders() > 0 && menuItemIds.length == 0) {
+            throw new RuntimeException("Store " + spec.storeId() + " has no available menu items to order from");
+        }
+        BigDecimal[] menuPrices = jdbcTemplate.queryForList(
+                "SELECT price FROM menu_items WHERE store_id = ? AND available = TRUE ORDER BY id", BigDecimal.class,
+                spec.storeId()).toArray(BigDecimal[]::new);
+
+        int[] tableNumbers = jdbcTemplate.queryForList(
+                "SELECT table_number FROM dining_tables WHERE store_id = ? AND active = TRUE ORDER BY table_number",
+                Integer.class, spec.storeId()).stream().mapToInt(Integer::intValue).toArray();
+        if (tableNumbers.length == 0) {
+            tableNumbers = new int[]{1};
+        }
+
+        return new Context(spec, LocalDate.now(),
+                passwordEncoder.encode(CUSTOMER_PASSWORD),
+                menuItemIds, menuPrices, tableNumbers,
+                staffIds(spec.storeId(), Role.CHEF), staffIds(spec.storeId(), Role.WAITER),
+                reserveIds("users", spec.customers()),
+                reserveIds("table_bookings", spec.bookings()),
+                reserveIds("orders", spec.orders()),
+                reserveIds("order_items", spec.orders() * MAX_ITEMS_PER_ORDER),
+                reserveIds("feedback", spec.feedback()));
+    }
+
+    private long[] staffIds(long storeId, Role role) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE store_id = ? AND role = ? AND enabled = TRUE ORDER BY id", Long.class,
+                storeId, role.name()).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Claim the next count ids of a table by moving its identity past them, so
+     * explicit ids and the application's own inserts never collide (and parallel
+     * chunks never contend on the identity)
+     */
+    private long reserveIds(String table, long count) {
+        long first = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class) + 1;
+        if (count > 0) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            jdbcTemplate.execute("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)
+                    ? "ALTER TABLE " + table + " AUTO_INCREMENT = " + (first + count)
+                    : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (first + count));
+        }
+        return first;
+    }
+
+    private long inChunks(ExecutorService pool, Context ctx, String table, long count, ChunkWriter writer) {
+        if (count == 0) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Future<Long>> chunks = new ArrayList<>();
+        for (long from = 0; from < count; from += ctx.spec().batchSize()) {
+            long start = from;
+            long end = Math.min(from + ctx.spec().batchSize(), count);
+            chunks.add(pool.submit(() -> tx.execute(status -> writer.write(ctx, start, end))));
+        }
+
+        long written = 0;
+        try {
+            for (Future<Long> chunk : chunks) {
+                written += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating " + table, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to generate " + table + ": " + e.getCause().getMessage(), e.getCause());
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        log.info("🧪 {}: {} rows in {}s ({} rows/s)", table, written, String.format("%.1f", seconds),
+                Math.round(written / Math.max(seconds, 0.001)));
+        return written;
+    }
+
+    private static SplittableRandom random(Context ctx, int table, long index) {
+        return new SplittableRandom(ctx.spec().seed() * 0x9E3779B97F4A7C15L + table * 0xC2B2AE3D27D4EB4FL + index);
+    }
+
+    private static Long pick(SplittableRandom r, long[] ids) {
+        return ids.length > 0 ? ids[r.nextInt(ids.length)] : null;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        long write(Context ctx, long from, long to);
+    }
+
+    private record Context(DatasetSpec spec,
+                           LocalDate today,
+                           String passwordHash,
+                           long[] menuItemIds,
+                           BigDecimal[] menuPrices,
+                           int[] tableNumbers,
+                           long[] chefIds,
+                           long[] waiterIds,
+                           long firstCustomerId,
+                           long firstBookingId,
+                           long firstOrderId,
+                           long firstOrderItemId,
+                           long firstFeedbackId) {
+    }
+
+    private record BookingRow(long id, long customerId, LocalDateTime at, int minute, int guests, int tableNumber,
+                              BookingStatus status, LocalDateTime createdAt, LocalDateTime cancelledAt) {
+    }
+
+    private record OrderRow(long id, long customerId, long bookingId, Long chefId, Long waiterId,
+                            OrderStatus status, String paymentMethod,
+                            long[] menuItemIds, int[] quantities, BigDecimal[] prices,
+                            BigDecimal subtotal, BigDecimal tax,
+                            LocalDateTime createdAt, LocalDateTime chefAssignedAt,
+                            LocalDateTime preparationStartedAt, LocalDateTime readyAt,
+                            LocalDateTime servedAt, LocalDateTime closedAt) {
+    }
+}
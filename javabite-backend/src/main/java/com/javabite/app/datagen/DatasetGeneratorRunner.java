@@ -0,0 +1,49 @@
+package com.javabite.app.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Runs the {@link DatasetGenerator} once at startup under the "datagen" profile,
+ * after the user and menu seeders (it orders from the seeded menu and assigns the
+ * seeded staff). Sizes come from application-datagen.properties.
+ */
+@Configuration
+@Profile("datagen")
+@Slf4j
+public class DatasetGeneratorRunner {
+
+    @Bean
+    @Order(3)
+    public CommandLineRunner generateDataset(DatasetGenerator generator,
+                                             ApplicationContext context,
+                                             @Value("${app.datagen.customers}") long customers,
+                                             @Value("${app.datagen.bookings}") long bookings,
+                                             @Value("${app.datagen.orders}") long orders,
+                                             @Value("${app.datagen.feedback}") long feedback,
+                                             @Value("${app.datagen.days:365}") int days,
+                                             @Value("${app.datagen.seed:42}") long seed,
+                                             @Value("${app.datagen.batch-size:5000}") int batchSize,
+                                             @Value("${app.datagen.threads:4}") int threads,
+                                             @Value("${app.datagen.store-id:1}") long storeId,
+                                             @Value("${app.datagen.backfill-rollups:true}") boolean backfillRollups,
+                                             @Value("${app.datagen.exit-when-done:true}") boolean exitWhenDone) {
+        return args -> {
+            DatasetReport report = generator.generate(new DatasetSpec(customers, bookings, orders, feedback,
+                    days, seed, batchSize, threads, storeId, backfillRollups));
+            log.info("🧪 Customers log in as customer<id>{} / {} (ids {}..{})", DatasetGenerator.EMAIL_DOMAIN,
+                    DatasetGenerator.CUSTOMER_PASSWORD, report.firstCustomerId(),
+                    report.firstCustomerId() + report.customers() - 1);
+            if (exitWhenDone) {
+                System.exit(SpringApplication.exit(context, () -> 0));
+            }
+        };
+    }
+}
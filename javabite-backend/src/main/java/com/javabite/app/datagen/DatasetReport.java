@@ -0,0 +1,26 @@
+package com.javabite.app.datagen;
+
+/**
+ * Rows written by one {@link DatasetGenerator} run. The generated users, bookings and
+ * orders occupy contiguous id ranges starting at the first* ids.
+ */
+public record DatasetReport(long customers,
+                            long bookings,
+                            long orders,
+                            long orderItems,
+                            long feedback,
+                            long firstCustomerId,
+                            long firstBookingId,
+                            long firstOrderId,
+                            double seconds) {
+
+    public long rows() {
+        return customers + bookings + orders + orderItems + feedback;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d customers, %d bookings, %d orders (%d items), %d feedback in %.1fs (%.0f rows/s)",
+                customers, bookings, orders, orderItems, feedback, seconds, seconds > 0 ? rows() / seconds : 0);
+    }
+}
@@ -0,0 +1,38 @@
+package com.javabite.app.datagen;
+
+/**
+ * What {@link DatasetGenerator} should load. Row counts are exact except feedback,
+ * which only goes to completed orders and so can come out slightly lower.
+ *
+ * The same spec (same seed) against the same menu and staff produces the same rows,
+ * whatever the batch size or thread count.
+ */
+public record DatasetSpec(long customers,
+                          long bookings,
+                          long orders,
+                          long feedback,
+                          int days,
+                          long seed,
+                          int batchSize,
+                          int threads,
+                          long storeId,
+                          boolean backfillRollups) {
+
+    public DatasetSpec {
+        if (customers < 0 || bookings < 0 || orders < 0 || feedback < 0) {
+            throw new RuntimeException("Dataset row counts must not be negative");
+        }
+        if ((bookings > 0 || orders > 0) && customers == 0) {
+            throw new RuntimeException("Bookings and orders need at least one customer");
+        }
+        if (orders > 0 && bookings == 0) {
+            throw new RuntimeException("Orders need at least one booking");
+        }
+        if (feedback > orders) {
+            throw new RuntimeException("Feedback cannot exceed the number of orders");
+        }
+        if (days < 1 || batchSize < 1 || threads < 1) {
+            throw new RuntimeException("days, batch size and threads must be at least 1");
+        }
+    }
+}
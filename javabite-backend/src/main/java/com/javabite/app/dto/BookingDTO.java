@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 public class BookingDTO {
     private Long id;
     private Integer tableNumber;
+    private Integer joinedTableNumber;
     private LocalDate bookingDate;
     private String bookingTime;
     private Integer numberOfGuests;
@@ -0,0 +1,44 @@
+package com.javabite.app.dto;
+
+import com.javabite.app.model.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Flat booking row for the streaming export (JPQL constructor expression)
+ */
+@Data
+@AllArgsConstructor
+public class BookingExportRow {
+    public static final List<String> CSV_HEADER = List.of(
+            "id", "bookingDate", "bookingTime", "tableNumber", "numberOfGuests", "status",
+            "customerName", "customerEmail", "createdAt", "cancelledAt", "cancellationReason",
+            "refundStatus", "refundAmount", "refundedAt");
+
+    private Long id;
+    private LocalDate bookingDate;
+    private String bookingTime;
+    private Integer tableNumber;
+    private Integer numberOfGuests;
+    private BookingStatus status;
+    private String customerName;
+    private String customerEmail;
+    private LocalDateTime createdAt;
+    private LocalDateTime cancelledAt;
+    private String cancellationReason;
+    private String refundStatus;
+    private BigDecimal refundAmount;
+    private LocalDateTime refundedAt;
+
+    public List<Object> csvValues() {
+        return Arrays.asList(id, bookingDate, bookingTime, tableNumber, numberOfGuests, status,
+                customerName, customerEmail, createdAt, cancelledAt, cancellationReason,
+                refundStatus, refundAmount, refundedAt);
+    }
+}
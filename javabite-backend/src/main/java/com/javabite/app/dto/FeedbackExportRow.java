@@ -0,0 +1,37 @@
+package com.javabite.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Flat feedback row for the streaming export (JPQL constructor expression)
+ */
+@Data
+@AllArgsConstructor
+public class FeedbackExportRow {
+    public static final List<String> CSV_HEADER = List.of(
+            "id", "orderId", "customerName", "customerEmail", "overallRating", "foodRating",
+            "serviceRating", "ambianceRating", "valueRating", "wouldRecommend", "comment", "createdAt");
+
+    private Long id;
+    private Long orderId;
+    private String customerName;
+    private String customerEmail;
+    private Integer overallRating;
+    private Integer foodRating;
+    private Integer serviceRating;
+    private Integer ambianceRating;
+    private Integer valueRating;
+    private Boolean wouldRecommend;
+    private String comment;
+    private LocalDateTime createdAt;
+
+    public List<Object> csvValues() {
+        return Arrays.asList(id, orderId, customerName, customerEmail, overallRating, foodRating,
+                serviceRating, ambianceRating, valueRating, wouldRecommend, comment, createdAt);
+    }
+}
@@ -0,0 +1,75 @@
+package com.javabite.app.dto;
+
+import com.javabite.app.model.OrderStatus;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Flat order row for the streaming export; built by a JPQL constructor expression
+ * so no entity (or its EAGER graph) is ever loaded.
+ */
+@Data
+public class OrderExportRow {
+    public static final List<String> CSV_HEADER = List.of(
+            "id", "createdAt", "status", "customerName", "customerEmail", "tableNumber",
+            "chefName", "waiterName", "itemCount", "subtotal", "tax", "discount", "total",
+            "paymentStatus", "paymentMethod", "completedAt", "cancelledAt");
+
+    private Long id;
+    private LocalDateTime createdAt;
+    private OrderStatus status;
+    private String customerName;
+    private String customerEmail;
+    private Integer tableNumber;
+    private String chefName;
+    private String waiterName;
+    private Integer itemCount;
+    private BigDecimal subtotal;
+    private BigDecimal tax;
+    private BigDecimal discount;
+    private BigDecimal total;
+    private String paymentStatus;
+    private String paymentMethod;
+    private LocalDateTime completedAt;
+    private LocalDateTime cancelledAt;
+
+    public OrderExportRow(Long id, LocalDateTime createdAt, OrderStatus status,
+                          String customerName, String customerEmail, Integer tableNumber,
+                          String chefName, String waiterName, Integer itemCount,
+                          BigDecimal subtotal, BigDecimal tax, BigDecimal discount,
+                          String paymentStatus, String paymentMethod,
+                          LocalDateTime completedAt, LocalDateTime cancelledAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.status = status;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.tableNumber = tableNumber;
+        this.chefName = chefName;
+        this.waiterName = waiterName;
+        this.itemCount = itemCount;
+        this.subtotal = subtotal;
+        this.tax = tax;
+        this.discount = discount;
+        // Same rule as Order.getTotal(): subtotal + tax - discount
+        this.total = orZero(subtotal).add(orZero(tax)).subtract(orZero(discount));
+        this.paymentStatus = paymentStatus;
+        this.paymentMethod = paymentMethod;
+        this.completedAt = completedAt;
+        this.cancelledAt = cancelledAt;
+    }
+
+    public List<Object> csvValues() {
+        return Arrays.asList(id, createdAt, status, customerName, customerEmail, tableNumber,
+                chefName, waiterName, itemCount, subtotal, tax, discount, total,
+                paymentStatus, paymentMethod, completedAt, cancelledAt);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,10 @@
+package com.javabite.app.journal;
+
+/**
+ * Anything rebuilt from the order journal (see {@link OrderEventJournal#replay})
+ */
+@FunctionalInterface
+public interface JournalProjection {
+
+    void apply(OrderEventView event);
+}
@@ -0,0 +1,392 @@
+package com.javabite.app.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of order state transitions.
+ *
+ * Events are fixed 64-byte records ({@link OrderEventView}) written into
+ * memory-mapped segment files of app.journal.segment-records records each,
+ * named after their first sequence number. A full segment is flushed and a
+ * new one started; old segments are never rewritten.
+ *
+ * The journal keeps an {@link OrderStatusProjection} up to date as it appends
+ * and snapshots it periodically. On startup it loads the newest snapshot and
+ * replays only the events after it. {@link #replay} feeds any range of events
+ * to any projection, reading the mapped files in place.
+ *
+ * Appends happen after the order transaction commits. A crash can lose the
+ * last events written to the page cache (unless app.journal.fsync=true), but
+ * never leaves a torn record behind: recovery drops records whose CRC fails.
+ *
+ * Off unless app.journal.enabled=true, and then app.journal.dir must name an
+ * absolute directory: a relative one would follow whatever the working
+ * directory of the process happens to be.
+ */
+@Component
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+@Slf4j
+public class OrderEventJournal {
+
+    private static final String SEGMENT_PREFIX = "orders-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int SNAPSHOT_MAGIC = 0x4A425331; // "JBS1"
+    private static final int SNAPSHOTS_KEPT = 2;
+
+    private static final int RECORD_SIZE = OrderEventView.RECORD_SIZE;
+    private static final int PAGE_SIZE = 4096;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final boolean fsync;
+
+    // First sequence of every segment, oldest first (guarded by this)
+    private final List<Long> segmentStarts = new ArrayList<>();
+    private final OrderStatusProjection projection = new OrderStatusProjection();
+    private final OrderEventView liveView = new OrderEventView();
+    private final CRC32 crc = new CRC32();
+    private final Object snapshotLock = new Object();
+
+    private MappedByteBuffer active;
+    private long activeStart;
+    private int activeCapacity;
+    private long nextSequence = 1;
+
+    private volatile long lastSequence;
+    private volatile long lastSnapshotSequence;
+
+    public OrderEventJournal(@Value("${app.journal.dir:}") String directory,
+                             @Value("${app.journal.segment-records:1048576}") int recordsPerSegment,
+                             @Value("${app.journal.fsync:false}") boolean fsync) {
+        if (directory.isBlank() || !Paths.get(directory).isAbsolute()) {
+            throw new IllegalStateException("app.journal.dir must be an absolute path, got '" + directory + "'");
+        }
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Recover the journal tail and rebuild the live projection (snapshot + newer events)
+     */
+    @PostConstruct
+    public synchronized void open() {
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            segmentStarts.clear();
+            segmentStarts.addAll(listSequences(SEGMENT_PREFIX, SEGMENT_SUFFIX));
+
+            if (segmentStarts.isEmpty()) {
+                startSegment(1);
+            } else {
+                activeStart = segmentStarts.get(segmentStarts.size() - 1);
+                active = map(activeStart, FileChannel.MapMode.READ_WRITE);
+                activeCapacity = active.capacity() / RECORD_SIZE;
+                nextSequence = activeStart + recoverTail();
+            }
+            lastSequence = nextSequence - 1;
+
+            loadSnapshot();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open order journal in " + directory, e);
+        }
+
+        long replayed = replay(projection.getLastSequence() + 1, lastSequence, projection);
+        log.info("📒 Order journal open at {}: {} event(s), {} segment(s), snapshot at #{}, replayed {} in {} ms",
+                directory, lastSequence, segmentStarts.size(), lastSnapshotSequence, replayed,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+        synchronized (this) {
+            if (active != null) {
+                active.force();
+            }
+        }
+    }
+
+    /**
+     * Journal an order transition once its transaction has committed
+     * (right away when there is no transaction)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderEvent(OrderJournalEvent event) {
+        try {
+            append(event);
+        } catch (RuntimeException e) {
+            // The order change is already committed; a missed event must not fail the request
+            log.error("❌ Could not journal {} for order {}", event.getType(), event.getOrderId(), e);
+        }
+    }
+
+    /**
+     * Append one event; returns its sequence number
+     */
+    public synchronized long append(OrderJournalEvent event) {
+        if (nextSequence - activeStart == activeCapacity) {
+            rotate();
+        }
+
+        long sequence = nextSequence;
+        int offset = (int) (sequence - activeStart) * RECORD_SIZE;
+        active.putLong(offset + OrderEventView.SEQUENCE, sequence);
+        active.putLong(offset + OrderEventView.TIMESTAMP, event.getTimestamp());
+        active.putLong(offset + OrderEventView.STORE_ID, event.getStoreId());
+        active.putLong(offset + OrderEventView.ORDER_ID, event.getOrderId());
+        active.putLong(offset + OrderEventView.CHEF_ID, event.getChefId());
+        active.putLong(offset + OrderEventView.WAITER_ID, event.getWaiterId());
+        active.putLong(offset + OrderEventView.AMOUNT_CENTS, event.getAmountCents());
+        active.put(offset + OrderEventView.TYPE, event.getType().getCode());
+        active.put(offset + OrderEventView.STATUS, OrderEventView.statusCode(event.getStatus()));
+        active.putShort(offset + OrderEventView.STATUS + 1, (short) 0);
+        active.putInt(offset + OrderEventView.CRC, checksum(active, offset));
+        if (fsync) {
+            active.force(offset, RECORD_SIZE);
+        }
+
+        nextSequence++;
+        lastSequence = sequence;
+        projection.apply(liveView.wrap(active, offset));
+        return sequence;
+    }
+
+    /**
+     * Feed events fromSequence..toSequence (inclusive, clipped to what exists) to a
+     * projection, in order. Returns the number of events applied.
+     */
+    public long replay(long fromSequence, long toSequence, JournalProjection target) {
+        List<Long> starts;
+        long last;
+        synchronized (this) {
+            starts = List.copyOf(segmentStarts);
+            last = lastSequence;
+        }
+
+        long from = Math.max(fromSequence, 1);
+        long to = Math.min(toSequence, last);
+        OrderEventView view = new OrderEventView();
+        long applied = 0;
+
+        for (int i = 0; i < starts.size() && from <= to; i++) {
+            long start = starts.get(i);
+            long end = i + 1 < starts.size() ? starts.get(i + 1) - 1 : last;
+            if (end < from) {
+                continue;
+            }
+            MappedByteBuffer segment;
+            try {
+                segment = map(start, FileChannel.MapMode.READ_ONLY);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read journal segment " + start, e);
+            }
+            long segmentTo = Math.min(end, to);
+            for (long sequence = Math.max(from, start); sequence <= segmentTo; sequence++) {
+                target.apply(view.wrap(segment, (int) (sequence - start) * RECORD_SIZE));
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Write the live projection to a snapshot file if events arrived since the last one
+     */
+    @Scheduled(fixedDelayString = "${app.journal.snapshot-interval-ms:600000}",
+            initialDelayString = "${app.journal.snapshot-interval-ms:600000}")
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            byte[] state;
+            long sequence;
+            synchronized (this) {
+                sequence = lastSequence;
+                if (active == null || sequence == lastSnapshotSequence) {
+                    return;
+                }
+                // A snapshot must never point past events that could still be lost
+                active.force();
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(bytes)) {
+                    out.writeInt(SNAPSHOT_MAGIC);
+                    projection.writeTo(out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                state = bytes.toByteArray();
+            }
+
+            try {
+                Path file = directory.resolve(fileName(SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+                Path temp = directory.resolve(file.getFileName() + ".tmp");
+                Files.write(temp, state);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                lastSnapshotSequence = sequence;
+
+                List<Long> snapshots = listSequences(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                for (int i = 0; i < snapshots.size() - SNAPSHOTS_KEPT; i++) {
+                    Files.deleteIfExists(directory.resolve(fileName(SNAPSHOT_PREFIX, snapshots.get(i), SNAPSHOT_SUFFIX)));
+                }
+                log.info("📸 Order journal snapshot at #{}", sequence);
+            } catch (IOException e) {
+                log.error("❌ Order journal snapshot at #{} failed", sequence, e);
+            }
+        }
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getLastSnapshotSequence() {
+        return lastSnapshotSequence;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segmentStarts.size();
+    }
+
+    /**
+     * Live order counts for one store (see {@link OrderStatusProjection#describe})
+     */
+    public synchronized Map<String, Long> describeStore(long storeId) {
+        return projection.describe(storeId);
+    }
+
+    public synchronized int getOpenOrders() {
+        return projection.getOpenOrders();
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private void rotate() {
+        active.force();
+        try {
+            startSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start journal segment " + nextSequence, e);
+        }
+        log.info("📒 Order journal rotated to segment #{}", nextSequence);
+    }
+
+    private void startSegment(long start) throws IOException {
+        Path file = directory.resolve(fileName(SEGMENT_PREFIX, start, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        }
+        activeStart = start;
+        activeCapacity = recordsPerSegment;
+        segmentStarts.add(start);
+    }
+
+    /**
+     * Count the intact records at the start of the active segment and clear
+     * what a crash may have left after them
+     */
+    private int recoverTail() {
+        int records = 0;
+        while (records < activeCapacity) {
+            int offset = records * RECORD_SIZE;
+            if (active.getLong(offset + OrderEventView.SEQUENCE) != activeStart + records
+                    || active.getInt(offset + OrderEventView.CRC) != checksum(active, offset)) {
+                break;
+            }
+            records++;
+        }
+
+        // Pages are written back in any order, so a crash can leave written records
+        // after a torn one: clear the rest of this page and the next
+        int recordsPerPage = PAGE_SIZE / RECORD_SIZE;
+        int limit = Math.min(activeCapacity, (records / recordsPerPage + 2) * recordsPerPage);
+        byte[] empty = new byte[RECORD_SIZE];
+        int cleared = 0;
+        for (int i = records; i < limit; i++) {
+            if (active.getLong(i * RECORD_SIZE + OrderEventView.SEQUENCE) != 0
+                    || active.getInt(i * RECORD_SIZE + OrderEventView.CRC) != 0) {
+                active.put(i * RECORD_SIZE, empty);
+                cleared++;
+            }
+        }
+        if (cleared > 0) {
+            active.force();
+            log.warn("⚠️ Order journal dropped {} incomplete record(s) after #{}", cleared, activeStart + records - 1);
+        }
+        return records;
+    }
+
+    private void loadSnapshot() throws IOException {
+        List<Long> snapshots = listSequences(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            long sequence = snapshots.get(i);
+            if (sequence > lastSequence) {
+                continue;
+            }
+            Path file = directory.resolve(fileName(SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != SNAPSHOT_MAGIC) {
+                    throw new IOException("not a journal snapshot");
+                }
+                projection.readFrom(in);
+                lastSnapshotSequence = sequence;
+                return;
+            } catch (IOException e) {
+                projection.clear();
+                log.warn("⚠️ Skipping unreadable journal snapshot {}: {}", file.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    private MappedByteBuffer map(long start, FileChannel.MapMode mode) throws IOException {
+        Path file = directory.resolve(fileName(SEGMENT_PREFIX, start, SEGMENT_SUFFIX));
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            return channel.map(mode, 0, channel.size());
+        }
+    }
+
+    private int checksum(MappedByteBuffer buffer, int offset) {
+        crc.reset();
+        crc.update(buffer.slice(offset, OrderEventView.CHECKSUMMED_BYTES));
+        return (int) crc.getValue();
+    }
+
+    private List<Long> listSequences(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+        }
+    }
+
+    private static String fileName(String prefix, long sequence, String suffix) {
+        return String.format("%s%020d%s", prefix, sequence, suffix);
+    }
+}
@@ -0,0 +1,43 @@
+package com.javabite.app.journal;
+
+/**
+ * What happened to an order. The code is what the journal stores, so existing
+ * codes must never change; new types get new codes.
+ */
+public enum OrderEventType {
+    CREATED(1),
+    CHEF_ASSIGNED(2),
+    WAITER_ASSIGNED(3),
+    PREPARATION_STARTED(4),
+    READY(5),
+    COMPLETED(6),
+    CANCELLED(7),
+    REASSIGNED(8),
+    REFUNDED(9);
+
+    private static final OrderEventType[] BY_CODE = new OrderEventType[16];
+
+    static {
+        for (OrderEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    OrderEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static OrderEventType fromCode(byte code) {
+        OrderEventType type = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown order event code: " + code);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,106 @@
+package com.javabite.app.journal;
+
+import com.javabite.app.model.OrderStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads one journal record in place. Replay moves a single view along the mapped
+ * segment instead of creating an object per event, so handlers must copy what
+ * they want to keep.
+ *
+ * Record layout (64 bytes, big-endian):
+ *  0 sequence, 8 timestamp (epoch ms), 16 storeId, 24 orderId, 32 chefId (0 = none),
+ *  40 waiterId (0 = none), 48 amountCents, 56 type, 57 status, 58-59 unused, 60 CRC32 of bytes 0-59
+ */
+public final class OrderEventView {
+
+    static final int RECORD_SIZE = 64;
+    static final int CHECKSUMMED_BYTES = 60;
+
+    static final int SEQUENCE = 0;
+    static final int TIMESTAMP = 8;
+    static final int STORE_ID = 16;
+    static final int ORDER_ID = 24;
+    static final int CHEF_ID = 32;
+    static final int WAITER_ID = 40;
+    static final int AMOUNT_CENTS = 48;
+    static final int TYPE = 56;
+    static final int STATUS = 57;
+    static final int CRC = 60;
+
+    // Journal status codes (0 = none); fixed, unlike OrderStatus.ordinal()
+    private static final OrderStatus[] STATUSES = {
+            null, OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.READY,
+            OrderStatus.SERVED, OrderStatus.COMPLETED, OrderStatus.CANCELLED
+    };
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    OrderEventView wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    public long getSequence() {
+        return buffer.getLong(offset + SEQUENCE);
+    }
+
+    public long getTimestamp() {
+        return buffer.getLong(offset + TIMESTAMP);
+    }
+
+    public long getStoreId() {
+        return buffer.getLong(offset + STORE_ID);
+    }
+
+    public long getOrderId() {
+        return buffer.getLong(offset + ORDER_ID);
+    }
+
+    public long getChefId() {
+        return buffer.getLong(offset + CHEF_ID);
+    }
+
+    public long getWaiterId() {
+        return buffer.getLong(offset + WAITER_ID);
+    }
+
+    public long getAmountCents() {
+        return buffer.getLong(offset + AMOUNT_CENTS);
+    }
+
+    public OrderEventType getType() {
+        return OrderEventType.fromCode(buffer.get(offset + TYPE));
+    }
+
+    public byte getStatusCode() {
+        return buffer.get(offset + STATUS);
+    }
+
+    public OrderStatus getStatus() {
+        return status(getStatusCode());
+    }
+
+    static OrderStatus status(byte code) {
+        return code > 0 && code < STATUSES.length ? STATUSES[code] : null;
+    }
+
+    static byte statusCode(OrderStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        for (byte code = 1; code < STATUSES.length; code++) {
+            if (STATUSES[code] == status) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("No journal code for " + status);
+    }
+
+    static int statusCodes() {
+        return STATUSES.length;
+    }
+}
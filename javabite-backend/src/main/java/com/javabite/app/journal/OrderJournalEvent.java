@@ -0,0 +1,40 @@
+package com.javabite.app.journal;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.Order;
+import com.javabite.app.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * An order state transition, published by OrderService and appended to the
+ * journal once the transaction commits. Values are copied when it's created.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderJournalEvent {
+
+    private final OrderEventType type;
+    private final long timestamp;
+    private final long storeId;
+    private final long orderId;
+    private final OrderStatus status;
+    private final long chefId;
+    private final long waiterId;
+    private final long amountCents;
+
+    public static OrderJournalEvent of(Order order, OrderEventType type) {
+        BigDecimal total = order.getTotal();
+        return new OrderJournalEvent(
+                type,
+                System.currentTimeMillis(),
+                order.getStoreId() != null ? order.getStoreId() : StoreContext.getCurrentStoreId(),
+                order.getId(),
+                order.getStatus(),
+                order.getChef() != null ? order.getChef().getId() : 0,
+                order.getWaiter() != null ? order.getWaiter().getId() : 0,
+                total != null ? total.movePointRight(2).longValue() : 0);
+    }
+}
@@ -0,0 +1,146 @@
+package com.javabite.app.journal;
+
+import com.javabite.app.model.OrderStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Orders per status, per store, as the journal tells it: open orders by their
+ * current status, plus running totals of completions, cancellations and refunds.
+ * The journal keeps one live and snapshots it; replays build fresh ones.
+ * Not thread-safe: the journal only touches its live copy under its own lock.
+ */
+public class OrderStatusProjection implements JournalProjection {
+
+    // counts[storeId][statusCode]; slot 0 (no status) holds refunds
+    private static final int REFUNDS = 0;
+
+    // orderId -> storeId << 8 | statusCode, for orders not yet COMPLETED/CANCELLED
+    private final Map<Long, Long> openOrders = new HashMap<>();
+    private final Map<Long, long[]> counts = new HashMap<>();
+
+    private long lastSequence;
+    private long eventsApplied;
+
+    @Override
+    public void apply(OrderEventView event) {
+        long orderId = event.getOrderId();
+        long storeId = event.getStoreId();
+        long[] storeCounts = counts.computeIfAbsent(storeId, id -> new long[OrderEventView.statusCodes()]);
+
+        if (event.getType() == OrderEventType.REFUNDED) {
+            storeCounts[REFUNDS]++;
+        } else {
+            byte status = event.getStatusCode();
+            Long previous = openOrders.get(orderId);
+            boolean terminal = isTerminal(status);
+
+            // Already closed (or closed before the journal existed): nothing moves
+            if (previous != null || !terminal || event.getType() == OrderEventType.CREATED) {
+                if (previous != null) {
+                    counts.get(previous >>> 8)[(int) (previous & 0xFF)]--;
+                }
+                if (status != 0) {
+                    storeCounts[status]++;
+                }
+                if (terminal) {
+                    openOrders.remove(orderId);
+                } else {
+                    openOrders.put(orderId, storeId << 8 | status);
+                }
+            }
+        }
+
+        lastSequence = event.getSequence();
+        eventsApplied++;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getEventsApplied() {
+        return eventsApplied;
+    }
+
+    public int getOpenOrders() {
+        return openOrders.size();
+    }
+
+    /**
+     * Status -> count for one store (open statuses are current, COMPLETED/CANCELLED/refunds are totals)
+     */
+    public Map<String, Long> describe(long storeId) {
+        long[] storeCounts = counts.getOrDefault(storeId, new long[OrderEventView.statusCodes()]);
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (byte code = 1; code < storeCounts.length; code++) {
+            result.put(OrderEventView.status(code).name(), storeCounts[code]);
+        }
+        result.put("REFUNDED", storeCounts[REFUNDS]);
+        return result;
+    }
+
+    public long count(long storeId, OrderStatus status) {
+        long[] storeCounts = counts.get(storeId);
+        return storeCounts != null ? storeCounts[OrderEventView.statusCode(status)] : 0;
+    }
+
+    // ============================================
+    // SNAPSHOTS
+    // ============================================
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(lastSequence);
+        out.writeLong(eventsApplied);
+        out.writeInt(counts.size());
+        for (Map.Entry<Long, long[]> entry : counts.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            for (long count : entry.getValue()) {
+                out.writeLong(count);
+            }
+        }
+        out.writeInt(openOrders.size());
+        for (Map.Entry<Long, Long> entry : openOrders.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    void readFrom(DataInput in) throws IOException {
+        clear();
+        lastSequence = in.readLong();
+        eventsApplied = in.readLong();
+        int stores = in.readInt();
+        for (int i = 0; i < stores; i++) {
+            long storeId = in.readLong();
+            int stored = in.readInt();
+            long[] storeCounts = new long[Math.max(stored, OrderEventView.statusCodes())];
+            for (int code = 0; code < stored; code++) {
+                storeCounts[code] = in.readLong();
+            }
+            counts.put(storeId, storeCounts);
+        }
+        int open = in.readInt();
+        for (int i = 0; i < open; i++) {
+            openOrders.put(in.readLong(), in.readLong());
+        }
+    }
+
+    void clear() {
+        openOrders.clear();
+        counts.clear();
+        lastSequence = 0;
+        eventsApplied = 0;
+    }
+
+    private static boolean isTerminal(byte status) {
+        OrderStatus orderStatus = OrderEventView.status(status);
+        return orderStatus == OrderStatus.COMPLETED || orderStatus == OrderStatus.CANCELLED;
+    }
+}
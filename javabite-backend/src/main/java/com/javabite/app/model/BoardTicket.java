@@ -0,0 +1,86 @@
+package com.javabite.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.TenantId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model row for the chef and waiter boards: one open order, flattened.
+ * Written by BoardTicketService, never by hand; the order is the source of truth.
+ */
+@Entity
+@Table(name = "board_tickets")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardTicket {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    // Owning store; set and filtered by Hibernate from StoreContext
+    @TenantId
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "chef_id")
+    private Long chefId;
+
+    @Column(name = "chef_name")
+    private String chefName;
+
+    @Column(name = "waiter_id")
+    private Long waiterId;
+
+    @Column(name = "waiter_name")
+    private String waiterName;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "table_number")
+    private Integer tableNumber;
+
+    @Column(name = "items_json", nullable = false, columnDefinition = "TEXT")
+    private String itemsJson;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal tax;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal discount;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "special_instructions", columnDefinition = "TEXT")
+    private String specialInstructions;
+
+    @Column(name = "auto_assigned")
+    private Boolean autoAssigned;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "ready_at")
+    private LocalDateTime readyAt;
+}
@@ -0,0 +1,109 @@
+package com.javabite.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.TenantId;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Sales and operations totals for one store's closed business day (see DailyRollupService)
+ */
+@Entity
+@Table(name = "daily_rollups")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    // ============================================
+    // ORDERS (created that day, by status)
+    // ============================================
+    @Column(name = "orders_total", nullable = false)
+    private int ordersTotal;
+
+    @Column(name = "orders_pending", nullable = false)
+    private int ordersPending;
+
+    @Column(name = "orders_preparing", nullable = false)
+    private int ordersPreparing;
+
+    @Column(name = "orders_ready", nullable = false)
+    private int ordersReady;
+
+    @Column(name = "orders_served", nullable = false)
+    private int ordersServed;
+
+    @Column(name = "orders_completed", nullable = false)
+    private int ordersCompleted;
+
+    @Column(name = "orders_cancelled", nullable = false)
+    private int ordersCancelled;
+
+    // ============================================
+    // SALES (non-cancelled orders)
+    // ============================================
+    @Column(name = "gross_sales", nullable = false, precision = 12, scale = 2)
+    private BigDecimal grossSales;
+
+    @Column(name = "tax_total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal taxTotal;
+
+    @Column(name = "discount_total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal discountTotal;
+
+    @Column(name = "net_sales", nullable = false, precision = 12, scale = 2)
+    private BigDecimal netSales;
+
+    @Column(name = "avg_ticket", nullable = false, precision = 10, scale = 2)
+    private BigDecimal avgTicket;
+
+    // ============================================
+    // BOOKINGS / REFUNDS / KITCHEN
+    // ============================================
+    @Column(name = "bookings_total", nullable = false)
+    private int bookingsTotal;
+
+    @Column(name = "bookings_completed", nullable = false)
+    private int bookingsCompleted;
+
+    @Column(name = "bookings_cancelled", nullable = false)
+    private int bookingsCancelled;
+
+    @Column(name = "bookings_no_show", nullable = false)
+    private int bookingsNoShow;
+
+    @Column(name = "refunds_count", nullable = false)
+    private int refundsCount;
+
+    @Column(name = "refunds_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal refundsAmount;
+
+    @Column(name = "avg_prep_seconds")
+    private Long avgPrepSeconds;
+
+    @Column(name = "closed_at", nullable = false)
+    private LocalDateTime closedAt;
+
+    /**
+     * Orders that count toward sales (everything except cancelled)
+     */
+    public int getTickets() {
+        return ordersTotal - ordersCancelled;
+    }
+}
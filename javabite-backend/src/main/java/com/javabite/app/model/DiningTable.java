@@ -0,0 +1,45 @@
+package com.javabite.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.TenantId;
+
+/**
+ * One table on a store's floor plan
+ */
+@Entity
+@Table(name = "dining_tables")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiningTable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Owning store; set and filtered by Hibernate from StoreContext
+    @TenantId
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
+    @Column(name = "table_number", nullable = false)
+    private Integer tableNumber;
+
+    @Column(nullable = false)
+    private Integer seats;
+
+    // e.g. WINDOW, MAIN, PATIO
+    @Column(nullable = false, length = 50)
+    private String zone;
+
+    // Neighbouring table this one can be pushed together with (null = stands alone)
+    @Column(name = "combinable_with")
+    private Integer combinableWith;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean active = true;
+}
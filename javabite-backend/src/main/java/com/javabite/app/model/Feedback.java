@@ -2,6 +2,7 @@ package com.javabite.app.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDateTime;
 
@@ -17,6 +18,11 @@ public class Feedback {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Owning store; set and filtered by Hibernate from StoreContext
+    @TenantId
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
     @OneToOne
     @JoinColumn(name = "order_id", nullable = false, unique = true)
     private Order order;
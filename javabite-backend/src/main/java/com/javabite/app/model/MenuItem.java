@@ -2,11 +2,17 @@ package com.javabite.app.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.TenantId;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "menu_items")
+// Second-level cached per store and id (hibernate-cache.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-items")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,6 +22,11 @@ public class MenuItem {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Owning store; set and filtered by Hibernate from StoreContext
+    @TenantId
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
     @Column(nullable = false)
     private String name;
 
@@ -0,0 +1,33 @@
+package com.javabite.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that a startup seeder has run, so later boots skip it
+ */
+@Entity
+@Table(name = "seed_markers")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedMarker {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (appliedAt == null) {
+            appliedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.javabite.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One coffee shop. Orders, bookings, menu items, feedback and staff are scoped to a store.
+ */
+@Entity
+@Table(name = "stores")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Store {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Short stable key used in URLs/config, e.g. "main", "downtown"
+    @Column(nullable = false, unique = true, length = 50)
+    private String code;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "total_tables", nullable = false)
+    private Integer totalTables;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean active = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
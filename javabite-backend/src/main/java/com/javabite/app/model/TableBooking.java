@@ -1,13 +1,14 @@
 package com.javabite.app.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.TenantId;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 
 @Entity
 @Table(name = "table_bookings")
@@ -23,6 +24,11 @@ public class TableBooking {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Owning store; set and filtered by Hibernate from StoreContext
+    @TenantId
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
     // ✅ FIX: Map customer_id column
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "customer_id", nullable = false)
@@ -39,15 +45,24 @@ public class TableBooking {
     @Column(name = "booking_date", nullable = false)
     private LocalDate bookingDate;
 
+    // HH:mm, as shown to customers; kept in step with bookingMinute
     @Column(name = "booking_time", nullable = false)
     private String bookingTime;
 
+    // Minutes since midnight (18:30 -> 1110): slot lookups, time ranges and sorting use this
+    @Column(name = "booking_minute", nullable = false)
+    private Integer bookingMinute;
+
     @Column(name = "number_of_guests")
     private Integer numberOfGuests;
 
     @Column(name = "table_number")
     private Integer tableNumber;
 
+    // Second table pushed together with tableNumber for a large party (null = single table)
+    @Column(name = "joined_table_number")
+    private Integer joinedTableNumber;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private BookingStatus status = BookingStatus.CONFIRMED;
@@ -89,6 +104,7 @@ public class TableBooking {
 
     @PrePersist
     protected void onCreate() {
+        syncBookingMinute();
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
         if (status == null) {
@@ -108,6 +124,7 @@ public class TableBooking {
 
     @PreUpdate
     protected void onUpdate() {
+        syncBookingMinute();
         updatedAt = LocalDateTime.now();
     }
 
@@ -136,8 +153,86 @@ public class TableBooking {
     }
 
     public boolean isUpcoming() {
-        LocalDateTime bookingDateTime = LocalDateTime.of(bookingDate, LocalTime.parse(bookingTime));
-        return bookingDateTime.isAfter(LocalDateTime.now()) &&
-                (status == BookingStatus.CONFIRMED || status == BookingStatus.ACTIVE);
+        if (status != BookingStatus.CONFIRMED && status != BookingStatus.ACTIVE) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int compare = bookingDate.compareTo(now.toLocalDate());
+        return compare > 0 || (compare == 0 && bookingMinute > now.getHour() * 60 + now.getMinute());
+    }
+
+    /**
+     * Start of the booking
+     */
+    @JsonIgnore
+    public LocalDateTime getStartsAt() {
+        return bookingDate.atStartOfDay().plusMinutes(bookingMinute);
+    }
+
+    public void setBookingTime(String bookingTime) {
+        this.bookingTime = bookingTime;
+        this.bookingMinute = bookingTime != null ? toMinuteOfDay(bookingTime) : null;
+    }
+
+    // ============================================
+    // MINUTE-OF-DAY ENCODING
+    // ============================================
+
+    /**
+     * "18:30" (also "9:05", "18:30:00") -> 1110
+     */
+    public static int toMinuteOfDay(String time) {
+        int colon = time.indexOf(':');
+        int end = time.indexOf(':', colon + 1);
+        if (end < 0) {
+            end = time.length();
+        }
+        if (colon < 1 || colon > 2 || end - colon != 3) {
+            throw new IllegalArgumentException("Invalid booking time: " + time + " (use HH:mm)");
+        }
+        int hour = digits(time, 0, colon);
+        int minute = digits(time, colon + 1, end);
+        if (hour > 23 || minute > 59) {
+            throw new IllegalArgumentException("Invalid booking time: " + time + " (use HH:mm)");
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * 1110 -> "18:30"
+     */
+    public static String formatMinuteOfDay(int minuteOfDay) {
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        return new String(new char[]{
+                (char) ('0' + hour / 10), (char) ('0' + hour % 10), ':',
+                (char) ('0' + minute / 10), (char) ('0' + minute % 10)});
+    }
+
+    private void syncBookingMinute() {
+        if (bookingTime != null) {
+            bookingMinute = toMinuteOfDay(bookingTime);
+            bookingTime = formatMinuteOfDay(bookingMinute);
+        }
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid booking time: " + text + " (use HH:mm)");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static class TableBookingBuilder {
+        public TableBookingBuilder bookingTime(String bookingTime) {
+            this.bookingTime = bookingTime;
+            this.bookingMinute = bookingTime != null ? toMinuteOfDay(bookingTime) : null;
+            return this;
+        }
     }
-}
\ No newline at end of file
+}
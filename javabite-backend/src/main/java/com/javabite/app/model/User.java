@@ -2,10 +2,15 @@ package com.javabite.app.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+// Second-level cached by id (hibernate-cache.conf); capacity counter changes evict the entry
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @Builder
@@ -32,15 +37,24 @@ public class User {
     @Column(nullable = false)
     private boolean enabled = true;
 
-    @Column(name = "max_active_orders")
+    @Column(name = "max_active_orders", nullable = false)
+    @Builder.Default
     private Integer maxActiveOrders = 10;
 
-    @Column(name = "current_active_orders")
+    // Written only by the atomic UPDATEs in StaffCapacityService, never by entity saves,
+    // so a stale copy of the user can't overwrite a concurrent change
+    @Column(name = "current_active_orders", nullable = false, updatable = false)
+    @Builder.Default
     private Integer currentActiveOrders = 0;
 
     @Column(name = "is_available")
+    @Builder.Default
     private Boolean isAvailable = true;
 
+    // Staff (chef/waiter) work at one store; null for customers and admins
+    @Column(name = "store_id")
+    private Long storeId;
+
     // Invitation fields
     @Column(name = "invitation_token", unique = true)
     private String invitationToken;
@@ -64,6 +78,7 @@ public class User {
     }
 
     // Helper methods
+    // increment/decrement only mirror a claim/release that StaffCapacityService already made in the database
     public void incrementActiveOrders() {
         this.currentActiveOrders++;
     }
@@ -0,0 +1,78 @@
+package com.javabite.app.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate-limits INFO events from application loggers: each log statement (keyed by its
+ * format string) may emit at most maxPerSecond events per second, the rest are dropped
+ * before any message formatting or appender work happens. WARN/ERROR always pass.
+ * Configured in logback-spring.xml (prod profile).
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int MAX_TRACKED_STATEMENTS = 2000;
+
+    private String loggerPrefix = "com.javabite.app";
+    private int maxPerSecond = 20;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks - let the level decide
+        if (!isStarted() || level != Level.INFO || format == null || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= MAX_TRACKED_STATEMENTS) {
+                // Dynamically built messages; don't grow without bound
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(format, f -> new Window());
+        }
+
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private boolean tryAcquire(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
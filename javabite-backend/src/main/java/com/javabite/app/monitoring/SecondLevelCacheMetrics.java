@@ -0,0 +1,73 @@
+package com.javabite.app.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate second-level cache metrics per region (menu-items, users, query results):
+ * javabite.cache.l2.gets{result=hit|miss}, javabite.cache.l2.puts and
+ * javabite.cache.l2.hit.ratio. Needs hibernate.generate_statistics=true.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        Set<String> regions = new LinkedHashSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+        regions.add(QUERY_RESULTS_REGION);
+        for (String region : regions) {
+            counter(registry, statistics, region, "javabite.cache.l2.gets", "hit", CacheRegionStatistics::getHitCount);
+            counter(registry, statistics, region, "javabite.cache.l2.gets", "miss", CacheRegionStatistics::getMissCount);
+            counter(registry, statistics, region, "javabite.cache.l2.puts", null, CacheRegionStatistics::getPutCount);
+
+            Gauge.builder("javabite.cache.l2.hit.ratio", statistics, stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                    .description("Second-level cache hits / lookups since startup")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics, String region, String name,
+                                String result, ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+                    CacheRegionStatistics regionStats = stats.getCacheRegionStatistics(region);
+                    return regionStats != null ? value.applyAsLong(regionStats) : 0;
+                })
+                .tag("region", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics stats) {
+        if (stats == null) {
+            return 0;
+        }
+        long lookups = stats.getHitCount() + stats.getMissCount();
+        return lookups > 0 ? (double) stats.getHitCount() / lookups : 0;
+    }
+}
@@ -0,0 +1,312 @@
+package com.javabite.app.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Lightweight SQL telemetry: per-query-shape latency/row counters and
+ * per-HTTP-request statement counts with N+1 flagging.
+ * Fed by {@link SqlTelemetryDataSource} and {@link SqlTelemetryFilter}.
+ *
+ * Request scopes nest: a request opened inside another (or inside {@link #measure})
+ * adds its counts to the outer one when it ends.
+ */
+@Component
+@Slf4j
+public class SqlTelemetry {
+
+    private static final String OVERFLOW_SHAPE = "<other>";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Value("${app.sql-telemetry.n-plus-one-threshold:25}")
+    private int nPlusOneThreshold;
+
+    @Value("${app.sql-telemetry.max-query-shapes:500}")
+    private int maxQueryShapes;
+
+    @Value("${app.sql-telemetry.flagged-request-history:50}")
+    private int flaggedRequestHistory;
+
+    private final Map<String, QueryShapeStats> shapes = new ConcurrentHashMap<>();
+    private final Map<String, String> normalizedCache = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestStats> currentRequest = new ThreadLocal<>();
+    private final Deque<Map<String, Object>> flaggedRequests = new ConcurrentLinkedDeque<>();
+
+    private final LongAdder requestsObserved = new LongAdder();
+    private final LongAdder requestsFlagged = new LongAdder();
+
+    // ============================================
+    // RECORDING
+    // ============================================
+
+    /**
+     * Record one statement execution
+     */
+    public void recordExecution(String sql, long elapsedNanos, long rowsAffected) {
+        QueryShapeStats stats = statsFor(sql);
+        stats.executions.increment();
+        stats.totalNanos.add(elapsedNanos);
+        stats.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        if (rowsAffected > 0) {
+            stats.rows.add(rowsAffected);
+        }
+
+        RequestStats request = currentRequest.get();
+        if (request != null) {
+            request.statements++;
+            request.sqlNanos += elapsedNanos;
+            request.shapeCounts.merge(stats.shape, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Record rows read from a result set of the given statement
+     */
+    public void recordRowsRead(String sql, long rows) {
+        statsFor(sql).rows.add(rows);
+
+        RequestStats request = currentRequest.get();
+        if (request != null) {
+            request.rowsRead += rows;
+        }
+    }
+
+    // ============================================
+    // PER-REQUEST TRACKING
+    // ============================================
+
+    public void beginRequest(String method, String uri) {
+        currentRequest.set(new RequestStats(method, uri, currentRequest.get()));
+    }
+
+    public void endRequest(int status, long elapsedNanos) {
+        RequestStats request = closeScope();
+        if (request == null) {
+            return;
+        }
+
+        requestsObserved.increment();
+        if (request.statements < nPlusOneThreshold) {
+            return;
+        }
+
+        requestsFlagged.increment();
+
+        Map<String, Object> flagged = new LinkedHashMap<>();
+        flagged.put("at", LocalDateTime.now().toString());
+        flagged.put("method", request.method);
+        flagged.put("uri", request.uri);
+        flagged.put("status", status);
+        flagged.put("statements", request.statements);
+        flagged.put("rowsRead", request.rowsRead);
+        flagged.put("sqlMillis", request.sqlNanos / 1_000_000.0);
+        flagged.put("requestMillis", elapsedNanos / 1_000_000.0);
+        flagged.put("repeatedShapes", topRepeatedShapes(request.shapeCounts));
+
+        flaggedRequests.addFirst(flagged);
+        while (flaggedRequests.size() > flaggedRequestHistory) {
+            flaggedRequests.pollLast();
+        }
+
+        log.warn("⚠️ Possible N+1: {} {} ran {} statements ({} rows read)",
+                request.method, request.uri, request.statements, request.rowsRead);
+    }
+
+    /**
+     * Run work in its own scope and return the SQL it caused, including any request
+     * it dispatches on this thread (e.g. through MockMvc). Not counted as a request.
+     */
+    public Measurement measure(Callable<?> work) throws Exception {
+        RequestStats scope = new RequestStats("MEASURE", null, currentRequest.get());
+        currentRequest.set(scope);
+        long start = System.nanoTime();
+        try {
+            work.call();
+        } finally {
+            closeScope();
+        }
+        return new Measurement(scope.statements, scope.rowsRead, scope.sqlNanos / 1_000_000.0,
+                (System.nanoTime() - start) / 1_000_000.0, Map.copyOf(scope.shapeCounts));
+    }
+
+    /**
+     * Statements executed so far by the current request/thread, or -1 when not tracked
+     */
+    public int currentRequestStatementCount() {
+        RequestStats request = currentRequest.get();
+        return request != null ? request.statements : -1;
+    }
+
+    // ============================================
+    // REPORTING
+    // ============================================
+
+    public Map<String, Object> snapshot(int limit) {
+        List<Map<String, Object>> topShapes = shapes.values().stream()
+                .sorted(Comparator.comparingLong((QueryShapeStats s) -> s.totalNanos.sum()).reversed())
+                .limit(limit)
+                .map(QueryShapeStats::toMap)
+                .toList();
+
+        List<Map<String, Object>> flagged = new ArrayList<>(flaggedRequests);
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("nPlusOneThreshold", nPlusOneThreshold);
+        snapshot.put("queryShapes", shapes.size());
+        snapshot.put("requestsObserved", requestsObserved.sum());
+        snapshot.put("requestsFlagged", requestsFlagged.sum());
+        snapshot.put("topQueries", topShapes);
+        snapshot.put("flaggedRequests", flagged);
+        return snapshot;
+    }
+
+    public void reset() {
+        shapes.clear();
+        normalizedCache.clear();
+        requestsObserved.reset();
+        requestsFlagged.reset();
+        flaggedRequests.clear();
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private QueryShapeStats statsFor(String sql) {
+        String shape = normalize(sql);
+        QueryShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= maxQueryShapes) {
+            return shapes.computeIfAbsent(OVERFLOW_SHAPE, QueryShapeStats::new);
+        }
+        return shapes.computeIfAbsent(shape, QueryShapeStats::new);
+    }
+
+    /**
+     * Reduce a SQL string to its shape: literals and IN-lists collapsed, whitespace squashed
+     */
+    String normalize(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String cached = normalizedCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+
+        if (normalizedCache.size() < maxQueryShapes * 4) {
+            normalizedCache.put(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Close the innermost scope, folding its counts into the enclosing one
+     */
+    private RequestStats closeScope() {
+        RequestStats scope = currentRequest.get();
+        if (scope == null) {
+            return null;
+        }
+        if (scope.parent != null) {
+            scope.parent.statements += scope.statements;
+            scope.parent.rowsRead += scope.rowsRead;
+            scope.parent.sqlNanos += scope.sqlNanos;
+            scope.shapeCounts.forEach((shape, count) -> scope.parent.shapeCounts.merge(shape, count, Integer::sum));
+            currentRequest.set(scope.parent);
+        } else {
+            currentRequest.remove();
+        }
+        return scope;
+    }
+
+    private List<Map<String, Object>> topRepeatedShapes(Map<String, Integer> shapeCounts) {
+        return shapeCounts.entrySet().stream()
+                .filter(e -> e.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(5)
+                .map(e -> {
+                    Map<String, Object> m = new LinkedHashMap<>();
+                    m.put("sql", e.getKey());
+                    m.put("count", e.getValue());
+                    return m;
+                })
+                .toList();
+    }
+
+    /**
+     * What one {@link #measure} scope executed; shapes maps each query shape to its execution count
+     */
+    public record Measurement(int statements, long rowsRead, double sqlMillis, double elapsedMillis,
+                              Map<String, Integer> shapes) {
+    }
+
+    private static final class RequestStats {
+        private final String method;
+        private final String uri;
+        private final RequestStats parent;
+        private final Map<String, Integer> shapeCounts = new HashMap<>();
+        private int statements;
+        private long rowsRead;
+        private long sqlNanos;
+
+        private RequestStats(String method, String uri, RequestStats parent) {
+            this.method = method;
+            this.uri = uri;
+            this.parent = parent;
+        }
+    }
+
+    private static final class QueryShapeStats {
+        private final String shape;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder rows = new LongAdder();
+
+        private QueryShapeStats(String shape) {
+            this.shape = shape;
+        }
+
+        private Map<String, Object> toMap() {
+            long count = executions.sum();
+            long total = totalNanos.sum();
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("sql", shape);
+            m.put("executions", count);
+            m.put("totalMillis", total / 1_000_000.0);
+            m.put("avgMillis", count > 0 ? total / 1_000_000.0 / count : 0.0);
+            m.put("maxMillis", maxNanos.get() / 1_000_000.0);
+            m.put("rows", rows.sum());
+            return m;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.javabite.app.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource wrapper that times every statement execution and counts rows read,
+ * reporting to {@link SqlTelemetry}. Uses plain JDK proxies, no agent or driver change.
+ */
+public class SqlTelemetryDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final SqlTelemetry telemetry;
+
+    public SqlTelemetryDataSource(DataSource target, SqlTelemetry telemetry) {
+        super(target);
+        this.telemetry = telemetry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Close the wrapped pool on shutdown (Spring infers close() as the destroy method)
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement cs) {
+                return wrapStatement(CallableStatement.class, cs, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement ps) {
+                return wrapStatement(PreparedStatement.class, ps, (String) args[0]);
+            }
+            if (result instanceof Statement st) {
+                return wrapStatement(Statement.class, st, null);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T wrapStatement(Class<T> type, T statement, String preparedSql) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                Object result = invoke(statement, method, args);
+                if (result instanceof ResultSet rs && method.getName().equals("getResultSet")) {
+                    return wrapResultSet(rs, preparedSql);
+                }
+                return result;
+            }
+
+            String sql = preparedSql != null ? preparedSql
+                    : (args != null && args.length > 0 && args[0] instanceof String s ? s : null);
+
+            long start = System.nanoTime();
+            Object result = invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            telemetry.recordExecution(sql, elapsed, affectedRows(result));
+
+            if (result instanceof ResultSet rs) {
+                return wrapResultSet(rs, sql);
+            }
+            return result;
+        });
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet, String sql) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                telemetry.recordRowsRead(sql, 1);
+            }
+            return result;
+        });
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer i) {
+            return i;
+        }
+        if (result instanceof Long l) {
+            return l;
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int c : counts) {
+                sum += Math.max(c, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(
+                SqlTelemetryDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    // Keep unwrap/isWrapperFor pointing at the real driver object
+                    if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                        return invoke(target, method, args);
+                    }
+                    return handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
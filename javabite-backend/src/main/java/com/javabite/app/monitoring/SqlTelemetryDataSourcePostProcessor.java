@@ -0,0 +1,32 @@
+package com.javabite.app.monitoring;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every DataSource bean in a {@link SqlTelemetryDataSource}.
+ * Disable with app.sql-telemetry.enabled=false.
+ */
+@Component
+@ConditionalOnProperty(name = "app.sql-telemetry.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTelemetryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlTelemetry> telemetry;
+
+    public SqlTelemetryDataSourcePostProcessor(ObjectProvider<SqlTelemetry> telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlTelemetryDataSource)) {
+            return new SqlTelemetryDataSource(dataSource, telemetry.getObject());
+        }
+        return bean;
+    }
+}
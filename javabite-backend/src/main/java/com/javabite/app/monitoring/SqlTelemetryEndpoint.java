@@ -0,0 +1,32 @@
+package com.javabite.app.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET  /actuator/sqltelemetry?limit=20 - slowest query shapes and flagged N+1 requests
+ * DELETE /actuator/sqltelemetry        - reset counters
+ */
+@Component
+@Endpoint(id = "sqltelemetry")
+@RequiredArgsConstructor
+public class SqlTelemetryEndpoint {
+
+    private final SqlTelemetry telemetry;
+
+    @ReadOperation
+    public Map<String, Object> report(@Nullable Integer limit) {
+        return telemetry.snapshot(limit != null ? limit : 20);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        telemetry.reset();
+    }
+}
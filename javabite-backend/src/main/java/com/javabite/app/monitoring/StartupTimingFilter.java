@@ -0,0 +1,66 @@
+package com.javabite.app.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs time from JVM start to application ready and to the first completed request,
+ * the number that matters for rolling restarts (see the fast-startup profile).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class StartupTimingFilter extends OncePerRequestFilter {
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    private volatile long readyMillis = -1;
+    private volatile long firstRequestMillis = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = System.currentTimeMillis() - jvmStartMillis;
+        log.info("⏱️ Application ready {} ms after JVM start", readyMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (firstRequestSeen.get()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (firstRequestSeen.compareAndSet(false, true)) {
+                firstRequestMillis = System.currentTimeMillis() - jvmStartMillis;
+                log.info("⏱️ Time to first request: {} ms after JVM start ({} {} -> {})",
+                        firstRequestMillis, request.getMethod(), request.getRequestURI(), response.getStatus());
+            }
+        }
+    }
+
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    public long getFirstRequestMillis() {
+        return firstRequestMillis;
+    }
+}
@@ -33,7 +33,7 @@ public class BookingResponse {
                 .customerId(booking.getCustomer().getId())
                 .customerName(booking.getCustomer().getName())
                 .bookingDate(booking.getBookingDate())
-                .bookingTime(LocalTime.parse(booking.getBookingTime()))
+                .bookingTime(LocalTime.of(booking.getBookingMinute() / 60, booking.getBookingMinute() % 60))
                 .numberOfGuests(booking.getNumberOfGuests())
                 .tableNumber(booking.getTableNumber())
                 .status(booking.getStatus())
@@ -0,0 +1,35 @@
+package com.javabite.app.payload;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Several carts for one table booking, placed together (one order per cart)
+ */
+@Data
+public class CreateBatchOrderRequest {
+
+    @NotNull(message = "Table booking ID is required")
+    private Long tableBookingId;
+
+    @NotEmpty(message = "Batch must contain at least one order")
+    @Size(max = 20, message = "A batch can contain at most 20 orders")
+    @Valid
+    private List<Cart> orders;
+
+    @Data
+    public static class Cart {
+        @NotEmpty(message = "Order must contain at least one item")
+        @Valid
+        private List<CreateOrderRequest.OrderItemRequest> items;
+
+        private String specialInstructions;
+
+        private String paymentMethod; // "CASH" or "CARD"
+    }
+}
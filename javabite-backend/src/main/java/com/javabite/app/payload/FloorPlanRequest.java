@@ -0,0 +1,40 @@
+package com.javabite.app.payload;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A store's whole floor plan; replaces the existing one
+ */
+@Data
+public class FloorPlanRequest {
+
+    @NotEmpty(message = "A floor plan needs at least one table")
+    @Size(max = 500, message = "A floor plan can have at most 500 tables")
+    @Valid
+    private List<Table> tables;
+
+    @Data
+    public static class Table {
+        @NotNull(message = "Table number is required")
+        @Min(value = 1, message = "Table numbers start at 1")
+        private Integer tableNumber;
+
+        @NotNull(message = "Seats are required")
+        @Min(value = 1, message = "A table needs at least one seat")
+        @Max(value = 20, message = "A table can have at most 20 seats")
+        private Integer seats;
+
+        @NotBlank(message = "Zone is required")
+        @Size(max = 50, message = "Zone must be at most 50 characters")
+        private String zone;
+
+        // Neighbouring table number this one can be pushed together with
+        private Integer combinableWith;
+
+        private Boolean active;
+    }
+}
@@ -0,0 +1,24 @@
+package com.javabite.app.payload;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class StoreRequest {
+
+    // Required on create, ignored on update
+    @Pattern(regexp = "[a-z0-9-]{2,50}", message = "Code must be 2-50 lowercase letters, digits or dashes")
+    private String code;
+
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    private String name;
+
+    @Min(value = 1, message = "A store needs at least one table")
+    @Max(value = 500, message = "Total tables cannot exceed 500")
+    private Integer totalTables;
+
+    private Boolean active;
+}
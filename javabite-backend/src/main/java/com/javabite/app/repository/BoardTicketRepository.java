@@ -0,0 +1,27 @@
+package com.javabite.app.repository;
+
+import com.javabite.app.model.BoardTicket;
+import com.javabite.app.model.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Board reads: each is one range scan on idx_board_tickets_chef / idx_board_tickets_waiter
+ */
+@Repository
+public interface BoardTicketRepository extends JpaRepository<BoardTicket, Long> {
+
+    List<BoardTicket> findByChefIdAndStatusOrderByCreatedAtAsc(Long chefId, OrderStatus status);
+
+    List<BoardTicket> findByWaiterIdAndStatusInOrderByCreatedAtAsc(Long waiterId, Collection<OrderStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BoardTicket t WHERE t.storeId = :storeId")
+    int deleteByStore(@Param("storeId") Long storeId);
+}
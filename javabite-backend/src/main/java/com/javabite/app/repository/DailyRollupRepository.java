@@ -0,0 +1,28 @@
+package com.javabite.app.repository;
+
+import com.javabite.app.model.DailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+
+    List<DailyRollup> findByBusinessDateBetweenOrderByBusinessDateAsc(LocalDate from, LocalDate to);
+
+    Optional<DailyRollup> findByBusinessDate(LocalDate businessDate);
+
+    Optional<DailyRollup> findTopByOrderByBusinessDateDesc();
+
+    long countByBusinessDateBetween(LocalDate from, LocalDate to);
+
+    // Sales over closed days before a date: [net sales, tickets]
+    @Query("SELECT COALESCE(SUM(r.netSales), 0), COALESCE(SUM(r.ordersTotal - r.ordersCancelled), 0) " +
+            "FROM DailyRollup r WHERE r.businessDate < :before")
+    List<Object[]> sumSalesAndTicketsBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,21 @@
+package com.javabite.app.repository;
+
+import com.javabite.app.model.DiningTable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DiningTableRepository extends JpaRepository<DiningTable, Long> {
+
+    List<DiningTable> findAllByOrderByTableNumberAsc();
+
+    // Runs right away (not queued behind inserts), so a plan can be replaced in one transaction
+    @Modifying
+    @Query("DELETE FROM DiningTable t WHERE t.storeId = :storeId")
+    int deleteByStore(@Param("storeId") Long storeId);
+}
@@ -4,8 +4,10 @@ package com.javabite.app.repository;
 import com.javabite.app.model.Feedback;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,4 +51,4 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
 
     // Count recommendations
     Long countByWouldRecommend(Boolean wouldRecommend);
-}
\ No newline at end of file
+}
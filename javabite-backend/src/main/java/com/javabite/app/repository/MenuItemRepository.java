@@ -2,13 +2,22 @@ package com.javabite.app.repository;
 
 import com.javabite.app.model.Category;
 import com.javabite.app.model.MenuItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
+// Finder results go to the query cache; any write to menu_items invalidates them
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByCategory(Category category);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByAvailableTrue();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByCategoryAndAvailableTrue(Category category);
 }
@@ -4,10 +4,15 @@ import com.javabite.app.model.Order;
 import com.javabite.app.model.OrderStatus;
 import com.javabite.app.model.TableBooking;
 import com.javabite.app.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,13 +21,53 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // Customer methods
     List<Order> findByCustomerOrderByCreatedAtDesc(User customer);
     List<Order> findAllByOrderByCreatedAtDesc();
+    Page<Order> findByCustomer_IdOrderByCreatedAtDesc(Long customerId, Pageable pageable);
+
+    // Customer summary counters in one aggregate query
+    @Query("SELECT COUNT(o) AS total, " +
+            "COALESCE(SUM(CASE WHEN o.status IN ('PENDING', 'PREPARING', 'READY', 'SERVED') THEN 1 ELSE 0 END), 0) AS active, " +
+            "COALESCE(SUM(CASE WHEN o.status = 'COMPLETED' THEN 1 ELSE 0 END), 0) AS completed, " +
+            "COALESCE(SUM(CASE WHEN o.status = 'CANCELLED' THEN 1 ELSE 0 END), 0) AS cancelled " +
+            "FROM Order o WHERE o.customer.id = :customerId")
+    CustomerOrderSummary summarizeForCustomer(@Param("customerId") Long customerId);
+
+    interface CustomerOrderSummary {
+        long getTotal();
+        long getActive();
+        long getCompleted();
+        long getCancelled();
+    }
 
     // Admin methods
     List<Order> findByStatusAndChefIsNull(OrderStatus status);
 
+    // Auto-assignment: unassigned orders waiting since before the cutoff, oldest first
+    List<Order> findByStatusAndChefIsNullAndCreatedAtBeforeOrderByCreatedAtAsc(OrderStatus status, LocalDateTime before);
+
+    List<Order> findByStatusIn(Collection<OrderStatus> statuses);
+
     // Table booking methods
     List<Order> findByTableBooking(TableBooking tableBooking);
 
+    // Does the waiter still have another active, non-queued order at this table? (waiter slots are per table)
+    @Query("SELECT COUNT(o) > 0 FROM Order o WHERE o.tableBooking = :booking AND o.waiter = :waiter " +
+            "AND o.id <> :excludeOrderId AND o.status IN :statuses " +
+            "AND NOT EXISTS (SELECT q.id FROM WaiterQueue q WHERE q.order = o)")
+    boolean hasOtherActiveWaiterOrders(@Param("booking") TableBooking booking,
+                                       @Param("waiter") User waiter,
+                                       @Param("excludeOrderId") Long excludeOrderId,
+                                       @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Open work per (chef, waiter, table, status) for capacity reconciliation.
+     * Row: chefId, waiterId, tableBookingId, status, orders, orders still in the waiter queue
+     */
+    @Query("SELECT o.chef.id, o.waiter.id, o.tableBooking.id, o.status, COUNT(o.id), COUNT(q.id) " +
+            "FROM Order o LEFT JOIN WaiterQueue q ON q.order = o " +
+            "WHERE o.status IN :statuses AND (o.chef IS NOT NULL OR o.waiter IS NOT NULL) " +
+            "GROUP BY o.chef.id, o.waiter.id, o.tableBooking.id, o.status")
+    List<Object[]> summarizeOpenAssignments(@Param("statuses") Collection<OrderStatus> statuses);
+
     // Chef methods
     List<Order> findByChefAndStatus(User chef, OrderStatus status);
     List<Order> findByChefAndStatusAndCompletedAtBetween(
@@ -35,4 +80,27 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // Count methods for dashboard
     Long countByStatus(OrderStatus status);
     Long countByStatusAndCompletedAtAfter(OrderStatus status, LocalDateTime after);
-}
\ No newline at end of file
+
+    // Status counts for the live dashboard: [status, count]
+    @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
+    List<Object[]> countGroupedByStatus();
+
+    // Daily rollup: orders created in [start, end) by status: [status, count, subtotal, tax, discount]
+    @Query("SELECT o.status, COUNT(o), COALESCE(SUM(o.subtotal), 0), COALESCE(SUM(o.tax), 0), " +
+            "COALESCE(SUM(o.discount), 0) FROM Order o " +
+            "WHERE o.createdAt >= :start AND o.createdAt < :end GROUP BY o.status")
+    List<Object[]> summarizeCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Daily rollup: [preparationStartedAt, readyAt] for orders that became ready in [start, end)
+    @Query("SELECT o.preparationStartedAt, o.readyAt FROM Order o " +
+            "WHERE o.readyAt >= :start AND o.readyAt < :end AND o.preparationStartedAt IS NOT NULL")
+    List<Object[]> findPrepTimesReadyBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT MIN(o.createdAt) FROM Order o")
+    LocalDateTime findFirstCreatedAt();
+
+    // Live sales of orders created before a time, cancelled ones left out: [subtotal, tax, discount, tickets]
+    @Query("SELECT COALESCE(SUM(o.subtotal), 0), COALESCE(SUM(o.tax), 0), COALESCE(SUM(o.discount), 0), COUNT(o) " +
+            "FROM Order o WHERE o.createdAt < :before AND o.status <> 'CANCELLED'")
+    List<Object[]> sumSalesAndTicketsBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,18 @@
+package com.javabite.app.repository;
+
+import com.javabite.app.model.Store;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoreRepository extends JpaRepository<Store, Long> {
+
+    List<Store> findByActiveTrueOrderByIdAsc();
+
+    Optional<Store> findByCode(String code);
+
+    boolean existsByCode(String code);
+}
@@ -2,12 +2,15 @@ package com.javabite.app.repository;
 
 import com.javabite.app.model.BookingStatus;
 import com.javabite.app.model.TableBooking;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -20,7 +23,47 @@ public interface TableBookingRepository extends JpaRepository<TableBooking, Long
     /**
      * Find bookings by customer ID, ordered by date/time descending
      */
-    List<TableBooking> findByCustomer_IdOrderByBookingDateDescBookingTimeDesc(Long customerId);
+    List<TableBooking> findByCustomer_IdOrderByBookingDateDescBookingMinuteDesc(Long customerId);
+
+    /**
+     * One page of a customer's bookings, newest first
+     */
+    Page<TableBooking> findByCustomer_IdOrderByBookingDateDescBookingMinuteDesc(Long customerId, Pageable pageable);
+
+    /**
+     * Confirmed/active bookings from today on (caller still drops today's past slots)
+     */
+    @Query("SELECT b FROM TableBooking b WHERE b.customer.id = :customerId " +
+            "AND b.status IN ('CONFIRMED', 'ACTIVE') AND b.bookingDate >= :today " +
+            "ORDER BY b.bookingDate DESC, b.bookingMinute DESC")
+    List<TableBooking> findOpenBookingsFrom(
+            @Param("customerId") Long customerId,
+            @Param("today") LocalDate today
+    );
+
+    /**
+     * Customer summary counters in one aggregate query
+     */
+    @Query("SELECT COUNT(b) AS total, " +
+            "COALESCE(SUM(CASE WHEN b.status IN ('CONFIRMED', 'ACTIVE') AND (b.bookingDate > :today " +
+            "OR (b.bookingDate = :today AND b.bookingMinute > :nowMinute)) THEN 1 ELSE 0 END), 0) AS upcoming, " +
+            "COALESCE(SUM(CASE WHEN b.status = 'COMPLETED' THEN 1 ELSE 0 END), 0) AS completed, " +
+            "COALESCE(SUM(CASE WHEN b.status = 'CANCELLED' THEN 1 ELSE 0 END), 0) AS cancelled, " +
+            "COALESCE(SUM(CASE WHEN b.refundStatus = 'COMPLETED' THEN 1 ELSE 0 END), 0) AS refunded " +
+            "FROM TableBooking b WHERE b.customer.id = :customerId")
+    CustomerBookingSummary summarizeForCustomer(
+            @Param("customerId") Long customerId,
+            @Param("today") LocalDate today,
+            @Param("nowMinute") int nowMinute
+    );
+
+    interface CustomerBookingSummary {
+        long getTotal();
+        long getUpcoming();
+        long getCompleted();
+        long getCancelled();
+        long getRefunded();
+    }
 
     // ============================================
     // DATE & STATUS QUERIES
@@ -41,6 +84,11 @@ public interface TableBookingRepository extends JpaRepository<TableBooking, Long
      */
     Long countByStatus(BookingStatus status);
 
+    /**
+     * Count bookings on a date
+     */
+    Long countByBookingDate(LocalDate date);
+
     // ============================================
     // AVAILABILITY QUERIES
     // ============================================
@@ -48,11 +96,34 @@ public interface TableBookingRepository extends JpaRepository<TableBooking, Long
     /**
      * Count bookings for a specific date and time slot (ACTIVE or CONFIRMED)
      */
-    @Query("SELECT COUNT(b) FROM TableBooking b WHERE b.bookingDate = :date AND b.bookingTime = :time " +
+    @Query("SELECT COUNT(b) FROM TableBooking b WHERE b.bookingDate = :date AND b.bookingMinute = :minute " +
             "AND (b.status = 'CONFIRMED' OR b.status = 'ACTIVE')")
     Long countBookingsForSlot(
             @Param("date") LocalDate date,
-            @Param("time") String time
+            @Param("minute") int minute
+    );
+
+    /**
+     * Tables held in a slot (CONFIRMED or ACTIVE): [tableNumber, joinedTableNumber]
+     */
+    @Query("SELECT b.tableNumber, b.joinedTableNumber FROM TableBooking b " +
+            "WHERE b.bookingDate = :date AND b.bookingMinute = :minute " +
+            "AND (b.status = 'CONFIRMED' OR b.status = 'ACTIVE')")
+    List<Object[]> findHeldTablesForSlot(
+            @Param("date") LocalDate date,
+            @Param("minute") int minute
+    );
+
+    /**
+     * Bookings on a date starting in [fromMinute, toMinute), e.g. 18:00-20:00 = [1080, 1200)
+     */
+    @Query("SELECT b FROM TableBooking b WHERE b.bookingDate = :date " +
+            "AND b.bookingMinute >= :fromMinute AND b.bookingMinute < :toMinute " +
+            "ORDER BY b.bookingMinute, b.tableNumber")
+    List<TableBooking> findByDateAndMinuteRange(
+            @Param("date") LocalDate date,
+            @Param("fromMinute") int fromMinute,
+            @Param("toMinute") int toMinute
     );
 
     /**
@@ -86,4 +157,27 @@ public interface TableBookingRepository extends JpaRepository<TableBooking, Long
             "AND b.refundStatus IN ('PENDING', 'COMPLETED') " +
             "ORDER BY b.cancelledAt DESC")
     List<TableBooking> findCancelledBookingsWithRefunds();
-}
\ No newline at end of file
+
+    // ============================================
+    // DAILY ROLLUP QUERIES
+    // ============================================
+
+    /**
+     * Bookings on a date by status: [status, count]
+     */
+    @Query("SELECT b.status, COUNT(b) FROM TableBooking b WHERE b.bookingDate = :date GROUP BY b.status")
+    List<Object[]> countByStatusForDate(@Param("date") LocalDate date);
+
+    /**
+     * Refunds completed in [start, end): [count, amount]
+     */
+    @Query("SELECT COUNT(b), COALESCE(SUM(b.refundAmount), 0) FROM TableBooking b " +
+            "WHERE b.refundStatus = 'COMPLETED' AND b.refundedAt >= :start AND b.refundedAt < :end")
+    List<Object[]> sumRefundsCompletedBetween(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @Query("SELECT MIN(b.bookingDate) FROM TableBooking b")
+    LocalDate findFirstBookingDate();
+}
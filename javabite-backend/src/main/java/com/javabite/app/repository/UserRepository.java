@@ -2,9 +2,16 @@ package com.javabite.app.repository;
 
 import com.javabite.app.model.Role;
 import com.javabite.app.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +24,60 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByInvitationToken(String invitationToken);
 
+    // Invited staff who have not accepted yet, newest invitation first
+    List<User> findByInvitationTokenIsNotNullAndInvitationAcceptedAtIsNullOrderByInvitationSentAtDesc();
+
     List<User> findByRoleAndEnabled(Role role, boolean enabled);
 
     Long countByRoleAndEnabled(Role role, boolean enabled);
-}
\ No newline at end of file
+
+    // Staff of one store
+    List<User> findByRoleAndStoreId(Role role, Long storeId);
+
+    List<User> findByRoleAndEnabledAndStoreId(Role role, boolean enabled, Long storeId);
+
+    Long countByRoleAndEnabledAndStoreId(Role role, boolean enabled, Long storeId);
+
+    // ==================== CAPACITY (see StaffCapacityService) ====================
+    // Native UPDATEs synchronized on their own query space: a JPQL bulk UPDATE would make
+    // Hibernate drop the whole User second-level cache region on every claim and release.
+    // StaffCapacityService evicts just the affected users instead.
+
+    String CAPACITY_SPACE = "staff_capacity";
+
+    // Single conditional UPDATE: 1 if a slot was free and is now taken, 0 otherwise
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CAPACITY_SPACE))
+    @Query(value = "UPDATE users SET current_active_orders = current_active_orders + 1 " +
+            "WHERE id = :id AND enabled = TRUE AND is_available = TRUE " +
+            "AND current_active_orders < max_active_orders", nativeQuery = true)
+    int claimOrderSlot(@Param("id") Long id);
+
+    // Admin override: take a slot even when already at capacity
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CAPACITY_SPACE))
+    @Query(value = "UPDATE users SET current_active_orders = current_active_orders + 1 WHERE id = :id",
+            nativeQuery = true)
+    int forceClaimOrderSlot(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CAPACITY_SPACE))
+    @Query(value = "UPDATE users SET current_active_orders = current_active_orders - 1 " +
+            "WHERE id = :id AND current_active_orders > 0", nativeQuery = true)
+    int releaseOrderSlot(@Param("id") Long id);
+
+    // Reconciliation: staff counters as stored (scalar rows, never stale managed entities)
+    @Query("SELECT u.id, u.role, u.name, u.currentActiveOrders FROM User u " +
+            "WHERE u.role IN :roles AND u.storeId = :storeId")
+    List<Object[]> findActiveOrderCounters(@Param("roles") Collection<Role> roles,
+                                           @Param("storeId") Long storeId);
+
+    // Reconciliation: set the counter for many users at once, only where it still holds the value that was read
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CAPACITY_SPACE))
+    @Query(value = "UPDATE users SET current_active_orders = :expected " +
+            "WHERE id IN (:ids) AND current_active_orders = :observed", nativeQuery = true)
+    int correctActiveOrders(@Param("ids") Collection<Long> ids,
+                            @Param("observed") int observed,
+                            @Param("expected") int expected);
+}
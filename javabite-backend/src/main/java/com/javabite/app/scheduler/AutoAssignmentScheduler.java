@@ -1,5 +1,7 @@
 package com.javabite.app.scheduler;
 
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.journal.OrderEventType;
 import com.javabite.app.model.Order;
 import com.javabite.app.model.OrderStatus;
 import com.javabite.app.model.Role;
@@ -7,16 +9,21 @@ import com.javabite.app.model.User;
 import com.javabite.app.repository.OrderRepository;
 import com.javabite.app.repository.UserRepository;
 import com.javabite.app.service.OrderService;
+import com.javabite.app.service.StaffCapacityService;
+import com.javabite.app.service.StoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -24,6 +31,9 @@ public class AutoAssignmentScheduler {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final OrderService orderService;
+    private final StaffCapacityService staffCapacityService;
+    private final StoreService storeService;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * ✅✅✅ FIXED: Auto-assign orders that have been pending for more than 2 minutes
@@ -31,8 +41,17 @@ public class AutoAssignmentScheduler {
      * NOW ASSIGNS BOTH CHEF AND WAITER
      */
     @Scheduled(fixedRate = 60000) // Run every 1 minute
-    @Transactional
     public void autoAssignPendingOrders() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        storeService.forEachActiveStore("Auto-assignment",
+                store -> tx.executeWithoutResult(status -> autoAssignPendingOrdersForStore()));
+    }
+
+    /**
+     * Auto-assignment for the current store: only that store's orders and staff
+     */
+    private void autoAssignPendingOrdersForStore() {
+        Long storeId = StoreContext.getCurrentStoreId();
         try {
             // ✅ FIX: Changed from 5 minutes to 2 minutes
             LocalDateTime twoMinutesAgo = LocalDateTime.now().minusMinutes(2);
@@ -52,13 +71,13 @@ public class AutoAssignmentScheduler {
                     unassignedOrders.size());
 
             // ✅ Get available chefs (enabled + can accept orders)
-            List<User> availableChefs = userRepository.findByRoleAndEnabled(Role.CHEF, true)
+            List<User> availableChefs = userRepository.findByRoleAndEnabledAndStoreId(Role.CHEF, true, storeId)
                     .stream()
                     .filter(User::canAcceptOrder)
                     .collect(Collectors.toList());
 
             // ✅ Get available waiters
-            List<User> availableWaiters = userRepository.findByRoleAndEnabled(Role.WAITER, true)
+            List<User> availableWaiters = userRepository.findByRoleAndEnabledAndStoreId(Role.WAITER, true, storeId)
                     .stream()
                     .filter(User::canAcceptOrder)
                     .collect(Collectors.toList());
@@ -68,14 +87,14 @@ public class AutoAssignmentScheduler {
 
                 // Add to queue instead
                 for (Order order : unassignedOrders) {
-                    User anyChef = userRepository.findByRoleAndEnabled(Role.CHEF, true)
+                    User anyChef = userRepository.findByRoleAndEnabledAndStoreId(Role.CHEF, true, storeId)
                             .stream()
                             .findFirst()
                             .orElse(null);
 
                     if (anyChef != null && !orderService.isOrderInChefQueue(order.getId())) {
                         orderService.addToChefQueue(order, anyChef);
-                        log.info("⏳ Added Order #{} to Chef queue (auto-assignment)", order.getId());
+                        log.info("⏳ Added Order {} to Chef queue (auto-assignment)", kv("orderId", order.getId()));
                     }
                 }
                 return;
@@ -87,26 +106,20 @@ public class AutoAssignmentScheduler {
             int waiterIndex = 0;
 
             for (Order order : unassignedOrders) {
-                if (availableChefs.isEmpty()) {
+                boolean waiterAssigned = false;
+
+                // ✅ Claim a slot from the next chef; drop chefs that filled up since the list was loaded
+                User chef = claimNext(availableChefs, chefIndex);
+                if (chef == null) {
                     log.warn("⚠️ No more available chefs");
                     break;
                 }
 
-                boolean chefAssigned = false;
-                boolean waiterAssigned = false;
-
-                // ✅ Assign chef to order
-                User chef = availableChefs.get(chefIndex % availableChefs.size());
-
                 order.setChef(chef);
                 order.setChefAssignedAt(LocalDateTime.now());
                 order.setAutoAssigned(true); // ✅ Mark as auto-assigned
 
-                chef.incrementActiveOrders();
-                userRepository.save(chef);
-                chefAssigned = true;
-
-                log.info("🤖 Auto-assigned Chef {} to Order #{}", chef.getName(), order.getId());
+                log.info("🤖 Auto-assigned Chef {} to Order {}", chef.getName(), kv("orderId", order.getId()));
 
                 // Move to next chef
                 chefIndex++;
@@ -118,18 +131,14 @@ public class AutoAssignmentScheduler {
                 }
 
                 // ✅✅✅ CRITICAL FIX: Auto-assign waiter if available
-                if (!availableWaiters.isEmpty()) {
-                    User waiter = availableWaiters.get(waiterIndex % availableWaiters.size());
-
+                User waiter = claimNext(availableWaiters, waiterIndex);
+                if (waiter != null) {
                     order.setWaiter(waiter);
                     order.setWaiterAssignedAt(LocalDateTime.now());
                     // autoAssigned already set to true above
-
-                    waiter.incrementActiveOrders();
-                    userRepository.save(waiter);
                     waiterAssigned = true;
 
-                    log.info("🤖 Auto-assigned Waiter {} to Order #{}", waiter.getName(), order.getId());
+                    log.info("🤖 Auto-assigned Waiter {} to Order {}", waiter.getName(), kv("orderId", order.getId()));
 
                     // Move to next waiter
                     waiterIndex++;
@@ -140,15 +149,19 @@ public class AutoAssignmentScheduler {
                         }
                     }
                 } else {
-                    log.warn("⚠️ No available waiters for Order #{}", order.getId());
+                    log.warn("⚠️ No available waiters for Order {}", kv("orderId", order.getId()));
                 }
 
                 // Save order with both assignments
                 orderRepository.save(order);
+                orderService.recordTransition(order, OrderEventType.CHEF_ASSIGNED);
+                if (waiterAssigned) {
+                    orderService.recordTransition(order, OrderEventType.WAITER_ASSIGNED);
+                }
                 assignedCount++;
 
-                log.info("✅ Auto-assigned Order #{} → Chef: {}{}, autoAssigned: {}",
-                        order.getId(),
+                log.info("✅ Auto-assigned Order {} → Chef: {}{}, autoAssigned: {}",
+                        kv("orderId", order.getId()),
                         chef.getName(),
                         waiterAssigned ? ", Waiter: " + order.getWaiter().getName() : " (NO WAITER AVAILABLE)",
                         order.getAutoAssigned());
@@ -160,7 +173,6 @@ public class AutoAssignmentScheduler {
 
         } catch (Exception e) {
             log.error("❌ Auto-assignment failed", e);
-            e.printStackTrace();
         }
     }
 
@@ -169,11 +181,17 @@ public class AutoAssignmentScheduler {
      * Runs every 2 minutes
      */
     @Scheduled(fixedRate = 120000) // Run every 2 minutes
-    @Transactional
     public void processQueuedOrders() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        storeService.forEachActiveStore("Queue processing",
+                store -> tx.executeWithoutResult(status -> processQueuedOrdersForStore()));
+    }
+
+    private void processQueuedOrdersForStore() {
+        Long storeId = StoreContext.getCurrentStoreId();
         try {
             // Get all available chefs
-            List<User> availableChefs = userRepository.findByRoleAndEnabled(Role.CHEF, true)
+            List<User> availableChefs = userRepository.findByRoleAndEnabledAndStoreId(Role.CHEF, true, storeId)
                     .stream()
                     .filter(User::canAcceptOrder)
                     .collect(Collectors.toList());
@@ -188,7 +206,7 @@ public class AutoAssignmentScheduler {
             }
 
             // Get all available waiters
-            List<User> availableWaiters = userRepository.findByRoleAndEnabled(Role.WAITER, true)
+            List<User> availableWaiters = userRepository.findByRoleAndEnabledAndStoreId(Role.WAITER, true, storeId)
                     .stream()
                     .filter(User::canAcceptOrder)
                     .collect(Collectors.toList());
@@ -207,4 +225,19 @@ public class AutoAssignmentScheduler {
             log.error("❌ Queue processing failed", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Round-robin from index: first staff member whose slot claim succeeds.
+     * Staff already at capacity are removed from the list.
+     */
+    private User claimNext(List<User> available, int index) {
+        while (!available.isEmpty()) {
+            User candidate = available.get(index % available.size());
+            if (staffCapacityService.tryClaim(candidate)) {
+                return candidate;
+            }
+            available.remove(candidate);
+        }
+        return null;
+    }
+}
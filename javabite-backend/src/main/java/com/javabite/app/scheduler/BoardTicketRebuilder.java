@@ -0,0 +1,31 @@
+package com.javabite.app.scheduler;
+
+import com.javabite.app.service.BoardTicketService;
+import com.javabite.app.service.StoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardTicketRebuilder {
+    private final BoardTicketService boardTicketService;
+    private final StoreService storeService;
+
+    /**
+     * Refill the chef/waiter board read model from open orders, store by store:
+     * on startup (covers orders from before the table existed) and nightly
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.boards.rebuild-cron:0 30 4 * * *}")
+    public void rebuildBoards() {
+        storeService.forEachActiveStore("Board rebuild", store -> {
+            int tickets = boardTicketService.rebuild();
+            log.info("📋 Store {}: {} board ticket(s) rebuilt", store.getCode(), tickets);
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.javabite.app.scheduler;
+
+import com.javabite.app.service.CapacityReconciliationService;
+import com.javabite.app.service.StoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CapacityReconciliationScheduler {
+    private final CapacityReconciliationService reconciliationService;
+    private final StoreService storeService;
+
+    /**
+     * Correct drifted chef/waiter capacity counters, store by store
+     */
+    @Scheduled(fixedDelayString = "${app.capacity.reconcile-delay-ms:300000}", initialDelay = 60000)
+    public void reconcileCapacity() {
+        storeService.forEachActiveStore("Capacity reconciliation", store -> {
+            int corrected = reconciliationService.reconcile();
+            if (corrected > 0) {
+                log.info("⚖️ Store {}: {} capacity counter(s) corrected", store.getCode(), corrected);
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.javabite.app.scheduler;
+
+import com.javabite.app.service.DailyRollupService;
+import com.javabite.app.service.StoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyCloseScheduler {
+    private final DailyRollupService rollupService;
+    private final StoreService storeService;
+
+    /**
+     * Close yesterday's books shortly after midnight.
+     * Also fills any days missed while the app was down. Each store closes on its own.
+     */
+    @Scheduled(cron = "${app.rollups.close-cron:0 5 0 * * *}")
+    public void closeYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        storeService.forEachActiveStore("End-of-day close", store -> {
+            int days = rollupService.closeThrough(yesterday);
+            log.info("🌙 End-of-day close finished for {}: {} day(s) rolled up", store.getCode(), days);
+        });
+    }
+}
@@ -6,7 +6,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,24 +24,27 @@ public class AutoAssignmentService {
     private final ChefQueueRepository chefQueueRepository;
     private final WaiterQueueRepository waiterQueueRepository;
     private final OrderService orderService;
+    private final StoreService storeService;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * ✅ Runs every minute to check for orders pending > 3 minutes
      */
     @Scheduled(fixedDelay = 60000, initialDelay = 60000)
-    @Transactional
     public void autoAssignPendingOrders() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        storeService.forEachActiveStore("Auto-assignment",
+                store -> tx.executeWithoutResult(status -> autoAssignPendingOrdersForStore()));
+    }
+
+    private void autoAssignPendingOrdersForStore() {
         try {
             log.debug("🔄 Checking for orders needing auto-assignment...");
 
             LocalDateTime threeMinutesAgo = LocalDateTime.now().minusMinutes(3);
 
-            List<Order> eligibleOrders = orderRepository.findAll().stream()
-                    .filter(o -> o.getStatus() == OrderStatus.PENDING)
-                    .filter(o -> o.getChef() == null)
-                    .filter(o -> o.getCreatedAt().isBefore(threeMinutesAgo))
-                    .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
-                    .collect(Collectors.toList());
+            List<Order> eligibleOrders = orderRepository
+                    .findByStatusAndChefIsNullAndCreatedAtBeforeOrderByCreatedAtAsc(OrderStatus.PENDING, threeMinutesAgo);
 
             if (eligibleOrders.isEmpty()) {
                 return;
@@ -57,9 +62,8 @@ public class AutoAssignmentService {
 
     @Transactional
     public void tryAutoAssignChef(Order order) {
-        List<User> availableChefs = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == Role.CHEF)
-                .filter(User::isEnabled)
+        List<User> availableChefs = userRepository
+                .findByRoleAndEnabledAndStoreId(Role.CHEF, true, order.getStoreId()).stream()
                 .filter(User::canAcceptOrder)
                 .sorted((a, b) -> Integer.compare(
                         a.getCurrentActiveOrders(),
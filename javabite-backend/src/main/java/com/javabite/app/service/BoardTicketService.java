@@ -0,0 +1,157 @@
+package com.javabite.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.BoardTicket;
+import com.javabite.app.model.Order;
+import com.javabite.app.model.OrderStatus;
+import com.javabite.app.payload.OrderItemResponse;
+import com.javabite.app.payload.OrderResponse;
+import com.javabite.app.repository.BoardTicketRepository;
+import com.javabite.app.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chef and waiter boards, served from the board_tickets read model.
+ *
+ * OrderService calls {@link #sync} in the same transaction as every order
+ * transition, so a board never shows a state the orders table doesn't have.
+ * Board reads touch only board_tickets: no joins to users, bookings or items.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardTicketService {
+
+    public static final Set<OrderStatus> OPEN_STATUSES =
+            Set.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.READY);
+
+    private static final TypeReference<List<OrderItemResponse>> ITEMS = new TypeReference<>() {};
+
+    private final BoardTicketRepository ticketRepository;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Bring the order's ticket in line with the order: upsert while open, drop once closed
+     */
+    @Transactional
+    public void sync(Order order) {
+        if (OPEN_STATUSES.contains(order.getStatus())) {
+            ticketRepository.save(toTicket(order));
+        } else {
+            ticketRepository.deleteById(order.getId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getChefBoard(Long chefId, OrderStatus status) {
+        return ticketRepository.findByChefIdAndStatusOrderByCreatedAtAsc(chefId, status).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getWaiterBoard(Long waiterId, Collection<OrderStatus> statuses) {
+        return ticketRepository.findByWaiterIdAndStatusInOrderByCreatedAtAsc(waiterId, statuses).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Recreate the current store's tickets from its open orders. Returns the ticket count.
+     */
+    @Transactional
+    public int rebuild() {
+        ticketRepository.deleteByStore(StoreContext.getCurrentStoreId());
+        List<BoardTicket> tickets = orderRepository.findByStatusIn(OPEN_STATUSES).stream()
+                .map(this::toTicket)
+                .toList();
+        ticketRepository.saveAll(tickets);
+        return tickets.size();
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private BoardTicket toTicket(Order order) {
+        // First, so subtotal and tax are calculated for orders that never had them
+        BigDecimal total = order.getTotal();
+        return BoardTicket.builder()
+                .orderId(order.getId())
+                .storeId(order.getStoreId())
+                .status(order.getStatus())
+                .chefId(order.getChef() != null ? order.getChef().getId() : null)
+                .chefName(order.getChef() != null ? order.getChef().getName() : null)
+                .waiterId(order.getWaiter() != null ? order.getWaiter().getId() : null)
+                .waiterName(order.getWaiter() != null ? order.getWaiter().getName() : null)
+                .customerId(order.getCustomer() != null ? order.getCustomer().getId() : null)
+                .customerName(order.getCustomer() != null ? order.getCustomer().getName() : null)
+                .tableNumber(order.getTableNumber())
+                .itemsJson(toJson(order.getItems().stream().map(OrderItemResponse::fromEntity).toList()))
+                .subtotal(orZero(order.getSubtotal()))
+                .tax(orZero(order.getTax()))
+                .discount(orZero(order.getDiscount()))
+                .total(total)
+                .specialInstructions(order.getSpecialInstructions())
+                .autoAssigned(order.getAutoAssigned())
+                .createdAt(order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .readyAt(order.getReadyAt())
+                .build();
+    }
+
+    private OrderResponse toResponse(BoardTicket ticket) {
+        return OrderResponse.builder()
+                .id(ticket.getOrderId())
+                .customerId(ticket.getCustomerId())
+                .customerName(ticket.getCustomerName())
+                .chefId(ticket.getChefId())
+                .chefName(ticket.getChefName())
+                .waiterId(ticket.getWaiterId())
+                .waiterName(ticket.getWaiterName())
+                .tableNumber(ticket.getTableNumber())
+                .items(fromJson(ticket.getItemsJson()))
+                .status(ticket.getStatus())
+                .autoAssigned(ticket.getAutoAssigned())
+                .subtotal(ticket.getSubtotal())
+                .tax(ticket.getTax())
+                .discount(ticket.getDiscount())
+                .total(ticket.getTotal())
+                .specialInstructions(ticket.getSpecialInstructions())
+                .createdAt(ticket.getCreatedAt())
+                .updatedAt(ticket.getUpdatedAt())
+                .readyAt(ticket.getReadyAt())
+                .build();
+    }
+
+    private String toJson(List<OrderItemResponse> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not write board ticket items", e);
+        }
+    }
+
+    private List<OrderItemResponse> fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, ITEMS);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not read board ticket items", e);
+        }
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -1,16 +1,17 @@
 package com.javabite.app.service;
 
 import com.javabite.app.dto.BookingDTO;
-import com.javabite.app.model.BookingStatus;
 import com.javabite.app.model.TableBooking;
 import com.javabite.app.repository.TableBookingRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,8 @@ import java.util.stream.Collectors;
 @Service
 public class BookingService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     @Autowired
     private TableBookingRepository bookingRepository;
 
@@ -29,22 +32,33 @@ public class BookingService {
     /**
      * Get all bookings for a customer (history)
      */
+    @Transactional(readOnly = true)
     public List<BookingDTO> getCustomerBookingHistory(Long customerId) {
         // ✅ FIXED: Use correct repository method
-        List<TableBooking> bookings = bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingTimeDesc(customerId);
+        List<TableBooking> bookings = bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingMinuteDesc(customerId);
         return bookings.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of a customer's booking history, newest first (size capped at 50)
+     */
+    @Transactional(readOnly = true)
+    public Page<BookingDTO> getCustomerBookingHistoryPage(Long customerId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        return bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingMinuteDesc(customerId,
+                        PageRequest.of(Math.max(page, 0), pageSize))
+                .map(this::convertToDTO);
+    }
+
     /**
      * Get only active/upcoming bookings for a customer
      */
+    @Transactional(readOnly = true)
     public List<BookingDTO> getCustomerActiveBookings(Long customerId) {
-        List<TableBooking> bookings = bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingTimeDesc(customerId);
+        List<TableBooking> bookings = bookingRepository.findOpenBookingsFrom(customerId, LocalDate.now());
         return bookings.stream()
-                .filter(booking -> booking.getStatus() == BookingStatus.CONFIRMED ||
-                        booking.getStatus() == BookingStatus.ACTIVE)
                 .filter(TableBooking::isUpcoming)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -111,20 +125,18 @@ public class BookingService {
     /**
      * Get booking statistics for customer
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getCustomerBookingStats(Long customerId) {
-        // ✅ FIXED: Use correct repository method
-        List<TableBooking> bookings = bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingTimeDesc(customerId);
+        LocalDateTime now = LocalDateTime.now();
+        TableBookingRepository.CustomerBookingSummary summary = bookingRepository.summarizeForCustomer(
+                customerId, now.toLocalDate(), now.getHour() * 60 + now.getMinute());
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalBookings", bookings.size());
-        stats.put("upcomingBookings", bookings.stream()
-                .filter(TableBooking::isUpcoming).count());
-        stats.put("completedBookings", bookings.stream()
-                .filter(b -> b.getStatus() == BookingStatus.COMPLETED).count());
-        stats.put("cancelledBookings", bookings.stream()
-                .filter(b -> b.getStatus() == BookingStatus.CANCELLED).count());
-        stats.put("refundedBookings", bookings.stream()
-                .filter(b -> "COMPLETED".equals(b.getRefundStatus())).count());
+        stats.put("totalBookings", summary.getTotal());
+        stats.put("upcomingBookings", summary.getUpcoming());
+        stats.put("completedBookings", summary.getCompleted());
+        stats.put("cancelledBookings", summary.getCancelled());
+        stats.put("refundedBookings", summary.getRefunded());
 
         return stats;
     }
@@ -169,10 +181,7 @@ public class BookingService {
      * Calculate refund amount based on booking
      */
     private BigDecimal calculateRefundAmount(TableBooking booking) {
-        LocalDateTime bookingDateTime = LocalDateTime.of(
-                booking.getBookingDate(),
-                LocalTime.parse(booking.getBookingTime())
-        );
+        LocalDateTime bookingDateTime = booking.getStartsAt();
         LocalDateTime now = LocalDateTime.now();
 
         long hoursUntilBooking = java.time.Duration.between(now, bookingDateTime).toHours();
@@ -195,6 +204,7 @@ public class BookingService {
         BookingDTO dto = new BookingDTO();
         dto.setId(booking.getId());
         dto.setTableNumber(booking.getTableNumber());
+        dto.setJoinedTableNumber(booking.getJoinedTableNumber());
         dto.setBookingDate(booking.getBookingDate());
         dto.setBookingTime(booking.getBookingTime()); // String, not LocalTime
         dto.setNumberOfGuests(booking.getNumberOfGuests());
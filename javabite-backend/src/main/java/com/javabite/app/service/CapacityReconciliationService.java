@@ -0,0 +1,118 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.OrderStatus;
+import com.javabite.app.model.Role;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recomputes every chef's and waiter's active-order count from the orders table
+ * (one grouped query) and corrects the counters that drifted, in bulk.
+ *
+ * Metrics: javabite.capacity.drift (staff corrected, by role) and
+ * javabite.capacity.drift.size (how far off each corrected counter was).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CapacityReconciliationService {
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final StaffCapacityService staffCapacityService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Reconcile the current store's staff
+     * @return number of staff whose counter was corrected
+     */
+    @Transactional
+    public int reconcile() {
+        Map<Long, Integer> expected = computeExpectedCounts();
+
+        // (observed, expected) -> staff ids, so each distinct correction is one UPDATE
+        Map<List<Integer>, List<Long>> corrections = new HashMap<>();
+        Map<Long, Role> roles = new HashMap<>();
+        for (Object[] row : userRepository.findActiveOrderCounters(
+                List.of(Role.CHEF, Role.WAITER), StoreContext.getCurrentStoreId())) {
+            Long staffId = (Long) row[0];
+            Role role = (Role) row[1];
+            int observed = ((Number) row[3]).intValue();
+            int actual = expected.getOrDefault(staffId, 0);
+            if (observed != actual) {
+                corrections.computeIfAbsent(List.of(observed, actual), key -> new ArrayList<>()).add(staffId);
+                roles.put(staffId, role);
+                log.warn("⚖️ Capacity drift for {} {}: counter {} but {} active", role, row[2], observed, actual);
+            }
+        }
+
+        int corrected = 0;
+        for (Map.Entry<List<Integer>, List<Long>> correction : corrections.entrySet()) {
+            int observed = correction.getKey().get(0);
+            int actual = correction.getKey().get(1);
+            // Counters that moved since they were read are left for the next run
+            int updated = userRepository.correctActiveOrders(correction.getValue(), observed, actual);
+            staffCapacityService.evictCached(correction.getValue());
+            corrected += updated;
+            for (Long staffId : correction.getValue()) {
+                Counter.builder("javabite.capacity.drift")
+                        .description("Staff capacity counters corrected by reconciliation")
+                        .tag("role", roles.get(staffId).name())
+                        .register(meterRegistry)
+                        .increment();
+                DistributionSummary.builder("javabite.capacity.drift.size")
+                        .description("Absolute drift of each corrected capacity counter")
+                        .register(meterRegistry)
+                        .record(Math.abs(observed - actual));
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("⚖️ Capacity reconciliation corrected {} counter(s)", corrected);
+        }
+        return corrected;
+    }
+
+    /**
+     * Staff id -> slots they really hold (rule in {@link StaffCapacityService})
+     */
+    private Map<Long, Integer> computeExpectedCounts() {
+        Map<Long, Integer> chefOrders = new HashMap<>();
+        Map<Long, Set<Long>> waiterTables = new HashMap<>();
+
+        for (Object[] row : orderRepository.summarizeOpenAssignments(StaffCapacityService.WAITER_BUSY_STATUSES)) {
+            Long chefId = (Long) row[0];
+            Long waiterId = (Long) row[1];
+            Long tableBookingId = (Long) row[2];
+            OrderStatus status = (OrderStatus) row[3];
+            int orders = ((Number) row[4]).intValue();
+            int queuedForWaiter = ((Number) row[5]).intValue();
+
+            if (chefId != null && StaffCapacityService.CHEF_BUSY_STATUSES.contains(status)) {
+                chefOrders.merge(chefId, orders, Integer::sum);
+            }
+            if (waiterId != null && orders > queuedForWaiter) {
+                waiterTables.computeIfAbsent(waiterId, id -> new HashSet<>()).add(tableBookingId);
+            }
+        }
+
+        Map<Long, Integer> expected = new HashMap<>(chefOrders);
+        waiterTables.forEach((waiterId, tables) -> expected.merge(waiterId, tables.size(), Integer::sum));
+        return expected;
+    }
+}
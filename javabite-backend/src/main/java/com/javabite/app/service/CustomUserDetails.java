@@ -20,6 +20,7 @@ public class CustomUserDetails implements UserDetails {
     private String password;
     private Collection<? extends GrantedAuthority> authorities;
     private boolean enabled;
+    private Long storeId; // home store for staff, null for customers/admins
 
     public static CustomUserDetails build(User user) {
         GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
@@ -30,7 +31,8 @@ public class CustomUserDetails implements UserDetails {
                 user.getEmail(),
                 user.getPassword(),
                 Collections.singletonList(authority),
-                user.isEnabled()
+                user.isEnabled(),
+                user.getStoreId()
         );
     }
 
@@ -0,0 +1,208 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.BookingStatus;
+import com.javabite.app.model.DailyRollup;
+import com.javabite.app.model.OrderStatus;
+import com.javabite.app.repository.DailyRollupRepository;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * End-of-day close: folds one day of orders, bookings and refunds into a
+ * {@link DailyRollup} row so reports and trend charts read one small table.
+ * Works on the current store (StoreContext); the scheduler runs it per store.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyRollupService {
+
+    // Later changes (late completions, refunds) still land in the last closed days
+    private static final int RECLOSE_DAYS = 2;
+
+    private final DailyRollupRepository rollupRepository;
+    private final OrderRepository orderRepository;
+    private final TableBookingRepository bookingRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Compute and save (or overwrite) the rollup for one day
+     */
+    @Transactional
+    public DailyRollup closeDay(LocalDate date) {
+        DailyRollup rollup = computeDay(date);
+        rollupRepository.findByBusinessDate(date).ifPresent(existing -> rollup.setId(existing.getId()));
+        rollup.setClosedAt(LocalDateTime.now());
+        return rollupRepository.save(rollup);
+    }
+
+    /**
+     * Close every day from from to to (inclusive), one transaction per day.
+     * Safe to re-run: existing rows are overwritten.
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("'from' must not be after 'to'");
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int days = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDate day = date;
+            tx.executeWithoutResult(status -> closeDay(day));
+            days++;
+        }
+
+        log.info("📊 Closed {} day(s) of rollups ({} .. {})", days, from, to);
+        return days;
+    }
+
+    /**
+     * Close everything up to and including lastDay: re-closes the last couple of
+     * closed days and fills any gap (or the whole history on the first run)
+     */
+    public int closeThrough(LocalDate lastDay) {
+        LocalDate from = rollupRepository.findTopByOrderByBusinessDateDesc()
+                .map(latest -> latest.getBusinessDate().plusDays(1))
+                .orElseGet(() -> firstActivityDate(lastDay));
+
+        LocalDate recloseFrom = lastDay.minusDays(RECLOSE_DAYS - 1);
+        if (from.isAfter(recloseFrom)) {
+            from = recloseFrom;
+        }
+        return backfill(from, lastDay);
+    }
+
+    /**
+     * Whether every day from the first order up to (not including) day has a rollup.
+     * Until the first close has backfilled the history, or when a close was missed,
+     * sums over the rollups would leave those days out.
+     */
+    @Transactional(readOnly = true)
+    public boolean coversOrdersBefore(LocalDate day) {
+        LocalDateTime firstOrder = orderRepository.findFirstCreatedAt();
+        if (firstOrder == null || !firstOrder.toLocalDate().isBefore(day)) {
+            return true;
+        }
+        LocalDate first = firstOrder.toLocalDate();
+        return rollupRepository.countByBusinessDateBetween(first, day.minusDays(1)) == ChronoUnit.DAYS.between(first, day);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRollup> getRollups(LocalDate from, LocalDate to) {
+        return rollupRepository.findByBusinessDateBetweenOrderByBusinessDateAsc(from, to);
+    }
+
+    /**
+     * Rollup figures for a day without saving them (used for the still-open today)
+     */
+    @Transactional(readOnly = true)
+    public DailyRollup computeDay(LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+
+        DailyRollup rollup = DailyRollup.builder()
+                .businessDate(date)
+                .grossSales(BigDecimal.ZERO)
+                .taxTotal(BigDecimal.ZERO)
+                .discountTotal(BigDecimal.ZERO)
+                .build();
+
+        // Orders by status, money over non-cancelled ones
+        for (Object[] row : orderRepository.summarizeCreatedBetween(start, end)) {
+            OrderStatus status = (OrderStatus) row[0];
+            int count = ((Number) row[1]).intValue();
+            rollup.setOrdersTotal(rollup.getOrdersTotal() + count);
+            switch (status) {
+                case PENDING -> rollup.setOrdersPending(count);
+                case PREPARING -> rollup.setOrdersPreparing(count);
+                case READY -> rollup.setOrdersReady(count);
+                case SERVED -> rollup.setOrdersServed(count);
+                case COMPLETED -> rollup.setOrdersCompleted(count);
+                case CANCELLED -> rollup.setOrdersCancelled(count);
+            }
+            if (status != OrderStatus.CANCELLED) {
+                rollup.setGrossSales(rollup.getGrossSales().add(decimal(row[2])));
+                rollup.setTaxTotal(rollup.getTaxTotal().add(decimal(row[3])));
+                rollup.setDiscountTotal(rollup.getDiscountTotal().add(decimal(row[4])));
+            }
+        }
+
+        BigDecimal net = rollup.getGrossSales().add(rollup.getTaxTotal()).subtract(rollup.getDiscountTotal());
+        rollup.setNetSales(net.setScale(2, RoundingMode.HALF_UP));
+        rollup.setAvgTicket(rollup.getTickets() > 0
+                ? net.divide(BigDecimal.valueOf(rollup.getTickets()), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO.setScale(2));
+
+        // Bookings for the day
+        for (Object[] row : bookingRepository.countByStatusForDate(date)) {
+            BookingStatus status = (BookingStatus) row[0];
+            int count = ((Number) row[1]).intValue();
+            rollup.setBookingsTotal(rollup.getBookingsTotal() + count);
+            if (status == BookingStatus.COMPLETED) {
+                rollup.setBookingsCompleted(count);
+            } else if (status == BookingStatus.CANCELLED) {
+                rollup.setBookingsCancelled(count);
+            } else if (status == BookingStatus.NO_SHOW) {
+                rollup.setBookingsNoShow(count);
+            }
+        }
+
+        // Refunds completed that day
+        Object[] refunds = bookingRepository.sumRefundsCompletedBetween(start, end).get(0);
+        rollup.setRefundsCount(((Number) refunds[0]).intValue());
+        rollup.setRefundsAmount(decimal(refunds[1]));
+
+        // Kitchen: preparation started -> ready
+        rollup.setAvgPrepSeconds(averageSeconds(orderRepository.findPrepTimesReadyBetween(start, end)));
+
+        return rollup;
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private LocalDate firstActivityDate(LocalDate fallback) {
+        LocalDateTime firstOrder = orderRepository.findFirstCreatedAt();
+        LocalDate firstBooking = bookingRepository.findFirstBookingDate();
+
+        return Stream.of(firstOrder != null ? firstOrder.toLocalDate() : null, firstBooking)
+                .filter(date -> date != null && !date.isAfter(fallback))
+                .min(LocalDate::compareTo)
+                .orElse(fallback);
+    }
+
+    private static Long averageSeconds(List<Object[]> intervals) {
+        if (intervals.isEmpty()) {
+            return null;
+        }
+        long totalSeconds = 0;
+        for (Object[] row : intervals) {
+            totalSeconds += Duration.between((LocalDateTime) row[0], (LocalDateTime) row[1]).getSeconds();
+        }
+        return totalSeconds / intervals.size();
+    }
+
+    private static BigDecimal decimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,151 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived snapshots of the admin dashboard counters, per store.
+ *
+ * Within the TTL every caller gets the same snapshot. After it, callers within the
+ * stale window still get the old snapshot at once while one background refresh runs;
+ * past the window they wait for a fresh one. Either way only one computation per
+ * store and dashboard is in flight, so the count queries run at most about once per
+ * TTL no matter how many admin tabs are polling.
+ */
+@Service
+@Slf4j
+public class DashboardStatsCache {
+
+    public static final String ADMIN_DASHBOARD = "admin-dashboard";
+    public static final String BOOKING_STATS = "booking-stats";
+
+    private final TaskExecutor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long ttlNanos;
+    private final long staleNanos;
+
+    private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+
+    public DashboardStatsCache(@Qualifier("applicationTaskExecutor") TaskExecutor refreshExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.dashboard.cache-ttl-ms:5000}") long ttlMs,
+                               @Value("${app.dashboard.stale-while-revalidate-ms:60000}") long staleMs) {
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(staleMs);
+    }
+
+    /**
+     * The current store's snapshot of one dashboard, computed with loader when missing or
+     * expired. Loader runs outside the caller's transaction, so pass a transactional service method.
+     */
+    public Map<String, Object> get(String dashboard, Supplier<Map<String, Object>> loader) {
+        Key key = new Key(StoreContext.getCurrentStoreId(), dashboard);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            long age = System.nanoTime() - snapshot.takenAt();
+            if (age < ttlNanos) {
+                count(dashboard, "hit");
+                return snapshot.stats();
+            }
+            if (age < ttlNanos + staleNanos) {
+                count(dashboard, "stale");
+                load(key, loader, true);
+                return snapshot.stats();
+            }
+        }
+        return await(load(key, loader, false));
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    /**
+     * Join the computation already running for key, or start one: in the calling
+     * thread, or on the refresh executor when a stale snapshot is being served meanwhile.
+     */
+    private CompletableFuture<Map<String, Object>> load(Key key, Supplier<Map<String, Object>> loader,
+                                                        boolean background) {
+        CompletableFuture<Map<String, Object>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            if (!background) {
+                count(key.dashboard(), "coalesced");
+            }
+            return running;
+        }
+        if (!background) {
+            count(key.dashboard(), "miss");
+        }
+
+        Runnable compute = () -> {
+            try {
+                Map<String, Object> stats = Map.copyOf(StoreContext.callAs(key.storeId(), loader));
+                // Publish before leaving inFlight, so a newcomer sees either the future or the snapshot
+                snapshots.put(key, new Snapshot(stats, System.nanoTime()));
+                mine.complete(stats);
+            } catch (RuntimeException e) {
+                if (background) {
+                    log.warn("⚠️ Background refresh of {} for store {} failed: {}",
+                            key.dashboard(), key.storeId(), e.getMessage());
+                }
+                mine.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        };
+
+        if (!background) {
+            compute.run();
+            return mine;
+        }
+        try {
+            refreshExecutor.execute(compute);
+        } catch (RuntimeException e) {
+            // Executor saturated or shutting down: keep serving the stale snapshot
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        return mine;
+    }
+
+    private static Map<String, Object> await(CompletableFuture<Map<String, Object>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String dashboard, String result) {
+        Counter.builder("javabite.dashboard.cache")
+                .description("Dashboard stats requests by how they were served")
+                .tag("dashboard", dashboard)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Key(Long storeId, String dashboard) {}
+
+    private record Snapshot(Map<String, Object> stats, long takenAt) {}
+}
@@ -5,8 +5,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Outgoing mail. Staff mails go out after the inviting transaction commits, so a
+ * slow SMTP server never holds a DB transaction open and a rolled-back invite sends
+ * nothing. They leave the caller's thread only in virtual-thread mode ({@code AsyncConfig}).
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,6 +28,19 @@ public class EmailService {
     @Value("${app.email.from:noreply@javabite.com}")
     private String fromEmail;
 
+    /**
+     * Send a staff mail published by InvitationService, once its transaction has committed
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStaffEmail(StaffEmailEvent event) {
+        switch (event.getKind()) {
+            case INVITATION -> sendInvitationEmail(event.getEmail(), event.getName(), event.getRole(),
+                    event.getToken(), event.getExpiryHours());
+            case WELCOME -> sendWelcomeEmail(event.getEmail(), event.getName(), event.getRole());
+        }
+    }
+
     /**
      * Send invitation email to new staff member
      */
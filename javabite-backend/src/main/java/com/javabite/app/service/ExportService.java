@@ -0,0 +1,210 @@
+package com.javabite.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javabite.app.dto.BookingExportRow;
+import com.javabite.app.dto.FeedbackExportRow;
+import com.javabite.app.dto.OrderExportRow;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * Streams orders, bookings and feedback as CSV or NDJSON straight to an OutputStream.
+ *
+ * Rows are flat JPQL constructor projections read as a stream, so nothing enters the
+ * persistence context and heap use stays flat however long the range.
+ *
+ * The fetch size is set on these statements only (app.export.fetch-size). On MySQL it is
+ * Integer.MIN_VALUE, which makes Connector/J stream the rows one by one instead of
+ * buffering the whole result; every other query keeps the driver's default.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String ORDER_ROWS = "SELECT new com.javabite.app.dto.OrderExportRow(o.id, o.createdAt, o.status, " +
+            "c.name, c.email, tb.tableNumber, ch.name, w.name, SIZE(o.items), " +
+            "o.subtotal, o.tax, o.discount, o.paymentStatus, o.paymentMethod, o.completedAt, o.cancelledAt) " +
+            "FROM Order o JOIN o.customer c LEFT JOIN o.tableBooking tb " +
+            "LEFT JOIN o.chef ch LEFT JOIN o.waiter w " +
+            "WHERE (:from IS NULL OR o.createdAt >= :from) AND (:to IS NULL OR o.createdAt < :to) " +
+            "ORDER BY o.id";
+
+    private static final String BOOKING_ROWS = "SELECT new com.javabite.app.dto.BookingExportRow(b.id, b.bookingDate, b.bookingTime, " +
+            "b.tableNumber, b.numberOfGuests, b.status, c.name, c.email, b.createdAt, b.cancelledAt, " +
+            "b.cancellationReason, b.refundStatus, b.refundAmount, b.refundedAt) " +
+            "FROM TableBooking b JOIN b.customer c " +
+            "WHERE (:from IS NULL OR b.bookingDate >= :from) AND (:to IS NULL OR b.bookingDate <= :to) " +
+            "ORDER BY b.id";
+
+    private static final String FEEDBACK_ROWS = "SELECT new com.javabite.app.dto.FeedbackExportRow(f.id, f.order.id, c.name, c.email, " +
+            "f.overallRating, f.foodRating, f.serviceRating, f.ambianceRating, f.valueRating, " +
+            "f.wouldRecommend, f.comment, f.createdAt) " +
+            "FROM Feedback f JOIN f.customer c " +
+            "WHERE (:from IS NULL OR f.createdAt >= :from) AND (:to IS NULL OR f.createdAt < :to) " +
+            "ORDER BY f.id";
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Orders created between from and to (inclusive days, either may be null)
+     */
+    public long exportOrders(LocalDate from, LocalDate to, Format format, OutputStream out) {
+        return export("orders", format, out, OrderExportRow.CSV_HEADER, OrderExportRow::csvValues,
+                () -> rows(ORDER_ROWS, OrderExportRow.class, startOf(from), endOf(to)));
+    }
+
+    /**
+     * Bookings whose booking date is between from and to (inclusive, either may be null)
+     */
+    public long exportBookings(LocalDate from, LocalDate to, Format format, OutputStream out) {
+        return export("bookings", format, out, BookingExportRow.CSV_HEADER, BookingExportRow::csvValues,
+                () -> rows(BOOKING_ROWS, BookingExportRow.class, from, to));
+    }
+
+    /**
+     * Feedback submitted between from and to (inclusive days, either may be null)
+     */
+    public long exportFeedback(LocalDate from, LocalDate to, Format format, OutputStream out) {
+        return export("feedback", format, out, FeedbackExportRow.CSV_HEADER, FeedbackExportRow::csvValues,
+                () -> rows(FEEDBACK_ROWS, FeedbackExportRow.class, startOf(from), endOf(to)));
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private <T> long export(String name, Format format, OutputStream out, List<String> csvHeader,
+                            Function<T, List<Object>> csvValues, Supplier<Stream<T>> query) {
+        long startedAt = System.currentTimeMillis();
+
+        // The stream's cursor only lives as long as the transaction (read-only -> replica when enabled)
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        Long rows = tx.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<T> stream = query.get()) {
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, csvHeader);
+                }
+
+                long count = 0;
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    T row = iterator.next();
+                    if (format == Format.CSV) {
+                        writeCsvLine(writer, csvValues.apply(row));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    if (++count % FLUSH_EVERY_ROWS == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                throw new RuntimeException("Export of " + name + " aborted: " + e.getMessage(), e);
+            }
+        });
+
+        log.info("📤 Exported {} {} rows as {} in {} ms",
+                rows, name, format, System.currentTimeMillis() - startedAt);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Must be consumed inside the export's (read-only) transaction
+     */
+    private <T> Stream<T> rows(String jpql, Class<T> type, Object from, Object to) {
+        return entityManager.createQuery(jpql, type)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Free text (names, comments) must not be read as a formula by spreadsheet tools
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    private static LocalDateTime endOf(LocalDate date) {
+        return date != null ? date.plusDays(1).atStartOfDay() : null;
+    }
+}
@@ -108,6 +108,7 @@ public class FeedbackService {
     /**
      * Get all feedback by customer
      */
+    @Transactional(readOnly = true)
     public List<Feedback> getCustomerFeedback(Long customerId) {
         return feedbackRepository.findByCustomerIdOrderByCreatedAtDesc(customerId);
     }
@@ -115,6 +116,7 @@ public class FeedbackService {
     /**
      * Get all feedback (Admin)
      */
+    @Transactional(readOnly = true)
     public List<Feedback> getAllFeedback() {
         return feedbackRepository.findAllByOrderByCreatedAtDesc();
     }
@@ -129,6 +131,7 @@ public class FeedbackService {
     /**
      * Get feedback statistics (Admin)
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getFeedbackStats() {
         Map<String, Object> stats = new HashMap<>();
 
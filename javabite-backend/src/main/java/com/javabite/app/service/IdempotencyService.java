@@ -0,0 +1,214 @@
+package com.javabite.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javabite.app.model.IdempotencyKey;
+import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key support for create endpoints.
+ *
+ * The first request with a key reserves it (unique row per user/scope/key), runs, and
+ * records its successful response, all in one transaction: the key is complete exactly
+ * when the order or booking is, and a crash leaves neither behind. Retries with the same
+ * key get that response back from a small LRU cache or the table, without running the
+ * request again; a retry racing the first request waits on its row. Failed requests roll
+ * back with their reservation, so the client can fix and resend.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository keyRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    // Completed keys only, least recently used evicted first
+    private final Map<String, IdempotencyKey> recent = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, IdempotencyKey> eldest) {
+                    return size() > cacheSize;
+                }
+            });
+
+    /**
+     * Run action once per (user, scope, key). Without a key the action just runs.
+     */
+    public ResponseEntity<?> execute(Long userId, String scope, String key, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        key = key.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, HEADER + " must be at most " + MAX_KEY_LENGTH + " characters"));
+        }
+
+        String cacheKey = userId + ":" + scope + ":" + key;
+        String requestHash = hash(request);
+
+        IdempotencyKey existing = recent.get(cacheKey);
+        if (existing == null || existing.isExpired()) {
+            existing = keyRepository.findByUserIdAndScopeAndIdempotencyKey(userId, scope, key).orElse(null);
+            if (existing != null && existing.isExpired()) {
+                keyRepository.delete(existing);
+                existing = null;
+            }
+        }
+        if (existing != null) {
+            return replay(existing, requestHash, cacheKey);
+        }
+
+        IdempotencyKey reservation = IdempotencyKey.builder()
+                .userId(userId)
+                .scope(scope)
+                .idempotencyKey(key)
+                .requestHash(requestHash)
+                .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                .build();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ResponseEntity<?> response = tx.execute(status -> {
+            try {
+                keyRepository.saveAndFlush(reservation);
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                // Another retry with the same key got here first
+                status.setRollbackOnly();
+                return null;
+            }
+
+            ResponseEntity<?> result = action.get();
+            if (!result.getStatusCode().is2xxSuccessful()) {
+                // Whatever the action wrote goes with the reservation
+                status.setRollbackOnly();
+                return result;
+            }
+            complete(reservation, result);
+            return result;
+        });
+
+        if (response == null) {
+            // Lost the race: replay the winner if it has committed by now
+            IdempotencyKey saved = keyRepository.findByUserIdAndScopeAndIdempotencyKey(userId, scope, key).orElse(null);
+            return saved != null ? replay(saved, requestHash, cacheKey) : inProgress();
+        }
+        if (reservation.isCompleted()) {
+            recent.put(cacheKey, reservation);
+        }
+        return response;
+    }
+
+    /**
+     * Drop expired keys (hourly)
+     */
+    @Scheduled(fixedRate = 3600000, initialDelay = 3600000)
+    @Transactional
+    public void purgeExpired() {
+        int deleted = keyRepository.deleteExpired(LocalDateTime.now());
+        synchronized (recent) {
+            recent.values().removeIf(IdempotencyKey::isExpired);
+        }
+        if (deleted > 0) {
+            log.info("🧹 Purged {} expired idempotency key(s)", deleted);
+        }
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private ResponseEntity<?> replay(IdempotencyKey saved, String requestHash, String cacheKey) {
+        if (!saved.getRequestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(new ApiResponse(false, HEADER + " was already used for a different request"));
+        }
+        if (!saved.isCompleted()) {
+            return inProgress();
+        }
+
+        recent.put(cacheKey, saved);
+        log.info("🔁 Replaying {} response for {} {}", saved.getScope(), HEADER, saved.getIdempotencyKey());
+        return ResponseEntity.status(saved.getResponseStatus())
+                .header(REPLAYED_HEADER, "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(saved.getResponseBody());
+    }
+
+    /**
+     * Record the response on the reservation, inside the action's transaction. The action
+     * has succeeded, so a body that cannot be stored must not undo it: store a plain
+     * acknowledgement with the status instead.
+     */
+    private void complete(IdempotencyKey reservation, ResponseEntity<?> response) {
+        String body;
+        try {
+            body = toJson(response.getBody());
+        } catch (RuntimeException e) {
+            log.error("❌ Could not store {} response for {} {}", reservation.getScope(), HEADER,
+                    reservation.getIdempotencyKey(), e);
+            body = toJson(new ApiResponse(true, "Request already processed"));
+        }
+        reservation.setResponseStatus(response.getStatusCode().value());
+        reservation.setResponseBody(body);
+        keyRepository.save(reservation);
+    }
+
+    private static ResponseEntity<?> inProgress() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse(false, "A request with this " + HEADER + " is still being processed"));
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not store response for " + HEADER, e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.javabite.app.service;
 
+import com.javabite.app.config.StoreContext;
 import com.javabite.app.model.Role;
 import com.javabite.app.model.User;
 import com.javabite.app.payload.AcceptInvitationRequest;
@@ -7,6 +8,7 @@ import com.javabite.app.payload.SendInvitationRequest;
 import com.javabite.app.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +23,7 @@ import java.util.stream.Collectors;
 public class InvitationService {
 
     private final UserRepository userRepository;
-    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
     private final PasswordEncoder passwordEncoder;
 
     private static final int INVITATION_EXPIRY_HOURS = 48;
@@ -73,6 +74,7 @@ public class InvitationService {
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(UUID.randomUUID().toString())) // Temporary password
                 .role(role)
+                .storeId(role == Role.CHEF || role == Role.WAITER ? StoreContext.getCurrentStoreId() : null)
                 .enabled(false) // ✅ CRITICAL: Disabled until invitation accepted
                 .maxActiveOrders(maxActiveOrders)
                 .currentActiveOrders(0)
@@ -83,14 +85,14 @@ public class InvitationService {
 
         User savedUser = userRepository.save(user);
 
-        // Send invitation email
-        emailService.sendInvitationEmail(
+        // Send invitation email (after commit)
+        eventPublisher.publishEvent(StaffEmailEvent.invitation(
                 request.getEmail(),
                 request.getName(),
                 role.name(),
                 token,
                 INVITATION_EXPIRY_HOURS
-        );
+        ));
 
         log.info("✅ Invitation sent to {} ({}) - Token: {}", request.getEmail(), role, token);
 
@@ -139,8 +141,8 @@ public class InvitationService {
 
         User savedUser = userRepository.save(user);
 
-        // Send welcome email
-        emailService.sendWelcomeEmail(user.getEmail(), user.getName(), user.getRole().name());
+        // Send welcome email (after commit)
+        eventPublisher.publishEvent(StaffEmailEvent.welcome(user.getEmail(), user.getName(), user.getRole().name()));
 
         log.info("✅ Invitation accepted by {} - Account activated", user.getEmail());
 
@@ -151,10 +153,7 @@ public class InvitationService {
      * Get all pending invitations (admin view)
      */
     public List<User> getPendingInvitations() {
-        return userRepository.findAll().stream()
-                .filter(u -> u.getInvitationToken() != null && u.getInvitationAcceptedAt() == null)
-                .sorted((a, b) -> b.getInvitationSentAt().compareTo(a.getInvitationSentAt()))
-                .collect(Collectors.toList());
+        return userRepository.findByInvitationTokenIsNotNullAndInvitationAcceptedAtIsNullOrderByInvitationSentAtDesc();
     }
 
     /**
@@ -196,14 +195,14 @@ public class InvitationService {
 
         User savedUser = userRepository.save(user);
 
-        // Send new invitation email
-        emailService.sendInvitationEmail(
+        // Send new invitation email (after commit)
+        eventPublisher.publishEvent(StaffEmailEvent.invitation(
                 user.getEmail(),
                 user.getName(),
                 user.getRole().name(),
                 newToken,
                 INVITATION_EXPIRY_HOURS
-        );
+        ));
 
         log.info("✅ Invitation resent to {} - New token: {}", user.getEmail(), newToken);
 
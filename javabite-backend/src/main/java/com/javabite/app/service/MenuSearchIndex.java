@@ -0,0 +1,272 @@
+package com.javabite.app.service;
+
+import com.javabite.app.payload.MenuItemResponse;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable in-memory inverted index over one store's menu: name, description and
+ * category terms, each mapped to the items containing it and the weight of the best
+ * field it appears in (name over category over description).
+ *
+ * Every query token has to match (AND). A token matches a term exactly, as a prefix
+ * of a longer term (search-as-you-type), or, when neither finds anything, within a
+ * small edit distance (typos). The term dictionary is sorted, so a prefix is a range
+ * scan; only the typo fallback walks the dictionary.
+ *
+ * Changes return a new index ({@link #with}, {@link #without}) sharing all postings
+ * the change does not touch, so readers never lock. Held per store by {@link MenuService}.
+ */
+public final class MenuSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.8;
+    private static final double TYPO = 0.6;
+    private static final int MIN_TYPO_LENGTH = 4;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private final Map<Long, MenuItemResponse> items;
+    private final NavigableMap<String, Map<Long, Integer>> postings;
+
+    private MenuSearchIndex(Map<Long, MenuItemResponse> items, NavigableMap<String, Map<Long, Integer>> postings) {
+        this.items = items;
+        this.postings = postings;
+    }
+
+    public static MenuSearchIndex empty() {
+        return new MenuSearchIndex(Map.of(), Collections.emptyNavigableMap());
+    }
+
+    public static MenuSearchIndex of(Collection<MenuItemResponse> menu) {
+        Map<Long, MenuItemResponse> items = new HashMap<>();
+        TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        for (MenuItemResponse item : menu) {
+            items.put(item.getId(), item);
+            terms(item).forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(item.getId(), weight));
+        }
+        return new MenuSearchIndex(items, postings);
+    }
+
+    /**
+     * This index with the item added, or replacing the item with the same id
+     */
+    public MenuSearchIndex with(MenuItemResponse item) {
+        Map<Long, MenuItemResponse> nextItems = new HashMap<>(items);
+        TreeMap<String, Map<Long, Integer>> nextPostings = new TreeMap<>(postings);
+        MenuItemResponse previous = nextItems.put(item.getId(), item);
+        if (previous != null) {
+            unlink(nextPostings, previous);
+        }
+        terms(item).forEach((term, weight) -> {
+            Map<Long, Integer> ids = new HashMap<>(nextPostings.getOrDefault(term, Map.of()));
+            ids.put(item.getId(), weight);
+            nextPostings.put(term, ids);
+        });
+        return new MenuSearchIndex(nextItems, nextPostings);
+    }
+
+    /**
+     * This index without the item (unchanged if it is not indexed)
+     */
+    public MenuSearchIndex without(Long itemId) {
+        if (!items.containsKey(itemId)) {
+            return this;
+        }
+        Map<Long, MenuItemResponse> nextItems = new HashMap<>(items);
+        TreeMap<String, Map<Long, Integer>> nextPostings = new TreeMap<>(postings);
+        unlink(nextPostings, nextItems.remove(itemId));
+        return new MenuSearchIndex(nextItems, nextPostings);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Available items matching every token of the query, best match first
+     */
+    public List<MenuItemResponse> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = null;
+        for (String token : tokens) {
+            Map<Long, Double> matches = match(token);
+            if (scores == null) {
+                scores = matches;
+            } else {
+                Map<Long, Double> both = new HashMap<>();
+                for (Map.Entry<Long, Double> match : matches.entrySet()) {
+                    Double score = scores.get(match.getKey());
+                    if (score != null) {
+                        both.put(match.getKey(), score + match.getValue());
+                    }
+                }
+                scores = both;
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(e -> Map.entry(items.get(e.getKey()), e.getValue()))
+                .filter(e -> e.getKey().isAvailable())
+                .sorted(Map.Entry.<MenuItemResponse, Double>comparingByValue().reversed()
+                        .thenComparing(e -> e.getKey().getName(), String.CASE_INSENSITIVE_ORDER))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Names of the best available matches for what has been typed so far
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        Set<String> names = new LinkedHashSet<>();
+        for (MenuItemResponse item : search(prefix, Integer.MAX_VALUE)) {
+            names.add(item.getName());
+            if (names.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    /**
+     * Items matching one token, scored by field weight and match quality
+     */
+    private Map<Long, Double> match(String token) {
+        Map<Long, Double> scores = new HashMap<>();
+        collect(scores, postings.get(token), EXACT);
+        // Longer terms starting with the token (the exact term itself is skipped)
+        for (Map<Long, Integer> ids : postings.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+            collect(scores, ids, PREFIX);
+        }
+        if (!scores.isEmpty() || token.length() < MIN_TYPO_LENGTH) {
+            return scores;
+        }
+
+        int maxEdits = token.length() >= 8 ? 2 : 1;
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.entrySet()) {
+            String term = entry.getKey();
+            // A typo in a whole word, or in the part of a longer word typed so far
+            if (withinEdits(token, term, maxEdits)
+                    || (term.length() > token.length() && withinEdits(token, term.substring(0, token.length()), maxEdits))) {
+                collect(scores, entry.getValue(), TYPO);
+            }
+        }
+        return scores;
+    }
+
+    private static void collect(Map<Long, Double> scores, Map<Long, Integer> ids, double quality) {
+        if (ids == null) {
+            return;
+        }
+        ids.forEach((id, weight) -> scores.merge(id, weight * quality, Math::max));
+    }
+
+    private static void unlink(TreeMap<String, Map<Long, Integer>> postings, MenuItemResponse item) {
+        for (String term : terms(item).keySet()) {
+            Map<Long, Integer> ids = new HashMap<>(postings.getOrDefault(term, Map.of()));
+            ids.remove(item.getId());
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            } else {
+                postings.put(term, ids);
+            }
+        }
+    }
+
+    /**
+     * Every term of the item with the weight of the best field it appears in
+     */
+    private static Map<String, Integer> terms(MenuItemResponse item) {
+        Map<String, Integer> terms = new HashMap<>();
+        tokenize(item.getDescription()).forEach(term -> terms.merge(term, DESCRIPTION_WEIGHT, Math::max));
+        if (item.getCategory() != null) {
+            tokenize(item.getCategory().name()).forEach(term -> terms.merge(term, CATEGORY_WEIGHT, Math::max));
+        }
+        tokenize(item.getName()).forEach(term -> terms.merge(term, NAME_WEIGHT, Math::max));
+        return terms;
+    }
+
+    /**
+     * Lower-case, accent-free alphanumeric words: "Crème Brûlée" -> [creme, brulee]
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Optimal string alignment distance (insert, delete, substitute, swap neighbours) of at
+     * most maxEdits, giving up as soon as a whole row exceeds it
+     */
+    static boolean withinEdits(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, previous2[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+}
@@ -1,14 +1,26 @@
 package com.javabite.app.service;
 
+import com.javabite.app.config.StoreContext;
 import com.javabite.app.model.Category;
 import com.javabite.app.model.MenuItem;
 import com.javabite.app.payload.CreateMenuItemRequest;
+import com.javabite.app.payload.MenuItemResponse;
 import com.javabite.app.repository.MenuItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +28,15 @@ import java.util.List;
 public class MenuService {
     private final MenuItemRepository menuItemRepository;
 
+    // Search index per store, patched after each menu write on this node and rebuilt
+    // once older than max-age-ms to pick up writes made elsewhere
+    @Value("${app.menu.search.max-age-ms:300000}")
+    private long searchMaxAgeMs;
+
+    private final Map<Long, IndexedMenu> searchIndexes = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<MenuSearchIndex>> indexBuilds = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> menuWrites = new ConcurrentHashMap<>();
+
     public List<MenuItem> getAllMenuItems() {
         return menuItemRepository.findAll();
     }
@@ -45,6 +66,8 @@ public class MenuService {
                 .build();
 
         MenuItem saved = menuItemRepository.save(menuItem);
+        MenuItemResponse indexed = MenuItemResponse.fromEntity(saved);
+        reindexAfterCommit(index -> index.with(indexed));
         log.info("Created menu item: {}", saved.getName());
         return saved;
     }
@@ -61,6 +84,8 @@ public class MenuService {
         // available field stays unchanged
 
         MenuItem updated = menuItemRepository.save(menuItem);
+        MenuItemResponse indexed = MenuItemResponse.fromEntity(updated);
+        reindexAfterCommit(index -> index.with(indexed));
         log.info("Updated menu item: {}", updated.getName());
         return updated;
     }
@@ -69,7 +94,118 @@ public class MenuService {
     public void deleteMenuItem(Long id) {
         MenuItem menuItem = getMenuItemById(id);
         menuItemRepository.delete(menuItem);
+        reindexAfterCommit(index -> index.without(id));
         log.info("Deleted menu item: {}", menuItem.getName());
     }
 
+    /**
+     * Available items matching every word of the query (prefixes and small typos
+     * included), best match first. Answered from the in-memory index, no SQL.
+     */
+    public List<MenuItemResponse> searchMenuItems(String query, int limit) {
+        return searchIndex().search(query, limit);
+    }
+
+    /**
+     * Item names to suggest for a partly typed query
+     */
+    public List<String> autocompleteMenuItems(String prefix, int limit) {
+        return searchIndex().autocomplete(prefix, limit);
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    /**
+     * The current store's index. One build per store at a time: while it runs, other
+     * searches keep the old index, or wait for the build when there is none yet.
+     */
+    private MenuSearchIndex searchIndex() {
+        Long storeId = StoreContext.getCurrentStoreId();
+        IndexedMenu current = searchIndexes.get(storeId);
+        if (current != null && isFresh(current)) {
+            return current.index();
+        }
+
+        CompletableFuture<MenuSearchIndex> mine = new CompletableFuture<>();
+        CompletableFuture<MenuSearchIndex> running = indexBuilds.putIfAbsent(storeId, mine);
+        if (running != null) {
+            return current != null ? current.index() : await(running);
+        }
+        try {
+            // A build may have finished between the first look and taking the slot
+            IndexedMenu latest = searchIndexes.get(storeId);
+            MenuSearchIndex index = latest != null && isFresh(latest) ? latest.index() : buildIndex(storeId);
+            mine.complete(index);
+            return index;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            indexBuilds.remove(storeId, mine);
+        }
+    }
+
+    private MenuSearchIndex buildIndex(Long storeId) {
+        AtomicLong writes = menuWrites(storeId);
+        long writesBefore = writes.get();
+        List<MenuItemResponse> menu = menuItemRepository.findAll().stream()
+                .map(MenuItemResponse::fromEntity)
+                .toList();
+        MenuSearchIndex index = MenuSearchIndex.of(menu);
+        // A write to this store committed while loading may be missing from this build:
+        // serve it once, but leave it expired so the next search rebuilds
+        long builtAt = writes.get() == writesBefore
+                ? System.nanoTime()
+                : System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(searchMaxAgeMs);
+        searchIndexes.put(storeId, new IndexedMenu(index, builtAt));
+        log.debug("🔎 Built menu search index for store {}: {} items", storeId, index.size());
+        return index;
+    }
+
+    private boolean isFresh(IndexedMenu indexed) {
+        return System.nanoTime() - indexed.builtAt() < TimeUnit.MILLISECONDS.toNanos(searchMaxAgeMs);
+    }
+
+    private AtomicLong menuWrites(Long storeId) {
+        return menuWrites.computeIfAbsent(storeId, id -> new AtomicLong());
+    }
+
+    private static MenuSearchIndex await(CompletableFuture<MenuSearchIndex> build) {
+        try {
+            return build.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Apply a change to the current store's index once the write has committed.
+     * Without an index yet there is nothing to patch: the first search builds it.
+     */
+    private void reindexAfterCommit(UnaryOperator<MenuSearchIndex> change) {
+        Long storeId = StoreContext.getCurrentStoreId();
+        Runnable apply = () -> {
+            menuWrites(storeId).incrementAndGet();
+            searchIndexes.computeIfPresent(storeId,
+                    (id, indexed) -> new IndexedMenu(change.apply(indexed.index()), indexed.builtAt()));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private record IndexedMenu(MenuSearchIndex index, long builtAt) {
+    }
 }
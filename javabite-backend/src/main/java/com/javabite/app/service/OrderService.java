@@ -1,31 +1,53 @@
 package com.javabite.app.service;
 
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.journal.OrderEventType;
+import com.javabite.app.journal.OrderJournalEvent;
 import com.javabite.app.model.*;
+import com.javabite.app.payload.CreateBatchOrderRequest;
 import com.javabite.app.payload.CreateOrderRequest;
+import com.javabite.app.payload.OrderResponse;
 import com.javabite.app.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final MenuItemRepository menuItemRepository;
+    private final StaffCapacityService staffCapacityService;
     private final TableBookingRepository bookingRepository;
     private final ChefQueueRepository chefQueueRepository;
     private final WaiterQueueRepository waiterQueueRepository;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final DailyRollupService dailyRollupService;
+    private final BoardTicketService boardTicketService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -33,20 +55,7 @@ public class OrderService {
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new RuntimeException("Customer not found"));
 
-        // Validate table booking exists
-        TableBooking booking = bookingRepository.findById(request.getTableBookingId())
-                .orElseThrow(() -> new RuntimeException("Table booking not found. Please book a table first."));
-
-        // Verify booking belongs to customer
-        if (!booking.getCustomer().getId().equals(customer.getId())) {
-            throw new RuntimeException("This booking does not belong to you");
-        }
-
-        // Verify booking is active (CONFIRMED or ACTIVE)
-        if (booking.getStatus() != BookingStatus.CONFIRMED &&
-                booking.getStatus() != BookingStatus.ACTIVE) {
-            throw new RuntimeException("Booking is not active. Current status: " + booking.getStatus());
-        }
+        TableBooking booking = getOrderableBooking(customer, request.getTableBookingId());
 
         // Create order
         Order order = Order.builder()
@@ -82,7 +91,7 @@ public class OrderService {
         if (booking.getStatus() == BookingStatus.CONFIRMED) {
             booking.setStatus(BookingStatus.ACTIVE);
             bookingRepository.save(booking);
-            log.info("✅ Table booking #{} status: CONFIRMED → ACTIVE", booking.getId());
+            log.info("✅ Table booking {} status: CONFIRMED → ACTIVE", kv("bookingId", booking.getId()));
         }
 
         // ✅✅✅ CRITICAL FIX: Only auto-assign if table ALREADY has staff from previous orders
@@ -96,16 +105,19 @@ public class OrderService {
                 savedOrder.setChef(firstOrder.getChef());
                 savedOrder.setChefAssignedAt(LocalDateTime.now());
                 savedOrder.setAutoAssigned(true);
-                log.info("✅ Auto-assigned Chef {} to Order #{} (same table)",
-                        firstOrder.getChef().getName(), savedOrder.getId());
+                // Same table stays with the same chef, even past capacity
+                staffCapacityService.forceClaim(firstOrder.getChef());
+                log.info("✅ Auto-assigned Chef {} to Order {} (same table)",
+                        firstOrder.getChef().getName(), kv("orderId", savedOrder.getId()));
             }
 
             if (firstOrder.getWaiter() != null && !firstOrder.getId().equals(savedOrder.getId())) {
+                claimWaiterForTable(firstOrder.getWaiter(), booking, savedOrder.getId());
                 savedOrder.setWaiter(firstOrder.getWaiter());
                 savedOrder.setWaiterAssignedAt(LocalDateTime.now());
                 savedOrder.setAutoAssigned(true);
-                log.info("✅ Auto-assigned Waiter {} to Order #{} (same table)",
-                        firstOrder.getWaiter().getName(), savedOrder.getId());
+                log.info("✅ Auto-assigned Waiter {} to Order {} (same table)",
+                        firstOrder.getWaiter().getName(), kv("orderId", savedOrder.getId()));
             }
 
             savedOrder = orderRepository.save(savedOrder);
@@ -113,16 +125,163 @@ public class OrderService {
             // ✅ This is the FIRST order for this table
             // DO NOT auto-assign - order goes to admin pending dashboard
             // Admin has 2 minutes to assign, then auto-assignment kicks in
-            log.info("📋 Order #{} created - waiting for admin assignment (or 2-min auto-assign)",
-                    savedOrder.getId());
+            log.info("📋 Order {} created - waiting for admin assignment (or 2-min auto-assign)",
+                    kv("orderId", savedOrder.getId()));
         }
 
-        log.info("✅ Order created: #{} for Table {} (Booking #{})",
-                savedOrder.getId(), booking.getTableNumber(), booking.getId());
+        recordTransition(savedOrder, OrderEventType.CREATED);
+
+        log.info("✅ Order created: {} for Table {} (Booking {})",
+                kv("orderId", savedOrder.getId()), kv("tableNumber", booking.getTableNumber()),
+                kv("bookingId", booking.getId()));
 
         return savedOrder;
     }
 
+    /**
+     * Place several carts for one table booking in one transaction (group orders).
+     * The booking and all menu items are validated once up front, the orders are
+     * flushed together, and the table's staff decision is made once for the batch.
+     */
+    @Transactional
+    public List<Order> createOrders(Long customerId, CreateBatchOrderRequest request) {
+        User customer = userRepository.findById(customerId)
+                .orElseThrow(() -> new RuntimeException("Customer not found"));
+
+        TableBooking booking = getOrderableBooking(customer, request.getTableBookingId());
+
+        // One query for every menu item in the batch
+        Set<Long> menuItemIds = request.getOrders().stream()
+                .flatMap(cart -> cart.getItems().stream())
+                .map(CreateOrderRequest.OrderItemRequest::getMenuItemId)
+                .collect(Collectors.toSet());
+        Map<Long, MenuItem> menuItems = menuItemRepository.findAllById(menuItemIds).stream()
+                .collect(Collectors.toMap(MenuItem::getId, item -> item));
+        if (menuItems.size() != menuItemIds.size()) {
+            throw new RuntimeException("Menu item not found");
+        }
+
+        // Same rule as createOrder: reuse the table's staff only if an earlier order already has them
+        List<Order> tableOrders = orderRepository.findByTableBooking(booking);
+        Order firstOrder = tableOrders.isEmpty() ? null : tableOrders.get(0);
+        User chef = firstOrder != null ? firstOrder.getChef() : null;
+        User waiter = firstOrder != null ? firstOrder.getWaiter() : null;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>();
+        for (CreateBatchOrderRequest.Cart cart : request.getOrders()) {
+            Order order = Order.builder()
+                    .customer(customer)
+                    .tableBooking(booking)
+                    .status(OrderStatus.PENDING)
+                    .createdAt(now)
+                    .autoAssigned(chef != null || waiter != null)
+                    .paymentStatus("PAID")
+                    .paymentMethod(cart.getPaymentMethod() != null ? cart.getPaymentMethod() : "CASH")
+                    .paidAt(now)
+                    .specialInstructions(cart.getSpecialInstructions())
+                    .build();
+
+            if (chef != null) {
+                order.setChef(chef);
+                order.setChefAssignedAt(now);
+            }
+            if (waiter != null) {
+                order.setWaiter(waiter);
+                order.setWaiterAssignedAt(now);
+            }
+
+            for (CreateOrderRequest.OrderItemRequest itemRequest : cart.getItems()) {
+                MenuItem menuItem = menuItems.get(itemRequest.getMenuItemId());
+                order.addOrderItem(OrderItem.builder()
+                        .order(order)
+                        .menuItem(menuItem)
+                        .quantity(itemRequest.getQuantity())
+                        .priceAtOrder(menuItem.getPrice().doubleValue())
+                        .build());
+            }
+            orders.add(order);
+        }
+
+        if (chef != null) {
+            orders.forEach(order -> staffCapacityService.forceClaim(chef));
+        }
+        if (waiter != null) {
+            claimWaiterForTable(waiter, booking, null);
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        savedOrders.forEach(saved -> recordTransition(saved, OrderEventType.CREATED));
+
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            booking.setStatus(BookingStatus.ACTIVE);
+            bookingRepository.save(booking);
+            log.info("✅ Table booking {} status: CONFIRMED → ACTIVE", kv("bookingId", booking.getId()));
+        }
+
+        log.info("✅ Batch of {} orders created for Table {} (Booking {}){}",
+                savedOrders.size(), kv("tableNumber", booking.getTableNumber()), kv("bookingId", booking.getId()),
+                chef != null ? " - reusing table staff" : " - waiting for assignment");
+
+        return savedOrders;
+    }
+
+    /**
+     * Booking the customer may order against: exists, is theirs, and is CONFIRMED or ACTIVE
+     */
+    private TableBooking getOrderableBooking(User customer, Long tableBookingId) {
+        // Validate table booking exists
+        TableBooking booking = bookingRepository.findById(tableBookingId)
+                .orElseThrow(() -> new RuntimeException("Table booking not found. Please book a table first."));
+
+        // Verify booking belongs to customer
+        if (!booking.getCustomer().getId().equals(customer.getId())) {
+            throw new RuntimeException("This booking does not belong to you");
+        }
+
+        // Verify booking is active (CONFIRMED or ACTIVE)
+        if (booking.getStatus() != BookingStatus.CONFIRMED &&
+                booking.getStatus() != BookingStatus.ACTIVE) {
+            throw new RuntimeException("Booking is not active. Current status: " + booking.getStatus());
+        }
+        return booking;
+    }
+
+    /**
+     * A waiter holds one slot per table (see StaffCapacityService): free it when this
+     * was their last active order there. Queued orders never held a slot.
+     */
+    private void releaseWaiterIfTableDone(Order order) {
+        User waiter = order.getWaiter();
+        if (waiter == null || order.getTableBooking() == null || isOrderInWaiterQueue(order.getId())) {
+            return;
+        }
+        if (!orderRepository.hasOtherActiveWaiterOrders(order.getTableBooking(), waiter, order.getId(),
+                StaffCapacityService.WAITER_BUSY_STATUSES)) {
+            staffCapacityService.release(waiter);
+        }
+    }
+
+    /**
+     * Take a waiter slot for the table unless the waiter already holds one for it
+     */
+    private void claimWaiterForTable(User waiter, TableBooking booking, Long excludeOrderId) {
+        if (booking == null || !orderRepository.hasOtherActiveWaiterOrders(booking, waiter,
+                excludeOrderId != null ? excludeOrderId : -1L, StaffCapacityService.WAITER_BUSY_STATUSES)) {
+            staffCapacityService.forceClaim(waiter);
+        }
+    }
+
+    /**
+     * Every order transition goes through here: the board ticket is updated in this
+     * transaction and the event is journaled once it commits. Public for callers that
+     * change orders outside this service (auto-assignment).
+     */
+    public void recordTransition(Order order, OrderEventType type) {
+        boardTicketService.sync(order);
+        eventPublisher.publishEvent(OrderJournalEvent.of(order, type));
+    }
+
     /**
      * ✅ FIXED: Assign CHEF to order (marks as auto-assigned if triggered by system)
      */
@@ -142,41 +301,51 @@ public class OrderService {
             throw new RuntimeException("Chef is disabled");
         }
 
+        if (!order.getStoreId().equals(chef.getStoreId())) {
+            throw new RuntimeException("Chef works at another store");
+        }
+
         TableBooking booking = order.getTableBooking();
         if (booking == null) {
             throw new RuntimeException("Order has no table booking");
         }
 
-        List<Order> tableOrders = orderRepository.findByTableBooking(booking);
+        List<Order> unassigned = orderRepository.findByTableBooking(booking).stream()
+                .filter(tableOrder -> tableOrder.getChef() == null && tableOrder.getStatus() == OrderStatus.PENDING)
+                .collect(Collectors.toList());
+        if (unassigned.isEmpty()) {
+            return order;
+        }
 
-        if (!chef.canAcceptOrder()) {
-            for (Order tableOrder : tableOrders) {
-                if (tableOrder.getChef() == null && !isOrderInChefQueue(tableOrder.getId())) {
+        // Chef capacity is one slot per order: the first must fit, the rest of the table follows it
+        if (!staffCapacityService.tryClaim(chef)) {
+            for (Order tableOrder : unassigned) {
+                if (!isOrderInChefQueue(tableOrder.getId())) {
                     addToChefQueue(tableOrder, chef);
                 }
             }
-            log.info("⏳ Table {} orders added to Chef {} queue", booking.getTableNumber(), chef.getName());
+            log.info("⏳ Table {} orders added to Chef {} queue", kv("tableNumber", booking.getTableNumber()), chef.getName());
             throw new RuntimeException("Chef is busy. Orders added to queue.");
         }
 
-        for (Order tableOrder : tableOrders) {
-            if (tableOrder.getChef() == null) {
-                tableOrder.setChef(chef);
-                tableOrder.setChefAssignedAt(LocalDateTime.now());
-                // ✅ FIX: Set auto-assigned flag if this is auto-assignment
-                if (isAutoAssignment) {
-                    tableOrder.setAutoAssigned(true);
-                }
-                orderRepository.save(tableOrder);
-                log.info("✅ Assigned Chef {} to Order #{}{}",
-                        chef.getName(), tableOrder.getId(),
-                        isAutoAssignment ? " (AUTO)" : "");
+        for (int i = 0; i < unassigned.size(); i++) {
+            Order tableOrder = unassigned.get(i);
+            if (i > 0) {
+                staffCapacityService.forceClaim(chef);
             }
+            tableOrder.setChef(chef);
+            tableOrder.setChefAssignedAt(LocalDateTime.now());
+            // ✅ FIX: Set auto-assigned flag if this is auto-assignment
+            if (isAutoAssignment) {
+                tableOrder.setAutoAssigned(true);
+            }
+            orderRepository.save(tableOrder);
+            recordTransition(tableOrder, OrderEventType.CHEF_ASSIGNED);
+            log.info("✅ Assigned Chef {} to Order {}{}",
+                    chef.getName(), kv("orderId", tableOrder.getId()),
+                    isAutoAssignment ? " (AUTO)" : "");
         }
 
-        chef.incrementActiveOrders();
-        userRepository.save(chef);
-
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
     }
@@ -204,6 +373,10 @@ public class OrderService {
             throw new RuntimeException("Waiter is disabled");
         }
 
+        if (!order.getStoreId().equals(waiter.getStoreId())) {
+            throw new RuntimeException("Waiter works at another store");
+        }
+
         TableBooking booking = order.getTableBooking();
         if (booking == null) {
             throw new RuntimeException("Order has no table booking");
@@ -220,30 +393,28 @@ public class OrderService {
                     tableOrder.setAutoAssigned(true);
                 }
                 orderRepository.save(tableOrder);
-                log.info("✅ Assigned Waiter {} to Order #{}{}",
-                        waiter.getName(), tableOrder.getId(),
+                recordTransition(tableOrder, OrderEventType.WAITER_ASSIGNED);
+                log.info("✅ Assigned Waiter {} to Order {}{}",
+                        waiter.getName(), kv("orderId", tableOrder.getId()),
                         isAutoAssignment ? " (AUTO)" : "");
             }
         }
 
-        if (!waiter.canAcceptOrder()) {
+        if (!staffCapacityService.tryClaim(waiter)) {
             for (Order tableOrder : tableOrders) {
                 if (!isOrderInWaiterQueue(tableOrder.getId())) {
                     addToWaiterQueue(tableOrder, waiter);
                 }
             }
             log.info("⏳ Table {} orders assigned to Waiter {} and added to queue (waiter busy)",
-                    booking.getTableNumber(), waiter.getName());
+                    kv("tableNumber", booking.getTableNumber()), waiter.getName());
 
             return orderRepository.findById(orderId)
                     .orElseThrow(() -> new RuntimeException("Order not found"));
         }
 
-        waiter.incrementActiveOrders();
-        userRepository.save(waiter);
-
         log.info("✅ Waiter {} assigned to all orders on Table {} (immediate capacity)",
-                waiter.getName(), booking.getTableNumber());
+                waiter.getName(), kv("tableNumber", booking.getTableNumber()));
 
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
@@ -285,7 +456,7 @@ public class OrderService {
 
         Optional<ChefQueue> existing = chefQueueRepository.findByOrderId(order.getId());
         if (existing.isPresent()) {
-            log.warn("⚠️ Order #{} already in chef queue, skipping", order.getId());
+            log.warn("⚠️ Order {} already in chef queue, skipping", kv("orderId", order.getId()));
             return;
         }
 
@@ -299,8 +470,8 @@ public class OrderService {
                 .build();
 
         chefQueueRepository.save(queueEntry);
-        log.info("➕ Added Order #{} to Chef {} queue (position {})",
-                order.getId(), chef.getName(), queuePosition);
+        log.info("➕ Added Order {} to Chef {} queue (position {})",
+                kv("orderId", order.getId()), chef.getName(), queuePosition);
     }
 
     /**
@@ -314,7 +485,7 @@ public class OrderService {
 
         Optional<WaiterQueue> existing = waiterQueueRepository.findByOrderId(order.getId());
         if (existing.isPresent()) {
-            log.warn("⚠️ Order #{} already in waiter queue, skipping", order.getId());
+            log.warn("⚠️ Order {} already in waiter queue, skipping", kv("orderId", order.getId()));
             return;
         }
 
@@ -328,8 +499,8 @@ public class OrderService {
                 .build();
 
         waiterQueueRepository.save(queueEntry);
-        log.info("➕ Added Order #{} to Waiter {} queue (position {})",
-                order.getId(), waiter.getName(), queuePosition);
+        log.info("➕ Added Order {} to Waiter {} queue (position {})",
+                kv("orderId", order.getId()), waiter.getName(), queuePosition);
     }
 
     /**
@@ -342,12 +513,38 @@ public class OrderService {
     /**
      * ✅ Get customer's orders
      */
+    @Transactional(readOnly = true)
     public List<Order> getCustomerOrders(Long customerId) {
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new RuntimeException("Customer not found"));
         return orderRepository.findByCustomerOrderByCreatedAtDesc(customer);
     }
 
+    /**
+     * ✅ One page of the customer's orders, newest first (size capped at 50)
+     */
+    @Transactional(readOnly = true)
+    public Page<Order> getCustomerOrdersPage(Long customerId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        return orderRepository.findByCustomer_IdOrderByCreatedAtDesc(customerId,
+                PageRequest.of(Math.max(page, 0), pageSize));
+    }
+
+    /**
+     * ✅ Customer order counters (total / active / completed / cancelled)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCustomerOrderSummary(Long customerId) {
+        OrderRepository.CustomerOrderSummary summary = orderRepository.summarizeForCustomer(customerId);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalOrders", summary.getTotal());
+        stats.put("activeOrders", summary.getActive());
+        stats.put("completedOrders", summary.getCompleted());
+        stats.put("cancelledOrders", summary.getCancelled());
+        return stats;
+    }
+
     /**
      * ✅ Get order by ID
      */
@@ -380,35 +577,29 @@ public class OrderService {
 
         // Free up staff
         if (order.getChef() != null) {
-            order.getChef().decrementActiveOrders();
-            userRepository.save(order.getChef());
-        }
-        if (order.getWaiter() != null) {
-            order.getWaiter().decrementActiveOrders();
-            userRepository.save(order.getWaiter());
+            staffCapacityService.release(order.getChef());
         }
+        releaseWaiterIfTableDone(order);
 
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        recordTransition(saved, OrderEventType.CANCELLED);
+        return saved;
     }
 
     // ==================== CHEF METHODS ====================
 
     /**
-     * ✅ Get chef's NEW orders (PENDING with chef assigned)
+     * ✅ Get chef's NEW orders (PENDING with chef assigned), from the board read model
      */
-    public List<Order> getChefNewOrders(Long chefId) {
-        User chef = userRepository.findById(chefId)
-                .orElseThrow(() -> new RuntimeException("Chef not found"));
-        return orderRepository.findByChefAndStatus(chef, OrderStatus.PENDING);
+    public List<OrderResponse> getChefNewOrders(Long chefId) {
+        return boardTicketService.getChefBoard(chefId, OrderStatus.PENDING);
     }
 
     /**
-     * ✅ Get chef's ACTIVE orders (PREPARING status)
+     * ✅ Get chef's ACTIVE orders (PREPARING status), from the board read model
      */
-    public List<Order> getChefActiveOrders(Long chefId) {
-        User chef = userRepository.findById(chefId)
-                .orElseThrow(() -> new RuntimeException("Chef not found"));
-        return orderRepository.findByChefAndStatus(chef, OrderStatus.PREPARING);
+    public List<OrderResponse> getChefActiveOrders(Long chefId) {
+        return boardTicketService.getChefBoard(chefId, OrderStatus.PREPARING);
     }
 
     /**
@@ -447,8 +638,10 @@ public class OrderService {
         order.setStatus(OrderStatus.PREPARING);
         order.setPreparationStartedAt(LocalDateTime.now());
 
-        log.info("✅ Chef {} started preparing Order #{}", chef.getName(), orderId);
-        return orderRepository.save(order);
+        log.info("✅ Chef {} started preparing Order {}", chef.getName(), kv("orderId", orderId));
+        Order saved = orderRepository.save(order);
+        recordTransition(saved, OrderEventType.PREPARATION_STARTED);
+        return saved;
     }
 
     /**
@@ -475,17 +668,20 @@ public class OrderService {
         Order order = nextInQueue.getOrder();
 
         try {
+            if (!staffCapacityService.tryClaim(chef)) {
+                log.info("⏭️ Chef {} filled up meanwhile, leaving queue as is", chef.getName());
+                return;
+            }
+
             order.setChef(chef);
             order.setChefAssignedAt(LocalDateTime.now());
             orderRepository.save(order);
+            recordTransition(order, OrderEventType.CHEF_ASSIGNED);
 
             chefQueueRepository.delete(nextInQueue);
 
-            chef.incrementActiveOrders();
-            userRepository.save(chef);
-
-            log.info("✅ Auto-assigned queued Order #{} to Chef {} from queue",
-                    order.getId(), chef.getName());
+            log.info("✅ Auto-assigned queued Order {} to Chef {} from queue",
+                    kv("orderId", order.getId()), chef.getName());
         } catch (Exception e) {
             log.error("❌ Failed to assign queued order: {}", e.getMessage());
         }
@@ -515,13 +711,13 @@ public class OrderService {
 
         // ✅ Free up chef capacity when marking ready
         if (order.getChef() != null) {
-            order.getChef().decrementActiveOrders();
-            userRepository.save(order.getChef());
+            staffCapacityService.release(order.getChef());
         }
 
         orderRepository.save(order);
+        recordTransition(order, OrderEventType.READY);
 
-        log.info("✅ Chef {} marked Order #{} as READY", chef.getName(), orderId);
+        log.info("✅ Chef {} marked Order {} as READY", chef.getName(), kv("orderId", orderId));
 
         // ✅ Process chef queue after marking order ready
         processChefQueue(chefId);
@@ -537,12 +733,10 @@ public class OrderService {
     // ==================== WAITER METHODS ====================
 
     /**
-     * ✅ Get waiter's READY orders
+     * ✅ Get waiter's READY orders, from the board read model
      */
-    public List<Order> getWaiterReadyOrders(Long waiterId) {
-        User waiter = userRepository.findById(waiterId)
-                .orElseThrow(() -> new RuntimeException("Waiter not found"));
-        return orderRepository.findByWaiterAndStatus(waiter, OrderStatus.READY);
+    public List<OrderResponse> getWaiterReadyOrders(Long waiterId) {
+        return boardTicketService.getWaiterBoard(waiterId, Set.of(OrderStatus.READY));
     }
 
     /**
@@ -568,17 +762,11 @@ public class OrderService {
         order.setServedAt(LocalDateTime.now());
         order.setCompletedAt(LocalDateTime.now());
 
-        // Free up staff
-        if (order.getChef() != null) {
-            order.getChef().decrementActiveOrders();
-            userRepository.save(order.getChef());
-        }
-        if (order.getWaiter() != null) {
-            order.getWaiter().decrementActiveOrders();
-            userRepository.save(order.getWaiter());
-        }
+        // Free up the waiter; the chef's slot was already freed when the order went READY
+        releaseWaiterIfTableDone(order);
 
         orderRepository.save(order);
+        recordTransition(order, OrderEventType.COMPLETED);
 
         // ✅ Check if all orders for this table are completed
         TableBooking booking = order.getTableBooking();
@@ -592,11 +780,11 @@ public class OrderService {
                 booking.setStatus(BookingStatus.COMPLETED);
                 bookingRepository.save(booking);
                 log.info("✅ All orders completed - Table {} booking COMPLETED",
-                        booking.getTableNumber());
+                        kv("tableNumber", booking.getTableNumber()));
             }
         }
 
-        log.info("✅ Waiter {} marked Order #{} as SERVED & COMPLETED", waiter.getName(), orderId);
+        log.info("✅ Waiter {} marked Order {} as SERVED & COMPLETED", waiter.getName(), kv("orderId", orderId));
 
         // ✅ Process waiter queue after completing order
         processWaiterQueue(waiterId);
@@ -629,13 +817,15 @@ public class OrderService {
 
         try {
             // ✅ Order already has waiter assigned, just remove from queue and increment capacity
-            waiterQueueRepository.delete(nextInQueue);
+            if (!staffCapacityService.tryClaim(waiter)) {
+                log.info("⏭️ Waiter {} filled up meanwhile, leaving queue as is", waiter.getName());
+                return;
+            }
 
-            waiter.incrementActiveOrders();
-            userRepository.save(waiter);
+            waiterQueueRepository.delete(nextInQueue);
 
-            log.info("✅ Removed Order #{} from Waiter {} queue - now active",
-                    order.getId(), waiter.getName());
+            log.info("✅ Removed Order {} from Waiter {} queue - now active",
+                    kv("orderId", order.getId()), waiter.getName());
         } catch (Exception e) {
             log.error("❌ Failed to process queued order: {}", e.getMessage());
         }
@@ -657,57 +847,28 @@ public class OrderService {
             Order order = queueEntry.getOrder();
 
             // If order in queue is now READY and waiter has capacity, activate it
-            if (order.getStatus() == OrderStatus.READY && waiter.canAcceptOrder()) {
+            if (order.getStatus() == OrderStatus.READY && staffCapacityService.tryClaim(waiter)) {
                 waiterQueueRepository.delete(queueEntry);
-                waiter.incrementActiveOrders();
-                userRepository.save(waiter);
 
-                log.info("✅ Activated READY order #{} from Waiter {} queue",
-                        order.getId(), waiter.getName());
+                log.info("✅ Activated READY order {} from Waiter {} queue",
+                        kv("orderId", order.getId()), waiter.getName());
                 break; // Process one at a time
             }
         }
     }
 
     /**
-     * ✅ Get waiter's ASSIGNED orders (all statuses except COMPLETED/CANCELLED)
+     * ✅ Get waiter's ASSIGNED orders (all statuses except COMPLETED/CANCELLED), oldest first
      */
-    public List<Order> getWaiterAssignedOrders(Long waiterId) {
-        User waiter = userRepository.findById(waiterId)
-                .orElseThrow(() -> new RuntimeException("Waiter not found"));
-
-        return orderRepository.findByWaiter(waiter).stream()
-                .filter(o -> o.getStatus() != OrderStatus.COMPLETED &&
-                        o.getStatus() != OrderStatus.CANCELLED)
-                .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
-                .collect(Collectors.toList());
+    public List<OrderResponse> getWaiterAssignedOrders(Long waiterId) {
+        return boardTicketService.getWaiterBoard(waiterId, BoardTicketService.OPEN_STATUSES);
     }
 
     /**
-     * ✅ Get waiter's preparing orders (chef is working on them)
+     * ✅ Get waiter's preparing orders (chef is working on them), oldest first
      */
-    public List<Order> getWaiterPreparingOrders(Long waiterId) {
-        User waiter = userRepository.findById(waiterId)
-                .orElseThrow(() -> new RuntimeException("Waiter not found"));
-
-        return orderRepository.findByWaiter(waiter).stream()
-                .filter(o -> o.getStatus() == OrderStatus.PENDING ||
-                        o.getStatus() == OrderStatus.PREPARING)
-                .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get all orders assigned to a waiter (both preparing and ready)
-     */
-    public List<Order> getWaiterAllAssignedOrders(Long waiterId) {
-        User waiter = userRepository.findById(waiterId)
-                .orElseThrow(() -> new RuntimeException("Waiter not found"));
-
-        return orderRepository.findByWaiter(waiter).stream()
-                .filter(o -> o.getStatus() != OrderStatus.COMPLETED &&
-                        o.getStatus() != OrderStatus.CANCELLED)
-                .collect(Collectors.toList());
+    public List<OrderResponse> getWaiterPreparingOrders(Long waiterId) {
+        return boardTicketService.getWaiterBoard(waiterId, Set.of(OrderStatus.PENDING, OrderStatus.PREPARING));
     }
 
     // ==================== ADMIN METHODS ====================
@@ -715,6 +876,7 @@ public class OrderService {
     /**
      * ✅ Get admin dashboard stats
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getAdminDashboardStats() {
         Map<String, Object> stats = new HashMap<>();
 
@@ -724,8 +886,9 @@ public class OrderService {
         stats.put("completedToday", orderRepository.countByStatusAndCompletedAtAfter(
                 OrderStatus.COMPLETED, LocalDate.now().atStartOfDay()));
 
-        stats.put("activeChefs", userRepository.countByRoleAndEnabled(Role.CHEF, true));
-        stats.put("activeWaiters", userRepository.countByRoleAndEnabled(Role.WAITER, true));
+        Long storeId = StoreContext.getCurrentStoreId();
+        stats.put("activeChefs", userRepository.countByRoleAndEnabledAndStoreId(Role.CHEF, true, storeId));
+        stats.put("activeWaiters", userRepository.countByRoleAndEnabledAndStoreId(Role.WAITER, true, storeId));
         stats.put("activeBookings", bookingRepository.countByStatus(BookingStatus.ACTIVE));
 
         return stats;
@@ -734,8 +897,9 @@ public class OrderService {
     /**
      * Get all orders (for admin history page)
      */
+    @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
-        log.info("Fetching all orders");
+        log.debug("Fetching all orders");
         return orderRepository.findAllByOrderByCreatedAtDesc();
     }
 
@@ -765,24 +929,20 @@ public class OrderService {
             throw new RuntimeException("Order is already cancelled");
         }
 
+        boolean chefHoldsSlot = StaffCapacityService.CHEF_BUSY_STATUSES.contains(order.getStatus());
         order.setStatus(OrderStatus.CANCELLED);
         order.setCancelledAt(LocalDateTime.now());
 
-        // Free up chef and waiter if assigned
-        if (order.getChef() != null) {
-            User chef = order.getChef();
-            chef.decrementActiveOrders();
-            userRepository.save(chef);
+        // Free up chef (unless already freed at READY) and waiter if assigned
+        if (order.getChef() != null && chefHoldsSlot) {
+            staffCapacityService.release(order.getChef());
         }
 
-        if (order.getWaiter() != null) {
-            User waiter = order.getWaiter();
-            waiter.decrementActiveOrders();
-            userRepository.save(waiter);
-        }
+        releaseWaiterIfTableDone(order);
 
         orderRepository.save(order);
-        log.info("Order {} cancelled by admin", orderId);
+        recordTransition(order, OrderEventType.CANCELLED);
+        log.info("Order {} cancelled by admin", kv("orderId", orderId));
     }
 
     /**
@@ -794,7 +954,7 @@ public class OrderService {
                 .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
         order.setAdminNotes(notes);
         orderRepository.save(order);
-        log.info("Order {} notes updated", orderId);
+        log.info("Order {} notes updated", kv("orderId", orderId));
     }
 
     /**
@@ -815,7 +975,8 @@ public class OrderService {
 
         order.setPaymentStatus("REFUNDED");
         orderRepository.save(order);
-        log.info("Order {} refunded", orderId);
+        recordTransition(order, OrderEventType.REFUNDED);
+        log.info("Order {} refunded", kv("orderId", orderId));
     }
 
     /**
@@ -826,92 +987,81 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
 
-        // Remove from current staff if assigned
-        if (order.getChef() != null) {
-            User currentChef = order.getChef();
-            currentChef.decrementActiveOrders();
-            userRepository.save(currentChef);
-        }
-
-        if (order.getWaiter() != null) {
-            User currentWaiter = order.getWaiter();
-            currentWaiter.decrementActiveOrders();
-            userRepository.save(currentWaiter);
-        }
+        // Slots move with the order only while it still needs that role
+        boolean chefBusy = StaffCapacityService.CHEF_BUSY_STATUSES.contains(order.getStatus());
+        boolean waiterBusy = StaffCapacityService.WAITER_BUSY_STATUSES.contains(order.getStatus());
 
-        // Assign new staff
         if (chefId != null) {
             User newChef = userRepository.findById(chefId)
                     .orElseThrow(() -> new RuntimeException("Chef not found"));
+            if (chefBusy) {
+                if (order.getChef() != null) {
+                    staffCapacityService.release(order.getChef());
+                }
+                staffCapacityService.forceClaim(newChef);
+            }
             order.setChef(newChef);
             order.setChefAssignedAt(LocalDateTime.now());
-            newChef.incrementActiveOrders();
-            userRepository.save(newChef);
         }
 
         if (waiterId != null) {
             User newWaiter = userRepository.findById(waiterId)
                     .orElseThrow(() -> new RuntimeException("Waiter not found"));
+            if (waiterBusy) {
+                releaseWaiterIfTableDone(order);
+                claimWaiterForTable(newWaiter, order.getTableBooking(), order.getId());
+            }
             order.setWaiter(newWaiter);
             order.setWaiterAssignedAt(LocalDateTime.now());
-            newWaiter.incrementActiveOrders();
-            userRepository.save(newWaiter);
         }
 
         orderRepository.save(order);
-        log.info("Order {} staff reassigned", orderId);
+        recordTransition(order, OrderEventType.REASSIGNED);
+        log.info("Order {} staff reassigned", kv("orderId", orderId));
     }
 
     /**
-     * Get order statistics - FIXED VERSION (handles BigDecimal)
+     * Get order statistics.
+     * Status counts are one GROUP BY; sales come from the daily rollups plus a live
+     * aggregate for today, so nothing loads the orders table. While the rollups have
+     * gaps (history not backfilled yet) the closed days are summed live from orders too.
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getOrderStatistics() {
-        List<Order> allOrders = orderRepository.findAll();
-
-        long pending = allOrders.stream()
-                .filter(o -> o.getStatus() == OrderStatus.PENDING)
-                .count();
-
-        long preparing = allOrders.stream()
-                .filter(o -> o.getStatus() == OrderStatus.PREPARING)
-                .count();
-
-        long ready = allOrders.stream()
-                .filter(o -> o.getStatus() == OrderStatus.READY)
-                .count();
-
-        long completed = allOrders.stream()
-                .filter(o -> o.getStatus() == OrderStatus.COMPLETED)
-                .count();
-
-        long cancelled = allOrders.stream()
-                .filter(o -> o.getStatus() == OrderStatus.CANCELLED)
-                .count();
+        Map<OrderStatus, Long> byStatus = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : orderRepository.countGroupedByStatus()) {
+            byStatus.put((OrderStatus) row[0], ((Number) row[1]).longValue());
+        }
 
         LocalDate today = LocalDate.now();
-
-        // FIXED: Convert BigDecimal to double properly
-        double todaySales = allOrders.stream()
-                .filter(o -> o.getCreatedAt().toLocalDate().equals(today))
-                .filter(o -> o.getTotal() != null)
-                .mapToDouble(o -> o.getTotal().doubleValue())  // ← FIXED: .doubleValue()
-                .sum();
-
-        // FIXED: Convert BigDecimal to double properly
-        double avgOrderValue = allOrders.stream()
-                .filter(o -> o.getTotal() != null)
-                .mapToDouble(o -> o.getTotal().doubleValue())  // ← FIXED: .doubleValue()
-                .average()
-                .orElse(0.0);
+        DailyRollup todaySoFar = dailyRollupService.computeDay(today);
+
+        BigDecimal sales;
+        long tickets;
+        if (dailyRollupService.coversOrdersBefore(today)) {
+            Object[] closed = dailyRollupRepository.sumSalesAndTicketsBefore(today).get(0);
+            sales = new BigDecimal(closed[0].toString());
+            tickets = ((Number) closed[1]).longValue();
+        } else {
+            Object[] live = orderRepository.sumSalesAndTicketsBefore(today.atStartOfDay()).get(0);
+            sales = new BigDecimal(live[0].toString()).add(new BigDecimal(live[1].toString()))
+                    .subtract(new BigDecimal(live[2].toString()));
+            tickets = ((Number) live[3]).longValue();
+        }
+        sales = sales.add(todaySoFar.getNetSales());
+        tickets += todaySoFar.getTickets();
+        double avgOrderValue = tickets > 0
+                ? sales.divide(BigDecimal.valueOf(tickets), 2, RoundingMode.HALF_UP).doubleValue()
+                : 0.0;
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("pending", pending);
-        stats.put("preparing", preparing);
-        stats.put("ready", ready);
-        stats.put("completed", completed);
-        stats.put("cancelled", cancelled);
-        stats.put("total", allOrders.size());
-        stats.put("todaySales", todaySales);
+        stats.put("pending", byStatus.getOrDefault(OrderStatus.PENDING, 0L));
+        stats.put("preparing", byStatus.getOrDefault(OrderStatus.PREPARING, 0L));
+        stats.put("ready", byStatus.getOrDefault(OrderStatus.READY, 0L));
+        stats.put("completed", byStatus.getOrDefault(OrderStatus.COMPLETED, 0L));
+        stats.put("cancelled", byStatus.getOrDefault(OrderStatus.CANCELLED, 0L));
+        stats.put("total", byStatus.values().stream().mapToLong(Long::longValue).sum());
+        stats.put("todaySales", todaySoFar.getNetSales().doubleValue());
         stats.put("avgOrderValue", avgOrderValue);
 
         return stats;
@@ -0,0 +1,98 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.OrderStatus;
+import com.javabite.app.model.User;
+import com.javabite.app.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Chef/waiter capacity (users.current_active_orders).
+ *
+ * A chef holds one slot per assigned PENDING/PREPARING order. A waiter holds one
+ * slot per table with active orders assigned to them (orders still in the waiter
+ * queue don't count). CapacityReconciliationService recomputes the same rule.
+ *
+ * Every change is one conditional UPDATE in the database, so concurrent
+ * assignments can't both take the last slot and concurrent releases can't
+ * lose each other. The passed-in entity is updated in memory to match, and
+ * the user's second-level cache entry is evicted now and again after commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StaffCapacityService {
+
+    public static final List<OrderStatus> CHEF_BUSY_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.PREPARING);
+
+    public static final List<OrderStatus> WAITER_BUSY_STATUSES =
+            List.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.READY, OrderStatus.SERVED);
+
+    private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Take one order slot if the staff member is enabled, available and below max.
+     * @return false when at capacity (nothing changed)
+     */
+    @Transactional
+    public boolean tryClaim(User staff) {
+        boolean claimed = userRepository.claimOrderSlot(staff.getId()) == 1;
+        if (claimed) {
+            staff.incrementActiveOrders();
+            evictCached(List.of(staff.getId()));
+        } else {
+            log.debug("Staff {} has no free order slot", staff.getName());
+        }
+        return claimed;
+    }
+
+    /**
+     * Take one order slot regardless of capacity (admin reassignment)
+     */
+    @Transactional
+    public void forceClaim(User staff) {
+        userRepository.forceClaimOrderSlot(staff.getId());
+        staff.incrementActiveOrders();
+        evictCached(List.of(staff.getId()));
+    }
+
+    /**
+     * Give one order slot back (never below zero)
+     */
+    @Transactional
+    public void release(User staff) {
+        if (userRepository.releaseOrderSlot(staff.getId()) == 1) {
+            staff.decrementActiveOrders();
+            evictCached(List.of(staff.getId()));
+        } else {
+            log.warn("⚠️ Release for {} ignored: no active orders recorded", staff.getName());
+        }
+    }
+
+    /**
+     * Drop cached copies of users whose counter was changed by SQL. Evicting again after
+     * commit catches a copy another transaction cached from the pre-commit row meanwhile.
+     */
+    public void evictCached(Collection<Long> staffIds) {
+        Cache cache = entityManagerFactory.getCache();
+        staffIds.forEach(id -> cache.evict(User.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    staffIds.forEach(id -> cache.evict(User.class, id));
+                }
+            });
+        }
+    }
+}
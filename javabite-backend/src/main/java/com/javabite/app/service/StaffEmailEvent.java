@@ -0,0 +1,35 @@
+package com.javabite.app.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A mail to a staff member, published by InvitationService and sent by EmailService
+ * once the transaction that invited or activated them has committed.
+ */
+@Getter
+@AllArgsConstructor
+public class StaffEmailEvent {
+
+    public enum Kind {
+        INVITATION,
+        WELCOME
+    }
+
+    private final Kind kind;
+    private final String email;
+    private final String name;
+    private final String role;
+
+    // Invitation only
+    private final String token;
+    private final int expiryHours;
+
+    public static StaffEmailEvent invitation(String email, String name, String role, String token, int expiryHours) {
+        return new StaffEmailEvent(Kind.INVITATION, email, name, role, token, expiryHours);
+    }
+
+    public static StaffEmailEvent welcome(String email, String name, String role) {
+        return new StaffEmailEvent(Kind.WELCOME, email, name, role, null, 0);
+    }
+}
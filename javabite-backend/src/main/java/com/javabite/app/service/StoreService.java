@@ -0,0 +1,127 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.Store;
+import com.javabite.app.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Store registry. Stores change rarely and are read on every request (filter,
+ * table capacity), so they are kept in memory and reloaded on every write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreService {
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Store> stores = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public Store getStore(Long storeId) {
+        Store store = cache().get(storeId);
+        if (store == null) {
+            throw new RuntimeException("Store not found: " + storeId);
+        }
+        return store;
+    }
+
+    public Store getCurrentStore() {
+        return getStore(StoreContext.getCurrentStoreId());
+    }
+
+    public boolean isActiveStore(Long storeId) {
+        Store store = cache().get(storeId);
+        return store != null && store.isActive();
+    }
+
+    public List<Store> getActiveStores() {
+        return cache().values().stream()
+                .filter(Store::isActive)
+                .sorted(Comparator.comparing(Store::getId))
+                .toList();
+    }
+
+    public List<Store> getAllStores() {
+        return cache().values().stream()
+                .sorted(Comparator.comparing(Store::getId))
+                .toList();
+    }
+
+    @Transactional
+    public Store createStore(String code, String name, Integer totalTables) {
+        if (storeRepository.existsByCode(code)) {
+            throw new RuntimeException("Store code already in use: " + code);
+        }
+        Store store = storeRepository.save(Store.builder()
+                .code(code)
+                .name(name)
+                .totalTables(totalTables)
+                .active(true)
+                .build());
+        reload();
+        log.info("🏪 Store created: {} ({})", store.getName(), store.getCode());
+        return store;
+    }
+
+    @Transactional
+    public Store updateStore(Long storeId, String name, Integer totalTables, Boolean active) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new RuntimeException("Store not found: " + storeId));
+        if (name != null) {
+            store.setName(name);
+        }
+        if (totalTables != null) {
+            store.setTotalTables(totalTables);
+        }
+        if (active != null) {
+            store.setActive(active);
+        }
+        store = storeRepository.save(store);
+        reload();
+        return store;
+    }
+
+    /**
+     * Run a job once per active store with that store as the current tenant.
+     * A failure in one store is logged and doesn't stop the others.
+     */
+    public void forEachActiveStore(String jobName, Consumer<Store> job) {
+        for (Store store : getActiveStores()) {
+            try {
+                StoreContext.runAs(store.getId(), () -> job.accept(store));
+            } catch (Exception e) {
+                log.error("❌ {} failed for store {}", jobName, store.getCode(), e);
+            }
+        }
+    }
+
+    public void reload() {
+        Map<Long, Store> fresh = new ConcurrentHashMap<>();
+        storeRepository.findAll().forEach(store -> fresh.put(store.getId(), store));
+        stores.keySet().retainAll(fresh.keySet());
+        stores.putAll(fresh);
+        loaded = true;
+    }
+
+    private Map<Long, Store> cache() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+        return stores;
+    }
+}
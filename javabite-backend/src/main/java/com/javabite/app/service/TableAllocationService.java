@@ -0,0 +1,303 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.DiningTable;
+import com.javabite.app.model.TableBooking;
+import com.javabite.app.payload.FloorPlanRequest;
+import com.javabite.app.repository.DiningTableRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Floor plans and table allocation.
+ *
+ * Each store's plan is compiled once into an in-memory index: every table and
+ * combinable pair, best fit first, plus where each party size starts in that
+ * list. Allocating walks the list against the slot's held tables, so the only
+ * database work per booking is reading which tables are held.
+ *
+ * Best fit = fewest empty seats. On a tie a single table beats a pair, and a
+ * table without a neighbour beats one that could later be joined for a big party.
+ * Stores without a floor plan get totalTables four-seaters.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TableAllocationService {
+
+    static final int DEFAULT_SEATS = 4;
+    static final String DEFAULT_ZONE = "MAIN";
+
+    private final DiningTableRepository tableRepository;
+    private final TableBookingRepository bookingRepository;
+    private final StoreService storeService;
+
+    private final Map<Long, FloorPlan> plans = new ConcurrentHashMap<>();
+
+    // ==================== FLOOR PLAN ====================
+
+    /**
+     * The current store's floor plan (compiled on first use)
+     */
+    public FloorPlan getFloorPlan() {
+        Long storeId = StoreContext.getCurrentStoreId();
+        int totalTables = storeService.getStore(storeId).getTotalTables();
+        FloorPlan plan = plans.get(storeId);
+        if (plan == null || (plan.isDefaultLayout() && plan.getTables().size() != totalTables)) {
+            plan = compile(totalTables);
+            plans.put(storeId, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Replace the current store's floor plan; the store's table count follows it.
+     * Returns the new plan; other requests see it once the change commits.
+     */
+    @Transactional
+    public FloorPlan replaceFloorPlan(FloorPlanRequest request) {
+        Long storeId = StoreContext.getCurrentStoreId();
+        Map<Integer, FloorPlanRequest.Table> byNumber = new HashMap<>();
+        for (FloorPlanRequest.Table table : request.getTables()) {
+            if (byNumber.put(table.getTableNumber(), table) != null) {
+                throw new RuntimeException("Table " + table.getTableNumber() + " appears more than once");
+            }
+        }
+        for (FloorPlanRequest.Table table : request.getTables()) {
+            Integer neighbour = table.getCombinableWith();
+            if (neighbour == null) {
+                continue;
+            }
+            FloorPlanRequest.Table other = byNumber.get(neighbour);
+            if (other == null || neighbour.equals(table.getTableNumber())) {
+                throw new RuntimeException("Table " + table.getTableNumber() + " can't be combined with table " + neighbour);
+            }
+            if (other.getCombinableWith() != null && !other.getCombinableWith().equals(table.getTableNumber())) {
+                throw new RuntimeException("Table " + neighbour + " can only be combined with one neighbour");
+            }
+        }
+
+        tableRepository.deleteByStore(storeId);
+        List<DiningTable> tables = tableRepository.saveAll(request.getTables().stream()
+                .map(table -> DiningTable.builder()
+                        .tableNumber(table.getTableNumber())
+                        .seats(table.getSeats())
+                        .zone(table.getZone().trim().toUpperCase())
+                        .combinableWith(table.getCombinableWith())
+                        .active(table.getActive() == null || table.getActive())
+                        .build())
+                .toList());
+        storeService.updateStore(storeId, null, request.getTables().size(), null);
+
+        evictAfterCommit(storeId);
+        log.info("🪑 Floor plan replaced for store {}: {} table(s)", storeId, request.getTables().size());
+        return new FloorPlan(tables.stream().sorted(Comparator.comparing(DiningTable::getTableNumber)).toList(), false);
+    }
+
+    // ==================== ALLOCATION ====================
+
+    /**
+     * Tables held in a slot by CONFIRMED/ACTIVE bookings (joined tables included)
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> getHeldTables(LocalDate date, String time) {
+        Set<Integer> held = new HashSet<>();
+        for (Object[] row : bookingRepository.findHeldTablesForSlot(date, TableBooking.toMinuteOfDay(time))) {
+            if (row[0] != null) {
+                held.add((Integer) row[0]);
+            }
+            if (row[1] != null) {
+                held.add((Integer) row[1]);
+            }
+        }
+        return held;
+    }
+
+    /**
+     * Pick tables for a party: the requested table if it fits and is free,
+     * otherwise (no request) the best-fit free table or pair
+     */
+    public Allocation allocate(LocalDate date, String time, int guests, Integer requestedTable) {
+        FloorPlan plan = getFloorPlan();
+        Set<Integer> held = getHeldTables(date, time);
+
+        if (requestedTable != null) {
+            DiningTable table = plan.getTable(requestedTable);
+            if (table == null) {
+                throw new RuntimeException("Table " + requestedTable + " does not exist");
+            }
+            if (held.contains(requestedTable)) {
+                throw new RuntimeException(String.format(
+                        "Table %d is already booked for %s at %s. Please select a different table or time.",
+                        requestedTable, date, time));
+            }
+            if (table.getSeats() < guests) {
+                throw new RuntimeException(String.format(
+                        "Table %d seats %d; please pick a bigger table or leave the table choice to us.",
+                        requestedTable, table.getSeats()));
+            }
+            return new Allocation(requestedTable, null, table.getSeats());
+        }
+
+        Allocation allocation = plan.bestFit(guests, held);
+        if (allocation == null) {
+            throw new RuntimeException(guests > plan.getLargestParty()
+                    ? String.format("We can seat at most %d guests together", plan.getLargestParty())
+                    : String.format("No table for %d guests is free on %s at %s. Please select a different time.",
+                            guests, date, time));
+        }
+        return allocation;
+    }
+
+    /**
+     * Free single tables in a slot, optionally only those seating the party
+     */
+    public List<Integer> getAvailableTables(LocalDate date, String time, Integer guests) {
+        Set<Integer> held = getHeldTables(date, time);
+        return getFloorPlan().getTables().stream()
+                .filter(DiningTable::isActive)
+                .filter(table -> !held.contains(table.getTableNumber()))
+                .filter(table -> guests == null || table.getSeats() >= guests)
+                .map(DiningTable::getTableNumber)
+                .toList();
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    /**
+     * Drop the store's compiled plan once the new tables are visible to other sessions;
+     * compiling earlier would cache rows that may still roll back
+     */
+    private void evictAfterCommit(Long storeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    plans.remove(storeId);
+                }
+            });
+        } else {
+            plans.remove(storeId);
+        }
+    }
+
+    private FloorPlan compile(int totalTables) {
+        List<DiningTable> tables = tableRepository.findAllByOrderByTableNumberAsc();
+        if (!tables.isEmpty()) {
+            return new FloorPlan(tables, false);
+        }
+        List<DiningTable> defaults = IntStream.rangeClosed(1, totalTables)
+                .mapToObj(number -> DiningTable.builder()
+                        .tableNumber(number)
+                        .seats(DEFAULT_SEATS)
+                        .zone(DEFAULT_ZONE)
+                        .build())
+                .toList();
+        return new FloorPlan(defaults, true);
+    }
+
+    /**
+     * One table, or two joined ones
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Allocation {
+        private final int tableNumber;
+        private final Integer joinedTableNumber;
+        private final int seats;
+    }
+
+    /**
+     * Compiled floor plan. Immutable, so requests share it without locking.
+     */
+    public static class FloorPlan {
+
+        @Getter
+        private final List<DiningTable> tables;
+
+        @Getter
+        private final boolean defaultLayout;
+
+        @Getter
+        private final int largestParty;
+
+        private final Map<Integer, DiningTable> byNumber = new HashMap<>();
+
+        // Every bookable table and pair, best fit first
+        private final Allocation[] candidates;
+
+        // firstFit[guests] = first candidate with enough seats
+        private final int[] firstFit;
+
+        FloorPlan(List<DiningTable> tables, boolean defaultLayout) {
+            this.tables = List.copyOf(tables);
+            this.defaultLayout = defaultLayout;
+            tables.stream().filter(DiningTable::isActive).forEach(table -> byNumber.put(table.getTableNumber(), table));
+
+            List<Allocation> options = new ArrayList<>();
+            Set<Integer> joinable = new HashSet<>();
+            for (DiningTable table : byNumber.values()) {
+                options.add(new Allocation(table.getTableNumber(), null, table.getSeats()));
+                DiningTable neighbour = table.getCombinableWith() != null ? byNumber.get(table.getCombinableWith()) : null;
+                if (neighbour != null) {
+                    joinable.add(table.getTableNumber());
+                    joinable.add(neighbour.getTableNumber());
+                    if (table.getTableNumber() < neighbour.getTableNumber()
+                            || !table.getTableNumber().equals(neighbour.getCombinableWith())) {
+                        options.add(new Allocation(Math.min(table.getTableNumber(), neighbour.getTableNumber()),
+                                Math.max(table.getTableNumber(), neighbour.getTableNumber()),
+                                table.getSeats() + neighbour.getSeats()));
+                    }
+                }
+            }
+
+            options.sort(Comparator.comparingInt(Allocation::getSeats)
+                    .thenComparing(option -> option.getJoinedTableNumber() != null)
+                    .thenComparing(option -> joinable.contains(option.getTableNumber()))
+                    .thenComparingInt(Allocation::getTableNumber));
+            this.candidates = options.toArray(new Allocation[0]);
+            this.largestParty = candidates.length > 0 ? candidates[candidates.length - 1].getSeats() : 0;
+
+            this.firstFit = new int[largestParty + 1];
+            int index = 0;
+            for (int guests = 1; guests <= largestParty; guests++) {
+                while (candidates[index].getSeats() < guests) {
+                    index++;
+                }
+                firstFit[guests] = index;
+            }
+        }
+
+        public DiningTable getTable(int tableNumber) {
+            return byNumber.get(tableNumber);
+        }
+
+        Allocation bestFit(int guests, Set<Integer> held) {
+            if (guests < 1 || guests > largestParty) {
+                return null;
+            }
+            for (int i = firstFit[guests]; i < candidates.length; i++) {
+                Allocation option = candidates[i];
+                if (!held.contains(option.getTableNumber())
+                        && (option.getJoinedTableNumber() == null || !held.contains(option.getJoinedTableNumber()))) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +22,7 @@ public class TableBookingService {
 
     private final TableBookingRepository bookingRepository;
     private final UserRepository userRepository;
-
-    private static final int TOTAL_TABLES = 20;
+    private final TableAllocationService allocationService;
 
     // ==================== BOOKING CREATION ====================
 
@@ -36,33 +34,10 @@ public class TableBookingService {
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new RuntimeException("Customer not found"));
 
-        // ✅ CRITICAL FIX: Check for duplicate booking BEFORE creating
-        // Use optimized query instead of loading all bookings
-        List<TableBooking> existingBookings = bookingRepository.findByBookingDate(request.getBookingDate());
-
-        boolean isDuplicate = existingBookings.stream()
-                .anyMatch(b ->
-                        b.getTableNumber().equals(request.getTableNumber()) &&
-                                b.getBookingTime().equals(request.getBookingTime()) &&
-                                (b.getStatus() == BookingStatus.CONFIRMED || b.getStatus() == BookingStatus.ACTIVE)
-                );
-
-        if (isDuplicate) {
-            log.error("❌ Duplicate booking attempt - Table {} already booked for {} at {}",
-                    request.getTableNumber(), request.getBookingDate(), request.getBookingTime());
-            throw new RuntimeException(
-                    String.format("Table %d is already booked for %s at %s. Please select a different table or time.",
-                            request.getTableNumber(), request.getBookingDate(), request.getBookingTime())
-            );
-        }
-
-        // Double-check availability using optimized method
-        if (!isTableAvailable(request.getTableNumber(), request.getBookingDate(), request.getBookingTime())) {
-            throw new RuntimeException(
-                    String.format("Table %d is not available for the selected time. Please refresh and try again.",
-                            request.getTableNumber())
-            );
-        }
+        // Requested table if it fits and is free, otherwise the best-fit free table (or pair)
+        TableAllocationService.Allocation allocation = allocationService.allocate(
+                request.getBookingDate(), request.getBookingTime(),
+                request.getNumberOfGuests(), request.getTableNumber());
 
         TableBooking booking = TableBooking.builder()
                 .customer(customer)
@@ -70,14 +45,16 @@ public class TableBookingService {
                 .bookingDate(request.getBookingDate())
                 .bookingTime(request.getBookingTime())
                 .numberOfGuests(request.getNumberOfGuests())
-                .tableNumber(request.getTableNumber())
+                .tableNumber(allocation.getTableNumber())
+                .joinedTableNumber(allocation.getJoinedTableNumber())
                 .specialRequests(request.getSpecialRequests())
                 .status(BookingStatus.CONFIRMED)
                 .build();
 
         TableBooking savedBooking = bookingRepository.save(booking);
-        log.info("✅ Booking created: #{} for customer {} at table {} on {} at {}",
-                savedBooking.getId(), customer.getEmail(), request.getTableNumber(),
+        log.info("✅ Booking created: #{} for customer {} ({} guests) at table {}{} on {} at {}",
+                savedBooking.getId(), customer.getEmail(), request.getNumberOfGuests(), allocation.getTableNumber(),
+                allocation.getJoinedTableNumber() != null ? "+" + allocation.getJoinedTableNumber() : "",
                 request.getBookingDate(), request.getBookingTime());
 
         return savedBooking;
@@ -87,64 +64,40 @@ public class TableBookingService {
 
     /**
      * ✅ FIXED: Get available tables for a specific date and time slot
-     * Optimized to only fetch bookings for specific date
      */
     public List<Integer> getAvailableTablesForSlot(LocalDate date, String time) {
-        log.info("🔍 Checking availability for date: {}, time: {}", date, time);
-
-        // All table numbers
-        List<Integer> allTables = new ArrayList<>();
-        for (int i = 1; i <= TOTAL_TABLES; i++) {
-            allTables.add(i);
-        }
-
-        // ✅ FIXED: Only get bookings for this specific date (optimized)
-        List<TableBooking> bookingsForDate = bookingRepository.findByBookingDate(date);
-
-        // Filter for specific time and active statuses
-        Set<Integer> bookedTables = bookingsForDate.stream()
-                .filter(b -> b.getBookingTime().equals(time))
-                .filter(b -> b.getStatus() == BookingStatus.CONFIRMED || b.getStatus() == BookingStatus.ACTIVE)
-                .map(TableBooking::getTableNumber)
-                .collect(Collectors.toSet());
-
-        log.info("📊 Date: {}, Time: {} - Booked tables: {}", date, time, bookedTables);
-
-        // Return available tables (all tables minus booked tables)
-        List<Integer> availableTables = allTables.stream()
-                .filter(table -> !bookedTables.contains(table))
-                .collect(Collectors.toList());
-
-        log.info("✅ Available tables: {} out of {}", availableTables.size(), TOTAL_TABLES);
+        return getAvailableTablesForSlot(date, time, null);
+    }
 
+    /**
+     * Free tables for a slot; with guests, only tables that seat the party
+     */
+    public List<Integer> getAvailableTablesForSlot(LocalDate date, String time, Integer guests) {
+        List<Integer> availableTables = allocationService.getAvailableTables(date, time, guests);
+        log.info("✅ Available tables for {} at {}: {} out of {}",
+                date, time, availableTables.size(), getTotalTables());
         return availableTables;
     }
 
     /**
-     * ✅ FIXED: Check if a specific table is available for a date/time slot
-     * Optimized to only query specific date
+     * Check if a specific table is available for a date/time slot
      */
     public boolean isTableAvailable(Integer tableNumber, LocalDate date, String time) {
-        // Only get bookings for this specific date
-        List<TableBooking> bookingsForDate = bookingRepository.findByBookingDate(date);
-
-        // Check if this specific table has an active booking for this time
-        boolean isBooked = bookingsForDate.stream()
-                .anyMatch(b ->
-                        b.getTableNumber().equals(tableNumber) &&
-                                b.getBookingTime().equals(time) &&
-                                (b.getStatus() == BookingStatus.CONFIRMED || b.getStatus() == BookingStatus.ACTIVE)
-                );
-
-        return !isBooked;
+        return !allocationService.getHeldTables(date, time).contains(tableNumber);
     }
 
     /**
      * Check if any table is available for a date/time slot
      */
     public boolean isSlotAvailable(LocalDate date, LocalTime time) {
-        Long bookedCount = bookingRepository.countBookingsForSlot(date, time.toString());
-        return bookedCount < TOTAL_TABLES;
+        return !allocationService.getAvailableTables(date, time.toString(), null).isEmpty();
+    }
+
+    /**
+     * Tables on the current store's floor plan
+     */
+    public int getTotalTables() {
+        return allocationService.getFloorPlan().getTables().size();
     }
 
     // ==================== CUSTOMER METHODS ====================
@@ -153,7 +106,7 @@ public class TableBookingService {
      * Get customer's bookings
      */
     public List<TableBooking> getCustomerBookings(Long customerId) {
-        return bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingTimeDesc(customerId);
+        return bookingRepository.findByCustomer_IdOrderByBookingDateDescBookingMinuteDesc(customerId);
     }
 
     /**
@@ -187,6 +140,7 @@ public class TableBookingService {
 
     // ==================== ADMIN METHODS ====================
 
+    @Transactional(readOnly = true)
     public List<TableBooking> getAllBookings() {
         return bookingRepository.findAll();
     }
@@ -199,6 +153,18 @@ public class TableBookingService {
         return bookingRepository.findByBookingDate(date);
     }
 
+    /**
+     * Bookings on a date starting from (inclusive) to (exclusive), e.g. 18:00-20:00
+     */
+    public List<TableBooking> getBookingsForTimeRange(LocalDate date, String from, String to) {
+        int fromMinute = from != null ? TableBooking.toMinuteOfDay(from) : 0;
+        int toMinute = to != null ? TableBooking.toMinuteOfDay(to) : 24 * 60;
+        if (fromMinute >= toMinute) {
+            throw new RuntimeException("'from' must be before 'to'");
+        }
+        return bookingRepository.findByDateAndMinuteRange(date, fromMinute, toMinute);
+    }
+
     public TableBooking getBookingById(Long bookingId) {
         return bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
@@ -219,6 +185,7 @@ public class TableBookingService {
         return savedBooking;
     }
 
+    @Transactional(readOnly = true)
     public Map<String, Object> getBookingStats() {
         Map<String, Object> stats = new HashMap<>();
 
@@ -229,10 +196,8 @@ public class TableBookingService {
         stats.put("completedBookings", bookingRepository.countByStatus(BookingStatus.COMPLETED));
         stats.put("cancelledBookings", bookingRepository.countByStatus(BookingStatus.CANCELLED));
 
-        // Today's bookings - only load today's data
-        LocalDate today = LocalDate.now();
-        List<TableBooking> todayBookings = bookingRepository.findByBookingDate(today);
-        stats.put("todayBookings", (long) todayBookings.size());
+        // Today's bookings - count only; past days are in the daily rollups
+        stats.put("todayBookings", bookingRepository.countByBookingDate(LocalDate.now()));
 
         return stats;
     }
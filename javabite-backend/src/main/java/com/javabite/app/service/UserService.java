@@ -1,11 +1,13 @@
 package com.javabite.app.service;
 
+import com.javabite.app.config.StoreContext;
 import com.javabite.app.model.Role;
 import com.javabite.app.model.User;
 import com.javabite.app.payload.CreateChefRequest;
 import com.javabite.app.payload.CreateWaiterRequest;
 import com.javabite.app.payload.SignupRequest;
 import com.javabite.app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +24,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%";
     private static final int PASSWORD_LENGTH = 12;
@@ -63,11 +65,11 @@ public class UserService {
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(password))
                 .role(Role.CHEF)
+                .storeId(StoreContext.getCurrentStoreId())
                 .enabled(true)
                 .build();
 
-        User saved = userRepository.save(chef);
-        saved.setPassword(password); // For response only (not saved to DB)
+        User saved = withPlainPassword(userRepository.saveAndFlush(chef), password);
 
         log.info("Chef created: {}", saved.getEmail());
         return saved;
@@ -89,16 +91,27 @@ public class UserService {
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(password))
                 .role(Role.WAITER)
+                .storeId(StoreContext.getCurrentStoreId())
+                .maxActiveOrders(1)  // Waiters can serve 1 table at a time
                 .enabled(true)
                 .build();
 
-        User saved = userRepository.save(waiter);
-        saved.setPassword(password); // For response only (not saved to DB)
+        User saved = withPlainPassword(userRepository.saveAndFlush(waiter), password);
 
         log.info("Waiter created: {}", saved.getEmail());
         return saved;
     }
 
+    /**
+     * Detach before putting the plain password on the returned user: on a managed
+     * entity dirty checking would write it over the hash at commit.
+     */
+    private User withPlainPassword(User saved, String password) {
+        entityManager.detach(saved);
+        saved.setPassword(password); // For response only (not saved to DB)
+        return saved;
+    }
+
     public User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -110,15 +123,11 @@ public class UserService {
     }
 
     public List<User> getAllChefs() {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == Role.CHEF)
-                .collect(Collectors.toList());
+        return userRepository.findByRoleAndStoreId(Role.CHEF, StoreContext.getCurrentStoreId());
     }
 
     public List<User> getAllWaiters() {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == Role.WAITER)
-                .collect(Collectors.toList());
+        return userRepository.findByRoleAndStoreId(Role.WAITER, StoreContext.getCurrentStoreId());
     }
 
     @Transactional
@@ -166,6 +175,7 @@ public class UserService {
                 .email(email)
                 .password(passwordEncoder.encode(java.util.UUID.randomUUID().toString())) // temp
                 .role(Role.CHEF)
+                .storeId(StoreContext.getCurrentStoreId())
                 .enabled(false)  // Not enabled until they accept
                 .invitationToken(token)
                 .invitationSentAt(java.time.LocalDateTime.now())
@@ -195,6 +205,7 @@ public class UserService {
                 .email(email)
                 .password(passwordEncoder.encode(java.util.UUID.randomUUID().toString())) // temp
                 .role(Role.WAITER)
+                .storeId(StoreContext.getCurrentStoreId())
                 .enabled(false)  // Not enabled until they accept
                 .invitationToken(token)
                 .invitationSentAt(java.time.LocalDateTime.now())
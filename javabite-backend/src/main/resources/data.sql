@@ -1,4 +0,0 @@
--- These tables will be auto-created by Hibernate
--- But verify they exist:
-SHOW TABLES;
--- Should see: users, orders, order_items, menu_items, table_bookings
\ No newline at end of file
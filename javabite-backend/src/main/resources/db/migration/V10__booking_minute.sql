@@ -0,0 +1,23 @@
+-- ============================================
+-- V10: Booking times as minute of day
+-- booking_minute = minutes since midnight (18:30 -> 1110). Slot lookups,
+-- time ranges and sorting use it; booking_time stays as the HH:mm display value.
+-- ============================================
+
+ALTER TABLE table_bookings ADD COLUMN booking_minute SMALLINT;
+
+UPDATE table_bookings
+SET booking_minute = HOUR(booking_time) * 60 + MINUTE(booking_time);
+
+ALTER TABLE table_bookings MODIFY booking_minute SMALLINT NOT NULL;
+ALTER TABLE table_bookings ADD CONSTRAINT chk_bookings_minute CHECK (booking_minute BETWEEN 0 AND 1439);
+
+-- Same shape as the old indexes with the integer in place of the string.
+-- The new ones are created first so the store/customer foreign keys always have an index.
+CREATE INDEX idx_bookings_store_date_minute ON table_bookings (store_id, booking_date, booking_minute, table_number, status);
+DROP INDEX idx_bookings_store_slot ON table_bookings;
+
+-- The customer booking counters (TableBookingRepository.summarizeForCustomer) also read
+-- refund_status, so it joins the history index and they never touch the table rows.
+CREATE INDEX idx_bookings_customer_history ON table_bookings (customer_id, booking_date, booking_minute, status, refund_status);
+DROP INDEX idx_bookings_customer_date ON table_bookings;
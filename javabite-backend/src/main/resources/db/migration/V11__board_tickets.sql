@@ -0,0 +1,37 @@
+-- ============================================
+-- V11: Chef/waiter board read model
+-- One flat row per open order (PENDING, PREPARING, READY) with everything
+-- the boards show, written by OrderService on every transition and removed
+-- when the order is COMPLETED or CANCELLED. Board reads are a single range
+-- scan on the (store, staff, status, created_at) indexes below.
+-- Rows are derived data: BoardTicketRebuilder refills them from orders at
+-- startup, so no backfill here.
+-- ============================================
+
+CREATE TABLE board_tickets (
+    order_id              BIGINT        NOT NULL,
+    store_id              BIGINT        NOT NULL,
+    status                VARCHAR(20)   NOT NULL,
+    chef_id               BIGINT,
+    chef_name             VARCHAR(255),
+    waiter_id             BIGINT,
+    waiter_name           VARCHAR(255),
+    customer_id           BIGINT,
+    customer_name         VARCHAR(255),
+    table_number          INT,
+    -- OrderItemResponse list as JSON, exactly as the boards render it
+    items_json            TEXT          NOT NULL,
+    subtotal              DECIMAL(10,2) NOT NULL,
+    tax                   DECIMAL(10,2) NOT NULL,
+    discount              DECIMAL(10,2) NOT NULL,
+    total                 DECIMAL(10,2) NOT NULL,
+    special_instructions  TEXT,
+    auto_assigned         BOOLEAN,
+    created_at            DATETIME(6)   NOT NULL,
+    updated_at            DATETIME(6),
+    ready_at              DATETIME(6),
+    PRIMARY KEY (order_id)
+);
+
+CREATE INDEX idx_board_tickets_chef ON board_tickets (store_id, chef_id, status, created_at);
+CREATE INDEX idx_board_tickets_waiter ON board_tickets (store_id, waiter_id, status, created_at);
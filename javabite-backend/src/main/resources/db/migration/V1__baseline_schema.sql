@@ -0,0 +1,163 @@
+-- ============================================
+-- V1: Baseline schema
+-- Matches what spring.jpa.hibernate.ddl-auto=update used to generate.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate)
+-- so only later migrations run against them.
+-- Enum columns are VARCHAR so new statuses don't need a schema change.
+-- ============================================
+
+CREATE TABLE users (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    name                   VARCHAR(255) NOT NULL,
+    email                  VARCHAR(255) NOT NULL,
+    password               VARCHAR(255) NOT NULL,
+    role                   VARCHAR(20)  NOT NULL,
+    enabled                BIT          NOT NULL,
+    max_active_orders      INT,
+    current_active_orders  INT,
+    is_available           BIT,
+    invitation_token       VARCHAR(255),
+    invitation_sent_at     DATETIME(6),
+    invitation_accepted_at DATETIME(6),
+    created_at             DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_invitation_token UNIQUE (invitation_token)
+);
+
+CREATE TABLE menu_items (
+    id          BIGINT         NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255)   NOT NULL,
+    description VARCHAR(500),
+    price       DECIMAL(10, 2) NOT NULL,
+    image_url   VARCHAR(255),
+    category    VARCHAR(20)    NOT NULL,
+    available   BIT            NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE table_bookings (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    customer_id         BIGINT       NOT NULL,
+    user_id             BIGINT       NOT NULL,
+    booking_date        DATE         NOT NULL,
+    booking_time        VARCHAR(255) NOT NULL,
+    number_of_guests    INT,
+    table_number        INT,
+    status              VARCHAR(20)  NOT NULL,
+    special_requests    VARCHAR(500),
+    created_at          DATETIME(6)  NOT NULL,
+    updated_at          DATETIME(6),
+    cancelled_at        DATETIME(6),
+    cancellation_reason VARCHAR(500),
+    cancelled_by        BIGINT,
+    refund_status       VARCHAR(20),
+    refund_amount       DECIMAL(10, 2),
+    refunded_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_table_bookings_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_table_bookings_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE orders (
+    id                     BIGINT         NOT NULL AUTO_INCREMENT,
+    customer_id            BIGINT         NOT NULL,
+    table_booking_id       BIGINT,
+    chef_id                BIGINT,
+    waiter_id              BIGINT,
+    status                 VARCHAR(20)    NOT NULL,
+    payment_status         VARCHAR(255),
+    payment_method         VARCHAR(255),
+    transaction_id         VARCHAR(255),
+    paid_at                DATETIME(6),
+    subtotal               DECIMAL(10, 2),
+    tax                    DECIMAL(10, 2),
+    discount               DECIMAL(10, 2),
+    special_instructions   VARCHAR(1000),
+    admin_notes            VARCHAR(1000),
+    auto_assigned          BIT,
+    created_at             DATETIME(6)    NOT NULL,
+    updated_at             DATETIME(6),
+    chef_assigned_at       DATETIME(6),
+    waiter_assigned_at     DATETIME(6),
+    preparation_started_at DATETIME(6),
+    ready_at               DATETIME(6),
+    served_at              DATETIME(6),
+    completed_at           DATETIME(6),
+    cancelled_at           DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_table_booking FOREIGN KEY (table_booking_id) REFERENCES table_bookings (id),
+    CONSTRAINT fk_orders_chef FOREIGN KEY (chef_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_waiter FOREIGN KEY (waiter_id) REFERENCES users (id)
+);
+
+CREATE TABLE order_items (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    order_id       BIGINT       NOT NULL,
+    menu_item_id   BIGINT       NOT NULL,
+    quantity       INT          NOT NULL,
+    price_at_order DOUBLE       NOT NULL,
+    notes          VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_items_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE feedback (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    order_id        BIGINT      NOT NULL,
+    customer_id     BIGINT      NOT NULL,
+    overall_rating  INT         NOT NULL,
+    food_rating     INT,
+    service_rating  INT,
+    ambiance_rating INT,
+    value_rating    INT,
+    comment         TEXT,
+    would_recommend BIT,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_feedback_order UNIQUE (order_id),
+    CONSTRAINT fk_feedback_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_feedback_customer FOREIGN KEY (customer_id) REFERENCES users (id)
+);
+
+CREATE TABLE password_reset_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    token      VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    used       BIT          NOT NULL,
+    used_at    DATETIME(6),
+    created_at DATETIME(6)  NOT NULL,
+    ip_address VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_tokens_token UNIQUE (token),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE chef_queue (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    order_id       BIGINT      NOT NULL,
+    chef_id        BIGINT      NOT NULL,
+    queue_position INT,
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_chef_queue_order UNIQUE (order_id),
+    CONSTRAINT fk_chef_queue_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_chef_queue_chef FOREIGN KEY (chef_id) REFERENCES users (id)
+);
+
+CREATE TABLE waiter_queue (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    order_id       BIGINT      NOT NULL,
+    waiter_id      BIGINT      NOT NULL,
+    queue_position INT,
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_waiter_queue_order UNIQUE (order_id),
+    CONSTRAINT fk_waiter_queue_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_waiter_queue_waiter FOREIGN KEY (waiter_id) REFERENCES users (id)
+);
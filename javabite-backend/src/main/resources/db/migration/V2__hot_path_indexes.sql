@@ -0,0 +1,24 @@
+-- ============================================
+-- V2: Composite indexes for the hot query paths
+-- ============================================
+
+-- Admin pending queue (status = ? AND chef_id IS NULL), chef boards (chef_id = ? AND status = ?)
+CREATE INDEX idx_orders_status_chef ON orders (status, chef_id);
+
+-- Waiter boards (waiter_id = ? AND status = ?)
+CREATE INDEX idx_orders_waiter_status ON orders (waiter_id, status);
+
+-- Orders for a table booking
+CREATE INDEX idx_orders_table_booking ON orders (table_booking_id);
+
+-- History pages sorted by created_at
+CREATE INDEX idx_orders_created_at ON orders (created_at);
+
+-- Slot availability (booking_date = ? AND booking_time = ? ...), per-table lookups
+CREATE INDEX idx_bookings_slot ON table_bookings (booking_date, booking_time, table_number, status);
+
+-- Password reset rate limit: ip_address = ? AND created_at > ?
+-- Equality column first so the created_at range stays inside one IP.
+CREATE INDEX idx_password_reset_ip_created ON password_reset_tokens (ip_address, created_at);
+
+-- feedback(order_id) is already covered by its unique key (uk_feedback_order).
@@ -0,0 +1,10 @@
+-- ============================================
+-- V3: Seed markers
+-- One row per startup seeder that has finished; seeders skip their checks once marked.
+-- ============================================
+
+CREATE TABLE seed_markers (
+    name       VARCHAR(100) NOT NULL,
+    applied_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+);
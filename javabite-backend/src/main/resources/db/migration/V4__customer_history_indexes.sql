@@ -0,0 +1,10 @@
+-- ============================================
+-- V4: Per-customer history pages and summary counters
+-- ============================================
+
+-- My orders page: customer_id = ? ORDER BY created_at DESC LIMIT ?
+CREATE INDEX idx_orders_customer_created ON orders (customer_id, created_at);
+
+-- Booking history page (customer_id = ? ORDER BY booking_date, booking_time DESC)
+-- and the per-customer booking counters, which only touch this index's columns plus status
+CREATE INDEX idx_bookings_customer_date ON table_bookings (customer_id, booking_date, booking_time, status);
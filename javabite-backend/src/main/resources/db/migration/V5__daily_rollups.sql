@@ -0,0 +1,41 @@
+-- ============================================
+-- V5: Daily rollups
+-- One row per closed business day, written by the end-of-day close job
+-- (DailyCloseScheduler) and by POST /api/admin/rollups/backfill.
+-- ============================================
+
+CREATE TABLE daily_rollups (
+    business_date       DATE           NOT NULL,
+
+    -- Orders created that day, by current status
+    orders_total        INT            NOT NULL,
+    orders_pending      INT            NOT NULL,
+    orders_preparing    INT            NOT NULL,
+    orders_ready        INT            NOT NULL,
+    orders_served       INT            NOT NULL,
+    orders_completed    INT            NOT NULL,
+    orders_cancelled    INT            NOT NULL,
+
+    -- Money over non-cancelled orders created that day
+    gross_sales         DECIMAL(12, 2) NOT NULL,
+    tax_total           DECIMAL(12, 2) NOT NULL,
+    discount_total      DECIMAL(12, 2) NOT NULL,
+    net_sales           DECIMAL(12, 2) NOT NULL,
+    avg_ticket          DECIMAL(10, 2) NOT NULL,
+
+    -- Bookings for that day, by status
+    bookings_total      INT            NOT NULL,
+    bookings_completed  INT            NOT NULL,
+    bookings_cancelled  INT            NOT NULL,
+    bookings_no_show    INT            NOT NULL,
+
+    -- Refunds completed that day
+    refunds_count       INT            NOT NULL,
+    refunds_amount      DECIMAL(12, 2) NOT NULL,
+
+    -- Preparation started -> ready, for orders that became ready that day
+    avg_prep_seconds    BIGINT,
+
+    closed_at           DATETIME(6)    NOT NULL,
+    PRIMARY KEY (business_date)
+);
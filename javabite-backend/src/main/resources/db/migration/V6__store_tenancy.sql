@@ -0,0 +1,97 @@
+-- ============================================
+-- V6: Multi-store tenancy
+-- Every shop is a row in stores; core tables carry store_id (existing data
+-- becomes store 1) and their hot-path indexes lead with it, so each store's
+-- rows form their own index range.
+-- ============================================
+
+CREATE TABLE stores (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    code         VARCHAR(50)  NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    total_tables INT          NOT NULL,
+    active       BIT          NOT NULL,
+    created_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_stores_code UNIQUE (code)
+);
+
+INSERT INTO stores (id, code, name, total_tables, active, created_at)
+VALUES (1, 'main', 'JavaBite Coffee', 20, 1, CURRENT_TIMESTAMP);
+
+-- Orders
+ALTER TABLE orders ADD COLUMN store_id BIGINT NOT NULL DEFAULT 1;
+DROP INDEX idx_orders_status_chef ON orders;
+DROP INDEX idx_orders_created_at ON orders;
+CREATE INDEX idx_orders_store_status_chef ON orders (store_id, status, chef_id);
+CREATE INDEX idx_orders_store_created ON orders (store_id, created_at);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+-- Bookings
+ALTER TABLE table_bookings ADD COLUMN store_id BIGINT NOT NULL DEFAULT 1;
+DROP INDEX idx_bookings_slot ON table_bookings;
+CREATE INDEX idx_bookings_store_slot ON table_bookings (store_id, booking_date, booking_time, table_number, status);
+ALTER TABLE table_bookings ADD CONSTRAINT fk_table_bookings_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+-- Menu
+ALTER TABLE menu_items ADD COLUMN store_id BIGINT NOT NULL DEFAULT 1;
+CREATE INDEX idx_menu_items_store_category ON menu_items (store_id, category, available);
+ALTER TABLE menu_items ADD CONSTRAINT fk_menu_items_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+-- Feedback
+ALTER TABLE feedback ADD COLUMN store_id BIGINT NOT NULL DEFAULT 1;
+CREATE INDEX idx_feedback_store_created ON feedback (store_id, created_at);
+ALTER TABLE feedback ADD CONSTRAINT fk_feedback_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+-- Assignment queues
+ALTER TABLE chef_queue ADD COLUMN store_id BIGINT NOT NULL DEFAULT 1;
+CREATE INDEX idx_chef_queue_store_position ON chef_queue (store_id, queue_position);
+ALTER TABLE chef_queue ADD CONSTRAINT fk_chef_queue_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+ALTER TABLE waiter_queue ADD COLUMN store_id BIGINT NOT NULL DEFAULT 1;
+CREATE INDEX idx_waiter_queue_store_position ON waiter_queue (store_id, queue_position);
+ALTER TABLE waiter_queue ADD CONSTRAINT fk_waiter_queue_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+-- Staff belong to one store; customers and admins stay store-less (NULL)
+ALTER TABLE users ADD COLUMN store_id BIGINT;
+UPDATE users SET store_id = 1 WHERE role IN ('CHEF', 'WAITER');
+CREATE INDEX idx_users_store_role ON users (store_id, role, enabled);
+ALTER TABLE users ADD CONSTRAINT fk_users_store FOREIGN KEY (store_id) REFERENCES stores (id);
+
+-- Rollups are derived data: rebuilt per store by the close job on its next run
+DROP TABLE daily_rollups;
+
+CREATE TABLE daily_rollups (
+    id                  BIGINT         NOT NULL AUTO_INCREMENT,
+    store_id            BIGINT         NOT NULL,
+    business_date       DATE           NOT NULL,
+
+    orders_total        INT            NOT NULL,
+    orders_pending      INT            NOT NULL,
+    orders_preparing    INT            NOT NULL,
+    orders_ready        INT            NOT NULL,
+    orders_served       INT            NOT NULL,
+    orders_completed    INT            NOT NULL,
+    orders_cancelled    INT            NOT NULL,
+
+    gross_sales         DECIMAL(12, 2) NOT NULL,
+    tax_total           DECIMAL(12, 2) NOT NULL,
+    discount_total      DECIMAL(12, 2) NOT NULL,
+    net_sales           DECIMAL(12, 2) NOT NULL,
+    avg_ticket          DECIMAL(10, 2) NOT NULL,
+
+    bookings_total      INT            NOT NULL,
+    bookings_completed  INT            NOT NULL,
+    bookings_cancelled  INT            NOT NULL,
+    bookings_no_show    INT            NOT NULL,
+
+    refunds_count       INT            NOT NULL,
+    refunds_amount      DECIMAL(12, 2) NOT NULL,
+
+    avg_prep_seconds    BIGINT,
+
+    closed_at           DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_rollups_store_date UNIQUE (store_id, business_date),
+    CONSTRAINT fk_daily_rollups_store FOREIGN KEY (store_id) REFERENCES stores (id)
+);
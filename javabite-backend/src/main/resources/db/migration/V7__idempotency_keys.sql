@@ -0,0 +1,25 @@
+-- ============================================
+-- V7: Idempotency keys
+-- Remembers the response to a customer's POST /api/orders or
+-- POST /api/bookings/create per Idempotency-Key header, so a retried
+-- request replays it instead of creating a second order/booking.
+-- Rows expire after app.idempotency.ttl-hours and are purged hourly.
+-- ============================================
+
+CREATE TABLE idempotency_keys (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    scope            VARCHAR(32)  NOT NULL,
+    idempotency_key  VARCHAR(100) NOT NULL,
+    request_hash     CHAR(64)     NOT NULL,
+    -- NULL while the first request is still running
+    response_status  INT,
+    response_body    TEXT,
+    created_at       DATETIME(6)  NOT NULL,
+    expires_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_user_scope_key UNIQUE (user_id, scope, idempotency_key),
+    CONSTRAINT fk_idempotency_keys_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
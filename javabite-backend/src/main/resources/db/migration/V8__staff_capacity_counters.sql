@@ -0,0 +1,22 @@
+-- ============================================
+-- V8: Staff capacity counters
+-- current_active_orders is now changed only by single conditional UPDATEs
+-- (StaffCapacityService), which need non-NULL operands to compare against.
+-- ============================================
+
+UPDATE users SET current_active_orders = 0
+WHERE current_active_orders IS NULL OR current_active_orders < 0;
+
+UPDATE users SET max_active_orders = CASE role
+    WHEN 'ADMIN' THEN 999
+    WHEN 'CHEF' THEN 10
+    WHEN 'WAITER' THEN 1
+    ELSE 5
+END
+WHERE max_active_orders IS NULL;
+
+UPDATE users SET is_available = 1 WHERE is_available IS NULL;
+
+ALTER TABLE users MODIFY current_active_orders INT NOT NULL DEFAULT 0;
+ALTER TABLE users MODIFY max_active_orders INT NOT NULL;
+ALTER TABLE users ADD CONSTRAINT chk_users_active_orders CHECK (current_active_orders >= 0);
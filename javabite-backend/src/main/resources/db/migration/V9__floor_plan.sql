@@ -0,0 +1,24 @@
+-- ============================================
+-- V9: Floor plan
+-- Each store's tables with seat counts and zones. combinable_with names the
+-- neighbouring table that can be pushed together with this one for a bigger
+-- party; such bookings hold both tables (joined_table_number).
+-- No rows are seeded: a store without a plan keeps its total_tables
+-- four-seaters until an admin uploads one.
+-- ============================================
+
+CREATE TABLE dining_tables (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    store_id        BIGINT      NOT NULL,
+    table_number    INT         NOT NULL,
+    seats           INT         NOT NULL,
+    zone            VARCHAR(50) NOT NULL,
+    combinable_with INT,
+    active          BIT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_dining_tables_store_number UNIQUE (store_id, table_number),
+    CONSTRAINT chk_dining_tables_seats CHECK (seats > 0),
+    CONSTRAINT fk_dining_tables_store FOREIGN KEY (store_id) REFERENCES stores (id)
+);
+
+ALTER TABLE table_bookings ADD COLUMN joined_table_number INT;
@@ -0,0 +1,82 @@
+package com.javabite.app;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end smoke checks over HTTP: JPA, Jackson payloads and the security chain.
+ * Tagged "native": left out of a plain mvn test, run as a native image with mvn -PnativeTest test.
+ */
+@Tag("native")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class NativeSmokeTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void healthIsUp() {
+        ResponseEntity<Map> response = rest.getForEntity("/actuator/health", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("status", "UP");
+    }
+
+    @Test
+    void publicMenuIsServedFromSeedData() {
+        ResponseEntity<Map> response = rest.getForEntity("/api/menu", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("success", true);
+        assertThat((List<?>) response.getBody().get("data")).isNotEmpty();
+    }
+
+    @Test
+    void protectedEndpointRequiresLogin() {
+        ResponseEntity<Map> response = rest.getForEntity("/api/orders/my-orders", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody()).containsEntry("success", false);
+    }
+
+    @Test
+    void loginCreatesSessionForCurrentUser() {
+        ResponseEntity<Map> login = rest.postForEntity("/api/auth/login",
+                Map.of("email", "customer@javabite.com", "password", "customer123"), Map.class);
+
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String sessionCookie = login.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertThat(sessionCookie).contains("JSESSIONID");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, sessionCookie.split(";")[0]);
+        ResponseEntity<Map> me = rest.exchange("/api/auth/me", HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+
+        assertThat(me.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(((Map<?, ?>) me.getBody().get("data")).get("email")).isEqualTo("customer@javabite.com");
+    }
+
+    @Test
+    void signupAcceptsNewCustomer() {
+        ResponseEntity<Map> response = rest.postForEntity("/api/auth/signup",
+                Map.of("name", "Smoke Test", "email", "smoke@javabite.com", "password", "smoke123"), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("success", true);
+    }
+}
@@ -0,0 +1,111 @@
+package com.javabite.app.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The app with replica routing on. Primary and replica are the same in-memory H2
+ * database, reached as different users: the replica pool logs in as REPLICA, which
+ * may only read, so CURRENT_USER shows where a transaction was routed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.URL,
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:routing",
+        "app.datasource.replica.username=replica",
+        "app.datasource.replica.password=replica",
+        "app.datasource.replica.health-check-interval-ms=0"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    // The replica URL carries no settings: a user without admin rights may not change them
+    static final String URL = "jdbc:h2:mem:routing;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    static {
+        // The replica pool connects during startup, before any test method runs
+        try (Connection con = DriverManager.getConnection(URL, "sa", "");
+             Statement st = con.createStatement()) {
+            st.execute("CREATE USER IF NOT EXISTS replica PASSWORD 'replica'");
+            st.execute("GRANT SELECT ON SCHEMA PUBLIC TO replica");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser
+    void writeAfterReadInOneRequestReachesThePrimary() throws Exception {
+        mockMvc.perform(post("/test/read-then-write"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read").value("REPLICA"))
+                .andExpect(jsonPath("$.write").value("SA"));
+    }
+
+    @TestConfiguration
+    static class ReadThenWrite {
+
+        @Bean
+        ReadThenWriteController readThenWriteController(PlatformTransactionManager transactionManager,
+                                                        JdbcTemplate jdbcTemplate) {
+            return new ReadThenWriteController(transactionManager, jdbcTemplate);
+        }
+    }
+
+    /**
+     * A request that reads in a read-only transaction, then writes in a second one
+     */
+    @RestController
+    static class ReadThenWriteController {
+
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+        private final JdbcTemplate jdbcTemplate;
+
+        ReadThenWriteController(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @PostMapping("/test/read-then-write")
+        Map<String, String> readThenWrite() {
+            String read = readOnly.execute(status -> currentUser());
+            String write = readWrite.execute(status -> {
+                jdbcTemplate.update("UPDATE stores SET name = name WHERE id = ?", StoreContext.DEFAULT_STORE_ID);
+                return currentUser();
+            });
+            return Map.of("read", read, "write", write);
+        }
+
+        private String currentUser() {
+            return jdbcTemplate.queryForObject("SELECT CURRENT_USER", String.class);
+        }
+    }
+}
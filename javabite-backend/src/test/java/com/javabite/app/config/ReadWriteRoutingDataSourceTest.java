@@ -0,0 +1,80 @@
+package com.javabite.app.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for the MySQL primary and replica;
+ * each holds a marker row so the test can see where a query was routed.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routing;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (routing != null) {
+            routing.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        routing = new ReadWriteRoutingDataSource(database("rw_primary"), database("rw_replica"), 0, null, 0);
+
+        assertThat(whereAmI(true)).isEqualTo("rw_replica");
+        assertThat(whereAmI(false)).isEqualTo("rw_primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        DriverManagerDataSource deadReplica = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/nowhere");
+        routing = new ReadWriteRoutingDataSource(database("down_primary"), deadReplica, 0, null, 0);
+
+        assertThat(whereAmI(true)).isEqualTo("down_primary");
+        assertThat(routing.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void staleReplicaIsSkippedUntilItCatchesUp() {
+        DataSource replica = database("lag_replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (Seconds_Behind_Source BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (30)");
+
+        routing = new ReadWriteRoutingDataSource(database("lag_primary"), replica,
+                10, "SELECT Seconds_Behind_Source FROM replica_status", 0);
+
+        routing.checkReplica();
+        assertThat(routing.isReplicaAvailable()).isFalse();
+        assertThat(whereAmI(true)).isEqualTo("lag_primary");
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET Seconds_Behind_Source = 2");
+        routing.checkReplica();
+        assertThat(routing.isReplicaAvailable()).isTrue();
+        assertThat(whereAmI(true)).isEqualTo("lag_replica");
+    }
+
+    private String whereAmI(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> new JdbcTemplate(routing).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(50))");
+        jdbc.update("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,123 @@
+package com.javabite.app.datagen;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Small volumes of the production-sized generator: the shape of the data, and that a
+ * seed reproduces the same rows whatever the batching and threading.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DatasetGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<DatasetReport> generated = new ArrayList<>();
+
+    @AfterEach
+    void removeGeneratedRows() {
+        generated.forEach(generator::remove);
+    }
+
+    @Test
+    void generatesTheRequestedHistory() {
+        DatasetReport report = generate(new DatasetSpec(200, 300, 500, 50, 90, 42, 64, 4, 1, false));
+
+        assertThat(report.customers()).isEqualTo(200);
+        assertThat(report.bookings()).isEqualTo(300);
+        assertThat(report.orders()).isEqualTo(500);
+        assertThat(report.orderItems()).isBetween(500L, 2500L);
+        assertThat(report.feedback()).isBetween(30L, 50L);
+        assertThat(count("SELECT COUNT(*) FROM order_items WHERE order_id >= ?", report.firstOrderId()))
+                .isEqualTo(report.orderItems());
+
+        // Bookings: past days only, on the quarter hour within opening hours
+        Map<String, Object> bookings = jdbcTemplate.queryForMap("SELECT MIN(booking_date) AS first_day, "
+                + "MAX(booking_date) AS last_day, MIN(booking_minute) AS first_minute, MAX(booking_minute) AS last_minute, "
+                + "SUM(MOD(booking_minute, 15)) AS off_quarter FROM table_bookings WHERE id >= ?", report.firstBookingId());
+        assertThat(((Date) bookings.get("FIRST_DAY")).toLocalDate()).isAfterOrEqualTo(LocalDate.now().minusDays(90));
+        assertThat(((Date) bookings.get("LAST_DAY")).toLocalDate()).isBefore(LocalDate.now());
+        assertThat(((Number) bookings.get("FIRST_MINUTE")).intValue()).isGreaterThanOrEqualTo(7 * 60);
+        assertThat(((Number) bookings.get("LAST_MINUTE")).intValue()).isLessThanOrEqualTo(21 * 60 + 45);
+        assertThat(((Number) bookings.get("OFF_QUARTER")).intValue()).isZero();
+
+        // Orders belong to generated bookings and customers, and price like OrderService does
+        assertThat(count("SELECT COUNT(*) FROM orders o JOIN table_bookings b ON b.id = o.table_booking_id "
+                + "WHERE o.id >= ? AND b.id >= ? AND b.customer_id = o.customer_id AND o.created_at >= b.booking_date",
+                report.firstOrderId(), report.firstBookingId())).isEqualTo(500);
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE id >= ? AND tax <> ROUND(subtotal * 0.10, 2)",
+                report.firstOrderId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM order_items i JOIN menu_items m ON m.id = i.menu_item_id "
+                + "WHERE i.order_id >= ? AND i.price_at_order <> m.price", report.firstOrderId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE id >= ? AND status = 'COMPLETED'", report.firstOrderId()))
+                .isGreaterThan(400);
+
+        // Most traffic lands in the lunch and dinner peaks
+        assertThat(count("SELECT COUNT(*) FROM table_bookings WHERE id >= ? AND (booking_minute BETWEEN 690 AND 870 "
+                + "OR booking_minute BETWEEN 1020 AND 1260)", report.firstBookingId())).isGreaterThan(150);
+
+        // Feedback only on completed orders, by their customer
+        assertThat(count("SELECT COUNT(*) FROM feedback f JOIN orders o ON o.id = f.order_id "
+                + "WHERE f.order_id >= ? AND (o.status <> 'COMPLETED' OR o.customer_id <> f.customer_id)",
+                report.firstOrderId())).isZero();
+    }
+
+    @Test
+    void sameSeedGivesTheSameRowsWhateverTheBatching() {
+        DatasetReport parallel = generate(new DatasetSpec(50, 80, 120, 20, 30, 7, 16, 4, 1, false));
+        Map<String, Object> first = fingerprint(parallel);
+        DatasetReport serial = generate(new DatasetSpec(50, 80, 120, 20, 30, 7, 1000, 1, 1, false));
+
+        assertThat(fingerprint(serial)).isEqualTo(first);
+        assertThat(serial.orderItems()).isEqualTo(parallel.orderItems());
+        assertThat(serial.feedback()).isEqualTo(parallel.feedback());
+
+        DatasetReport otherSeed = generate(new DatasetSpec(50, 80, 120, 20, 30, 8, 16, 4, 1, false));
+        assertThat(fingerprint(otherSeed)).isNotEqualTo(first);
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private DatasetReport generate(DatasetSpec spec) {
+        DatasetReport report = generator.generate(spec);
+        generated.add(report);
+        return report;
+    }
+
+    /**
+     * Content of one run with its id offsets taken out, so two runs can be compared
+     */
+    private Map<String, Object> fingerprint(DatasetReport report) {
+        return jdbcTemplate.queryForMap("SELECT "
+                        + "(SELECT SUM(subtotal) FROM orders WHERE id >= ?) AS subtotal, "
+                        + "(SELECT SUM(customer_id - ?) FROM orders WHERE id >= ?) AS order_customers, "
+                        + "(SELECT COUNT(*) FROM orders WHERE id >= ? AND status = 'CANCELLED') AS cancelled, "
+                        + "(SELECT SUM(booking_minute + number_of_guests) FROM table_bookings WHERE id >= ?) AS slots, "
+                        + "(SELECT SUM(overall_rating) FROM feedback WHERE order_id >= ?) AS ratings",
+                report.firstOrderId(), report.firstCustomerId(), report.firstOrderId(), report.firstOrderId(),
+                report.firstBookingId(), report.firstOrderId());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
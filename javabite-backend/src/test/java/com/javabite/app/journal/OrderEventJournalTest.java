@@ -0,0 +1,145 @@
+package com.javabite.app.journal;
+
+import com.javabite.app.model.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderEventJournalTest {
+
+    private static final int SEGMENT_RECORDS = 4;
+
+    @TempDir
+    Path dir;
+
+    private OrderEventJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void appendedEventsReplayInOrderAcrossSegments() {
+        journal = open();
+        for (long order = 1; order <= 10; order++) {
+            assertThat(journal.append(event(OrderEventType.CREATED, order, OrderStatus.PENDING))).isEqualTo(order);
+        }
+
+        assertThat(journal.getSegmentCount()).isEqualTo(3);
+
+        List<Long> orders = new ArrayList<>();
+        long replayed = journal.replay(3, 9, view -> {
+            assertThat(view.getSequence()).isEqualTo(view.getOrderId());
+            assertThat(view.getType()).isEqualTo(OrderEventType.CREATED);
+            assertThat(view.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(view.getStoreId()).isEqualTo(1);
+            assertThat(view.getAmountCents()).isEqualTo(450);
+            orders.add(view.getOrderId());
+        });
+
+        assertThat(replayed).isEqualTo(7);
+        assertThat(orders).containsExactly(3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    void projectionFollowsOrdersThroughTheirLifecycle() {
+        journal = open();
+        journal.append(event(OrderEventType.CREATED, 1, OrderStatus.PENDING));
+        journal.append(event(OrderEventType.CREATED, 2, OrderStatus.PENDING));
+        journal.append(event(OrderEventType.PREPARATION_STARTED, 1, OrderStatus.PREPARING));
+        journal.append(event(OrderEventType.READY, 1, OrderStatus.READY));
+        journal.append(event(OrderEventType.COMPLETED, 1, OrderStatus.COMPLETED));
+        journal.append(event(OrderEventType.REFUNDED, 1, OrderStatus.COMPLETED));
+        journal.append(event(OrderEventType.CANCELLED, 2, OrderStatus.CANCELLED));
+
+        assertThat(journal.getOpenOrders()).isZero();
+        assertThat(journal.describeStore(1))
+                .containsEntry("PENDING", 0L)
+                .containsEntry("READY", 0L)
+                .containsEntry("COMPLETED", 1L)
+                .containsEntry("CANCELLED", 1L)
+                .containsEntry("REFUNDED", 1L);
+    }
+
+    @Test
+    void reopeningContinuesTheSequenceFromTheSnapshot() {
+        journal = open();
+        for (long order = 1; order <= 6; order++) {
+            journal.append(event(OrderEventType.CREATED, order, OrderStatus.PENDING));
+        }
+        journal.snapshot();
+        assertThat(journal.getLastSnapshotSequence()).isEqualTo(6);
+        journal.append(event(OrderEventType.CANCELLED, 1, OrderStatus.CANCELLED));
+        journal.close();
+
+        journal = open();
+
+        // close() snapshots again, so nothing is left to replay
+        assertThat(journal.getLastSnapshotSequence()).isEqualTo(7);
+        assertThat(journal.getLastSequence()).isEqualTo(7);
+        assertThat(journal.getOpenOrders()).isEqualTo(5);
+        assertThat(journal.append(event(OrderEventType.CREATED, 8, OrderStatus.PENDING))).isEqualTo(8);
+        assertThat(journal.describeStore(1)).containsEntry("PENDING", 6L).containsEntry("CANCELLED", 1L);
+    }
+
+    @Test
+    void tornRecordAtTheTailIsDroppedOnRecovery() throws IOException {
+        journal = open();
+        for (long order = 1; order <= 6; order++) {
+            journal.append(event(OrderEventType.CREATED, order, OrderStatus.PENDING));
+        }
+        journal.close();
+        journal = null;
+
+        // Flip a byte inside the last record of the active segment (sequence 6, second slot)
+        Path active;
+        try (Stream<Path> files = Files.list(dir)) {
+            active = files.filter(file -> file.toString().endsWith(".seg")).sorted().reduce((a, b) -> b).orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(active.toFile(), "rw")) {
+            long offset = OrderEventView.RECORD_SIZE + OrderEventView.ORDER_ID;
+            file.seek(offset);
+            file.writeByte(file.readByte() ^ 0x7F);
+        }
+        journal = open();
+
+        // The snapshot taken on close covers the lost event, so it is skipped too
+        assertThat(journal.getLastSequence()).isEqualTo(5);
+        assertThat(journal.getLastSnapshotSequence()).isZero();
+        assertThat(journal.getOpenOrders()).isEqualTo(5);
+        assertThat(journal.append(event(OrderEventType.CREATED, 6, OrderStatus.PENDING))).isEqualTo(6);
+    }
+
+    @Test
+    void refusesARelativeOrMissingDirectory() {
+        assertThatThrownBy(() -> new OrderEventJournal("data/journal", SEGMENT_RECORDS, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.journal.dir");
+        assertThatThrownBy(() -> new OrderEventJournal("", SEGMENT_RECORDS, false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private OrderEventJournal open() {
+        OrderEventJournal opened = new OrderEventJournal(dir.toString(), SEGMENT_RECORDS, false);
+        opened.open();
+        return opened;
+    }
+
+    private static OrderJournalEvent event(OrderEventType type, long orderId, OrderStatus status) {
+        return new OrderJournalEvent(type, System.currentTimeMillis(), 1, orderId, status, 0, 0, 450);
+    }
+}
@@ -0,0 +1,48 @@
+package com.javabite.app.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Shape of a lunch-rush run, read from -Dloadtest.* system properties:
+ *
+ *   duration-seconds    how long new customers keep arriving (default 60)
+ *   arrivals-per-second mean customer arrival rate, Poisson arrivals (default 2)
+ *   chefs, waiters      staff virtual users working the boards (default 4 and 3)
+ *   poll-ms             how often staff, admin and waiting customers poll (default 500)
+ *   prep-ms             time a chef spends between start and ready (default 300)
+ *   max-items           items per order, 1 to max-items picked at random (default 3)
+ *   feedback-ratio      share of customers who leave feedback (default 0.5)
+ *   customer-timeout-seconds  how long a customer waits for their order (default 60)
+ *   max-error-rate      5xx and transport failures allowed, 0..1 (default 0.01)
+ */
+record LoadProfile(Duration duration,
+                   double arrivalsPerSecond,
+                   int chefs,
+                   int waiters,
+                   Duration pollInterval,
+                   Duration prepTime,
+                   int maxItemsPerOrder,
+                   double feedbackRatio,
+                   Duration customerTimeout,
+                   double maxErrorRate) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Double.parseDouble(System.getProperty("loadtest.arrivals-per-second", "2")),
+                Integer.getInteger("loadtest.chefs", 4),
+                Integer.getInteger("loadtest.waiters", 3),
+                Duration.ofMillis(Long.getLong("loadtest.poll-ms", 500)),
+                Duration.ofMillis(Long.getLong("loadtest.prep-ms", 300)),
+                Integer.getInteger("loadtest.max-items", 3),
+                Double.parseDouble(System.getProperty("loadtest.feedback-ratio", "0.5")),
+                Duration.ofSeconds(Long.getLong("loadtest.customer-timeout-seconds", 60)),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%ds at %.1f customers/s, %d chefs, %d waiters, poll %dms, prep %dms",
+                duration.toSeconds(), arrivalsPerSecond, chefs, waiters, pollInterval.toMillis(), prepTime.toMillis());
+    }
+}
@@ -0,0 +1,121 @@
+package com.javabite.app.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint results of a load run. Latencies are kept raw (a run is at most a few
+ * hundred thousand requests) so the percentiles are exact.
+ *
+ * Outcomes: ok (2xx), rejected (4xx, a business answer such as "chef is busy") and
+ * error (5xx or no response at all). Only errors count against the run.
+ */
+class LoadStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> events = new ConcurrentHashMap<>();
+
+    void record(String endpoint, int status, long nanos) {
+        endpoints.computeIfAbsent(endpoint, name -> new Endpoint()).add(status, nanos);
+    }
+
+    /**
+     * Count something that is not a request, e.g. a completed customer journey
+     */
+    void count(String event) {
+        events.computeIfAbsent(event, name -> new AtomicLong()).incrementAndGet();
+    }
+
+    long events(String event) {
+        AtomicLong count = events.get(event);
+        return count != null ? count.get() : 0;
+    }
+
+    long totalRequests() {
+        return endpoints.values().stream().mapToLong(Endpoint::count).sum();
+    }
+
+    double errorRate() {
+        long total = totalRequests();
+        long errors = endpoints.values().stream().mapToLong(Endpoint::errors).sum();
+        return total > 0 ? (double) errors / total : 0;
+    }
+
+    String report(double seconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-42s %8s %8s %6s %6s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "req/s", "rej%", "err%", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> {
+            long[] sorted;
+            long rejected;
+            long errors;
+            synchronized (endpoint) {
+                sorted = endpoint.sortedLatencies();
+                rejected = endpoint.rejected;
+                errors = endpoint.errors;
+            }
+            out.append(String.format("%-42s %8d %8.1f %6.2f %6.2f %8.1f %8.1f %8.1f %8.1f%n",
+                    name, sorted.length, sorted.length / seconds,
+                    percent(rejected, sorted.length), percent(errors, sorted.length),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                    millis(percentile(sorted, 0.99)), millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0)));
+        });
+        out.append(String.format("total: %d requests in %.1fs (%.1f req/s), error rate %.2f%%%n",
+                totalRequests(), seconds, totalRequests() / seconds, errorRate() * 100));
+        new TreeMap<>(events).forEach((name, count) -> out.append(String.format("%s: %d%n", name, count.get())));
+        return out.toString();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double percent(long part, long total) {
+        return total > 0 ? 100.0 * part / total : 0;
+    }
+
+    private static class Endpoint {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long rejected;
+        private long errors;
+
+        synchronized void add(int status, long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (status >= 500 || status < 0) {
+                errors++;
+            } else if (status >= 400) {
+                rejected++;
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.javabite.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The lunch-rush scenario: the signup → login → book → order → chef start/ready →
+ * waiter serve → feedback flow, driven over HTTP by virtual users.
+ *
+ * Customers arrive as an open Poisson stream at the profile's rate, each running the
+ * whole journey once. Chefs and waiters are closed-loop users polling their boards,
+ * and one admin dispatches pending orders and polls the dashboard like an admin tab.
+ */
+class LunchRush {
+
+    private static final String PASSWORD = "loadtest";
+    private static final Duration DASHBOARD_POLL = Duration.ofSeconds(5);
+
+    private final String baseUrl;
+    private final LoadProfile profile;
+    private final LoadStats stats;
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final List<Long> chefIds = new ArrayList<>();
+    private final List<Long> waiterIds = new ArrayList<>();
+    private final List<Long> menuItemIds = new ArrayList<>();
+    private final Set<Long> dispatched = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger customerSeq = new AtomicInteger();
+    private volatile boolean staffOnShift = true;
+
+    LunchRush(String baseUrl, LoadProfile profile, LoadStats stats) {
+        this.baseUrl = baseUrl;
+        this.profile = profile;
+        this.stats = stats;
+    }
+
+    /**
+     * Run the rush to the end (arrivals, then the last customers finishing). Returns seconds elapsed.
+     */
+    double run() throws InterruptedException {
+        VirtualUser admin = new VirtualUser(baseUrl, stats);
+        require(admin.login("admin@javabite.com", "admin123"), "admin login");
+        hireStaff(admin);
+        for (JsonNode item : require(admin.get("GET /api/menu", "/api/menu"), "menu").data()) {
+            menuItemIds.add(item.get("id").asLong());
+        }
+
+        ExecutorService staff = Executors.newFixedThreadPool(chefIds.size() + waiterIds.size() + 1);
+        ExecutorService customers = Executors.newCachedThreadPool();
+        long started = System.nanoTime();
+
+        staff.submit(() -> dispatch(admin));
+        for (int i = 0; i < chefIds.size(); i++) {
+            VirtualUser chef = staffMember("chef", i);
+            staff.submit(() -> cook(chef));
+        }
+        for (int i = 0; i < waiterIds.size(); i++) {
+            VirtualUser waiter = staffMember("waiter", i);
+            staff.submit(() -> serve(waiter));
+        }
+
+        long arrivalsEnd = started + profile.duration().toNanos();
+        while (System.nanoTime() < arrivalsEnd) {
+            // Exponential gaps between arrivals: a Poisson stream at the configured rate
+            double gapSeconds = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) / profile.arrivalsPerSecond();
+            Thread.sleep((long) (gapSeconds * 1000));
+            customers.submit(this::customerJourney);
+        }
+
+        customers.shutdown();
+        customers.awaitTermination(profile.customerTimeout().toSeconds() + 30, TimeUnit.SECONDS);
+        staffOnShift = false;
+        staff.shutdown();
+        staff.awaitTermination(30, TimeUnit.SECONDS);
+        return (System.nanoTime() - started) / 1_000_000_000.0;
+    }
+
+    // ============================================
+    // VIRTUAL USERS
+    // ============================================
+
+    private void customerJourney() {
+        stats.count("customers.arrived");
+        int n = customerSeq.incrementAndGet();
+        String email = "guest-" + runId + "-" + n + "@javabite.test";
+        VirtualUser customer = new VirtualUser(baseUrl, stats);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (!customer.post("POST /api/auth/signup", "/api/auth/signup",
+                Map.of("name", "Guest " + n, "email", email, "password", PASSWORD)).ok()
+                || !customer.login(email, PASSWORD).ok()) {
+            stats.count("customers.failed-login");
+            return;
+        }
+        customer.get("GET /api/menu", "/api/menu");
+
+        VirtualUser.Response booking = customer.post("POST /api/bookings/create", "/api/bookings/create", Map.of(
+                "bookingDate", LocalDate.now().plusDays(random.nextInt(1, 61)).toString(),
+                "bookingTime", String.format("%02d:%02d", random.nextInt(11, 22), random.nextBoolean() ? 0 : 30),
+                "numberOfGuests", random.nextInt(1, 5)));
+        if (!booking.ok()) {
+            stats.count("customers.no-table");
+            return;
+        }
+
+        VirtualUser.Response order = customer.post("POST /api/orders", "/api/orders", Map.of(
+                "tableBookingId", booking.data().get("id").asLong(),
+                "items", randomItems(random),
+                "paymentMethod", random.nextBoolean() ? "CARD" : "CASH"));
+        if (!order.ok()) {
+            stats.count("customers.order-failed");
+            return;
+        }
+        long orderId = order.data().get("id").asLong();
+
+        // Watch the order like the customer page does, until it is served
+        long deadline = System.nanoTime() + profile.customerTimeout().toNanos();
+        boolean served = false;
+        while (!served && System.nanoTime() < deadline) {
+            pause();
+            VirtualUser.Response status = customer.get("GET /api/orders/{id}", "/api/orders/" + orderId);
+            served = status.ok() && "COMPLETED".equals(status.data().path("status").asText());
+        }
+        if (!served) {
+            stats.count("customers.gave-up");
+            return;
+        }
+        stats.count("customers.served");
+
+        if (random.nextDouble() < profile.feedbackRatio()) {
+            customer.post("POST /api/feedback", "/api/feedback", Map.of(
+                    "orderId", orderId,
+                    "overallRating", random.nextInt(3, 6),
+                    "comment", "Lunch rush " + runId));
+        }
+    }
+
+    /**
+     * Admin: hand each pending order to the next chef and waiter, and keep a dashboard open
+     */
+    private void dispatch(VirtualUser admin) {
+        int next = 0;
+        long nextDashboard = System.nanoTime();
+        while (staffOnShift) {
+            if (System.nanoTime() >= nextDashboard) {
+                admin.get("GET /api/admin/dashboard/stats", "/api/admin/dashboard/stats");
+                nextDashboard = System.nanoTime() + DASHBOARD_POLL.toNanos();
+            }
+            VirtualUser.Response pending = admin.get("GET /api/admin/orders/pending", "/api/admin/orders/pending");
+            for (JsonNode order : pending.data()) {
+                long orderId = order.get("id").asLong();
+                if (dispatched.contains(orderId)) {
+                    continue;
+                }
+                int staff = next++;
+                // A busy chef answers 400 and queues the order; try the next chef on the next pass
+                if (admin.post("POST /api/admin/orders/{id}/assign", "/api/admin/orders/" + orderId + "/assign", Map.of(
+                        "chefId", chefIds.get(staff % chefIds.size()),
+                        "waiterId", waiterIds.get(staff % waiterIds.size()))).ok()) {
+                    dispatched.add(orderId);
+                }
+            }
+            pause();
+        }
+    }
+
+    private void cook(VirtualUser chef) {
+        while (staffOnShift) {
+            JsonNode tickets = chef.get("GET /api/chef/orders/new", "/api/chef/orders/new").data();
+            for (JsonNode ticket : tickets) {
+                String path = "/api/chef/orders/" + ticket.get("id").asLong();
+                if (chef.post("POST /api/chef/orders/{id}/start", path + "/start", Map.of()).ok()) {
+                    sleep(profile.prepTime().toMillis());
+                    chef.put("PUT /api/chef/orders/{id}/ready", path + "/ready");
+                }
+            }
+            if (tickets.isEmpty()) {
+                pause();
+            }
+        }
+    }
+
+    private void serve(VirtualUser waiter) {
+        while (staffOnShift) {
+            JsonNode ready = waiter.get("GET /api/waiter/orders/ready", "/api/waiter/orders/ready").data();
+            for (JsonNode order : ready) {
+                waiter.put("PUT /api/waiter/orders/{id}/serve", "/api/waiter/orders/" + order.get("id").asLong() + "/serve");
+            }
+            if (ready.isEmpty()) {
+                pause();
+            }
+        }
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private void hireStaff(VirtualUser admin) {
+        for (int i = 0; i < profile.chefs(); i++) {
+            chefIds.add(require(admin.post("POST /api/admin/create-chef", "/api/admin/create-chef",
+                    staffRequest("chef", i)), "create chef").data().get("id").asLong());
+        }
+        for (int i = 0; i < profile.waiters(); i++) {
+            waiterIds.add(require(admin.post("POST /api/admin/create-waiter", "/api/admin/create-waiter",
+                    staffRequest("waiter", i)), "create waiter").data().get("id").asLong());
+        }
+    }
+
+    private VirtualUser staffMember(String role, int i) {
+        VirtualUser member = new VirtualUser(baseUrl, stats);
+        require(member.login(staffEmail(role, i), PASSWORD), role + " login");
+        return member;
+    }
+
+    private Map<String, Object> staffRequest(String role, int i) {
+        return Map.of("name", "Load " + role + " " + i, "email", staffEmail(role, i), "password", PASSWORD);
+    }
+
+    private String staffEmail(String role, int i) {
+        return "load-" + role + "-" + i + "-" + runId + "@javabite.test";
+    }
+
+    private List<Map<String, Object>> randomItems(ThreadLocalRandom random) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        int count = random.nextInt(1, profile.maxItemsPerOrder() + 1);
+        for (int i = 0; i < count; i++) {
+            items.add(Map.of("menuItemId", menuItemIds.get(random.nextInt(menuItemIds.size())),
+                    "quantity", random.nextInt(1, 3)));
+        }
+        return items;
+    }
+
+    private static VirtualUser.Response require(VirtualUser.Response response, String step) {
+        if (!response.ok()) {
+            throw new IllegalStateException("Load test setup failed at " + step + ": HTTP " + response.status()
+                    + " " + response.body());
+        }
+        return response;
+    }
+
+    private void pause() {
+        sleep(profile.pollInterval().toMillis());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.javabite.app.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lunch-rush load run against the full app on an embedded server and H2.
+ * Run with mvn -Ploadtest test, shaped with -Dloadtest.* (see {@link LoadProfile}), e.g.
+ * mvn -Ploadtest test -Dloadtest.duration-seconds=120 -Dloadtest.arrivals-per-second=5
+ * Prints throughput, rejection and error rates and latency percentiles per endpoint.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LunchRushLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void lunchRush() throws InterruptedException {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LoadStats stats = new LoadStats();
+
+        double seconds = new LunchRush("http://localhost:" + port, profile, stats).run();
+
+        System.out.printf("Lunch rush: %s%n%s", profile, stats.report(seconds));
+        assertThat(stats.events("customers.served")).isPositive();
+        assertThat(stats.errorRate()).isLessThanOrEqualTo(profile.maxErrorRate());
+    }
+}
@@ -0,0 +1,109 @@
+package com.javabite.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * One simulated browser: its own cookie jar (so its own JSESSIONID), timing every
+ * request into {@link LoadStats} under a stable endpoint name such as
+ * "PUT /api/chef/orders/{id}/ready".
+ */
+class VirtualUser {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LoadStats stats;
+    private final HttpClient client;
+
+    VirtualUser(String baseUrl, LoadStats stats) {
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    Response login(String email, String password) {
+        return post("POST /api/auth/login", "/api/auth/login", Map.of("email", email, "password", password));
+    }
+
+    Response get(String endpoint, String path) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    Response post(String endpoint, String path, Object body) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).POST(json(body)));
+    }
+
+    Response put(String endpoint, String path) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder request) {
+        request.timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, response.statusCode(), System.nanoTime() - started);
+            return new Response(response.statusCode(), parse(response.body()));
+        } catch (IOException e) {
+            stats.record(endpoint, -1, System.nanoTime() - started);
+            return new Response(-1, MissingNode.getInstance());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, MissingNode.getInstance());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialise request body", e);
+        }
+    }
+
+    private static JsonNode parse(String body) {
+        if (body == null || body.isBlank()) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return JSON.readTree(body);
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    record Response(int status, JsonNode body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        /**
+         * The ApiResponse payload, or the body itself for endpoints that return the entity
+         */
+        JsonNode data() {
+            return body.has("data") ? body.get("data") : body;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.javabite.app.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger appLogger = context.getLogger("com.javabite.app.service.OrderService");
+    private final Logger frameworkLogger = context.getLogger("org.hibernate.SQL");
+
+    private LogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LogSamplingTurboFilter();
+        filter.setMaxPerSecond(3);
+        filter.start();
+    }
+
+    @Test
+    void infoIsCappedPerStatement() {
+        int passed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (filter.decide(null, appLogger, Level.INFO, "Order {} created", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // A second boundary can fall inside the loop, so allow one extra window
+        assertThat(passed).isBetween(3, 6);
+        assertThat(filter.getSuppressedCount()).isEqualTo(10 - passed);
+
+        // Other statements have their own budget
+        assertThat(filter.decide(null, appLogger, Level.INFO, "Order {} refunded", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void warningsAndOtherLoggersAreNeverSampled() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.decide(null, appLogger, Level.WARN, "Order {} already queued", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, frameworkLogger, Level.INFO, "select ...", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(filter.getSuppressedCount()).isZero();
+    }
+}
@@ -0,0 +1,125 @@
+package com.javabite.app.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAINs the SQL behind the hot repository queries against the migrated schema
+ * and checks the planner picks the V2/V4/V6/V10/V11 indexes. Store-scoped tables get
+ * the store_id = ? predicate Hibernate adds for the current tenant.
+ *
+ * H2 keeps a foreign key's own single-column index next to a composite index that starts
+ * with the same column (MySQL drops it), and only counts an index as sorted when the
+ * ORDER BY starts at its first column. For SELECT * it would take the narrower FK index,
+ * so the history queries select the composite index's columns: then it is the only
+ * index that avoids reading table rows, and the plan fails if it goes missing.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HotPathIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pendingOrdersUseStoreStatusChefIndex() {
+        // OrderRepository.findByStatusAndChefIsNull
+        assertUsesIndex("SELECT * FROM orders o WHERE o.store_id = 1 AND o.status = 'PENDING' AND o.chef_id IS NULL",
+                "idx_orders_store_status_chef");
+    }
+
+    @Test
+    void chefBoardUsesBoardTicketChefIndex() {
+        // BoardTicketRepository.findByChefIdAndStatusOrderByCreatedAtAsc
+        assertUsesIndex("SELECT * FROM board_tickets t WHERE t.store_id = 1 AND t.chef_id = 1 AND t.status = 'PREPARING' "
+                + "ORDER BY t.created_at", "idx_board_tickets_chef");
+    }
+
+    @Test
+    void waiterBoardUsesBoardTicketWaiterIndex() {
+        // BoardTicketRepository.findByWaiterIdAndStatusInOrderByCreatedAtAsc
+        assertUsesIndex("SELECT * FROM board_tickets t WHERE t.store_id = 1 AND t.waiter_id = 1 "
+                + "AND t.status IN ('PENDING', 'PREPARING', 'READY') ORDER BY t.created_at", "idx_board_tickets_waiter");
+    }
+
+    @Test
+    void ordersForBookingUseTableBookingIndex() {
+        // OrderRepository.findByTableBooking
+        assertUsesIndex("SELECT * FROM orders o WHERE o.table_booking_id = 1", "idx_orders_table_booking");
+    }
+
+    @Test
+    void orderHistoryUsesStoreCreatedIndex() {
+        // Date-bounded history / reports on orders.created_at
+        assertUsesIndex("SELECT * FROM orders o WHERE o.store_id = 1 AND o.created_at >= TIMESTAMP '2024-01-01 00:00:00'",
+                "idx_orders_store_created");
+    }
+
+    @Test
+    void myOrdersPageUsesCustomerCreatedIndex() {
+        // OrderRepository.findByCustomer_IdOrderByCreatedAtDesc(customerId, pageable)
+        assertUsesIndex("SELECT o.id, o.created_at FROM orders o WHERE o.customer_id = 1 "
+                + "ORDER BY o.created_at DESC LIMIT 20", "idx_orders_customer_created");
+    }
+
+    @Test
+    void bookingHistoryUsesCustomerDateIndex() {
+        // TableBookingRepository.findByCustomer_IdOrderByBookingDateDescBookingMinuteDesc(customerId, pageable)
+        assertUsesIndex("SELECT b.id, b.booking_date, b.booking_minute FROM table_bookings b WHERE b.customer_id = 1 "
+                + "ORDER BY b.booking_date DESC, b.booking_minute DESC LIMIT 20", "idx_bookings_customer_history");
+    }
+
+    @Test
+    void bookingCountersReadOnlyTheCustomerHistoryIndex() {
+        // TableBookingRepository.summarizeForCustomer
+        assertUsesIndex("SELECT COUNT(b.id), "
+                + "SUM(CASE WHEN b.status IN ('CONFIRMED', 'ACTIVE') AND b.booking_date > DATE '2024-06-01' THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN b.status = 'CANCELLED' THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN b.refund_status = 'COMPLETED' THEN 1 ELSE 0 END) "
+                + "FROM table_bookings b WHERE b.customer_id = 1", "idx_bookings_customer_history");
+    }
+
+    @Test
+    void slotCountUsesStoreDateMinuteIndex() {
+        // TableBookingRepository.countBookingsForSlot / findHeldTablesForSlot
+        assertUsesIndex("SELECT COUNT(b.id) FROM table_bookings b WHERE b.store_id = 1 AND b.booking_date = DATE '2024-06-01' "
+                + "AND b.booking_minute = 1080 AND (b.status = 'CONFIRMED' OR b.status = 'ACTIVE')",
+                "idx_bookings_store_date_minute");
+    }
+
+    @Test
+    void slotRangeUsesStoreDateMinuteIndex() {
+        // TableBookingRepository.findByDateAndMinuteRange (18:00-20:00); selects indexed columns only,
+        // since on an empty table H2 costs SELECT * on the store FK index just as well
+        assertUsesIndex("SELECT b.id, b.table_number, b.status FROM table_bookings b WHERE b.store_id = 1 "
+                + "AND b.booking_date = DATE '2024-06-01' AND b.booking_minute >= 1080 AND b.booking_minute < 1200 ORDER BY b.booking_minute, b.table_number",
+                "idx_bookings_store_date_minute");
+    }
+
+    @Test
+    void feedbackByOrderUsesUniqueKey() {
+        // FeedbackRepository.existsByOrderId / findByOrderId
+        assertUsesIndex("SELECT f.id FROM feedback f WHERE f.order_id = 1",
+                "uk_feedback_order");
+    }
+
+    @Test
+    void resetRateLimitUsesIpCreatedIndex() {
+        // PasswordResetRepository.countRecentRequestsByIp
+        assertUsesIndex("SELECT COUNT(t.id) FROM password_reset_tokens t WHERE t.ip_address = '10.0.0.1' "
+                + "AND t.created_at > TIMESTAMP '2024-01-01 00:00:00'",
+                "idx_password_reset_ip_created");
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)).toLowerCase();
+        assertThat(plan)
+                .as("plan for %s", sql)
+                .contains(indexName.toLowerCase());
+    }
+}
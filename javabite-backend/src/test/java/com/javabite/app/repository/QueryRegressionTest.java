@@ -0,0 +1,207 @@
+package com.javabite.app.repository;
+
+import com.javabite.app.datagen.DatasetGenerator;
+import com.javabite.app.datagen.DatasetReport;
+import com.javabite.app.datagen.DatasetSpec;
+import com.javabite.app.monitoring.SqlTelemetry;
+import com.javabite.app.service.CustomUserDetailsService;
+import com.javabite.app.service.OrderService;
+import com.javabite.app.service.TableBookingService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the repository methods behind controller endpoints, on a
+ * generated dataset far larger than the seed data. Each endpoint runs once to warm
+ * up, then once measured through {@link SqlTelemetry}: statements and rows read must
+ * stay within its budget. Wall time depends on the machine, so it is only checked
+ * with mvn -Pbenchmark test.
+ *
+ * Budgets sit at roughly twice what the endpoint needs today. Per-user endpoints must
+ * not grow with the size of the tables; only the admin "all" lists may read a whole
+ * table, and their statement budgets scale with batch fetching. A findAll()-then-filter
+ * or an N+1 shows up here as a failed budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryRegressionTest {
+
+    private static final int BATCH_FETCH_SIZE = 50;
+    private static final DatasetSpec DATASET = new DatasetSpec(1000, 3000, 6000, 600, 60, 49, 500, 4, 1, false);
+
+    @Autowired
+    private DatasetGenerator generator;
+
+    @Autowired
+    private SqlTelemetry telemetry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TableBookingService bookingService;
+
+    private DatasetReport dataset;
+    private UserDetails admin;
+    private UserDetails chef;
+    private UserDetails customer;
+    private long customerOrderId;
+    private long reviewedOrderId;
+    private LocalDate busiestDay;
+
+    @BeforeAll
+    void loadDataset() {
+        dataset = generator.generate(DATASET);
+
+        admin = userDetailsService.loadUserByUsername("admin@javabite.com");
+        chef = userDetailsService.loadUserByUsername("chef@javabite.com");
+
+        // The generated customer with the longest history
+        long customerId = jdbcTemplate.queryForObject("SELECT customer_id FROM orders WHERE id >= ? "
+                + "GROUP BY customer_id ORDER BY COUNT(*) DESC, customer_id LIMIT 1", Long.class, dataset.firstOrderId());
+        customer = userDetailsService.loadUserByUsername("customer" + customerId + DatasetGenerator.EMAIL_DOMAIN);
+        customerOrderId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders WHERE customer_id = ?",
+                Long.class, customerId);
+        reviewedOrderId = jdbcTemplate.queryForObject("SELECT MAX(order_id) FROM feedback WHERE order_id >= ?",
+                Long.class, dataset.firstOrderId());
+        busiestDay = jdbcTemplate.queryForObject("SELECT booking_date FROM table_bookings WHERE id >= ? "
+                + "GROUP BY booking_date ORDER BY COUNT(*) DESC, booking_date LIMIT 1", LocalDate.class,
+                dataset.firstBookingId());
+    }
+
+    @AfterAll
+    void removeDataset() {
+        generator.remove(dataset);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> controllerQueriesStayWithinBudget() {
+        return checks().map(check -> DynamicTest.dynamicTest(check.name(), () -> {
+            check.work().call();
+            SqlTelemetry.Measurement measured = telemetry.measure(check.work());
+            assertThat(measured.statements()).as("%s statements %s", check.name(), measured.shapes())
+                    .isLessThanOrEqualTo(check.budget().statements());
+            assertThat(measured.rowsRead()).as("%s rows read", check.name())
+                    .isLessThanOrEqualTo(check.budget().rows());
+        }));
+    }
+
+    @Tag("benchmark")
+    @TestFactory
+    Stream<DynamicTest> controllerQueriesStayWithinWallTime() {
+        return checks().map(check -> DynamicTest.dynamicTest(check.name(), () -> {
+            check.work().call();
+            SqlTelemetry.Measurement measured = telemetry.measure(check.work());
+            System.out.printf("⏱️ %s: %.0f ms (budget %.0f ms)%n",
+                    check.name(), measured.elapsedMillis(), check.budget().millis());
+            assertThat(measured.elapsedMillis()).as("%s wall time (ms)", check.name())
+                    .isLessThanOrEqualTo(check.budget().millis());
+        }));
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private Stream<Check> checks() {
+        long allOrders = table("orders");
+        long allOrderRows = allOrders + table("order_items");
+        long allBookings = table("table_bookings");
+        long allFeedback = table("feedback");
+
+        return Stream.of(
+                // OrderRepository
+                endpoint("/api/orders/my-orders", () -> customer, new Budget(6, 250, 1000)),
+                endpoint("/api/orders/my-orders/page?page=0&size=20", () -> customer, new Budget(8, 160, 500)),
+                endpoint("/api/orders/my-orders/summary", () -> customer, new Budget(2, 2, 250)),
+                endpoint("/api/orders/" + customerOrderId, () -> customer, new Budget(3, 10, 250)),
+                endpoint("/api/admin/orders/pending", () -> admin, new Budget(6, 100, 500)),
+                endpoint("/api/admin/orders/stats", () -> admin, new Budget(12, 8, 500)),
+                endpoint("/api/admin/orders/all", () -> admin,
+                        new Budget(2 * batches(allOrders) + 20, 2 * allOrderRows, 10000)),
+                endpoint("/api/chef/orders/completed-today", () -> chef, new Budget(4, 20, 250)),
+                check("OrderService.getAdminDashboardStats", orderService::getAdminDashboardStats,
+                        new Budget(14, 14, 500)),
+
+                // TableBookingRepository
+                endpoint("/api/bookings/my-bookings", () -> customer, new Budget(2, 20, 250)),
+                endpoint("/api/customer/bookings/history", () -> customer, new Budget(2, 20, 250)),
+                endpoint("/api/customer/bookings/history/page?page=0&size=20", () -> customer, new Budget(4, 20, 250)),
+                endpoint("/api/customer/bookings/active", () -> customer, new Budget(2, 20, 250)),
+                endpoint("/api/customer/bookings/stats", () -> customer, new Budget(2, 2, 250)),
+                endpoint("/api/bookings/admin/date/" + busiestDay, () -> admin, new Budget(2, 200, 500)),
+                endpoint("/api/bookings/admin/all", () -> admin, new Budget(2, 2 * allBookings, 3000)),
+                check("TableBookingService.getBookingStats", bookingService::getBookingStats, new Budget(12, 12, 500)),
+
+                // FeedbackRepository
+                endpoint("/api/feedback/my-feedback", () -> customer, new Budget(4, 20, 250)),
+                endpoint("/api/feedback/order/" + reviewedOrderId, () -> admin, new Budget(4, 4, 250)),
+                endpoint("/api/feedback/admin/stats", () -> admin, new Budget(26, 26, 500)),
+                endpoint("/api/feedback/admin/rating/1", () -> admin, new Budget(6, allFeedback, 1000)),
+                endpoint("/api/feedback/admin/all", () -> admin,
+                        new Budget(2 * batches(allFeedback) + 4, 8 * allFeedback, 2500)),
+
+                // UserRepository
+                endpoint("/api/admin/staff/chefs", () -> admin, new Budget(2, 50, 250)),
+                endpoint("/api/admin/staff/waiters", () -> admin, new Budget(2, 50, 250)),
+                endpoint("/api/invitations/pending", () -> admin, new Budget(2, 20, 250)));
+    }
+
+    private Check endpoint(String path, Supplier<UserDetails> principal, Budget budget) {
+        return check("GET " + path, () -> mockMvc.perform(get(path).with(user(principal.get())))
+                .andExpect(status().isOk()), budget);
+    }
+
+    private static Check check(String name, Callable<?> work, Budget budget) {
+        return new Check(name, work, budget);
+    }
+
+    /**
+     * Statements needed to batch-fetch a collection of n owners (default_batch_fetch_size=50)
+     */
+    private static int batches(long n) {
+        return (int) ((n + BATCH_FETCH_SIZE - 1) / BATCH_FETCH_SIZE);
+    }
+
+    private long table(String name) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + name, Long.class);
+    }
+
+    private record Budget(int statements, long rows, double millis) {
+    }
+
+    private record Check(String name, Callable<?> work, Budget budget) {
+    }
+}
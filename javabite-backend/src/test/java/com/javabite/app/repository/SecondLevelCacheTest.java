@@ -0,0 +1,115 @@
+package com.javabite.app.repository;
+
+import com.javabite.app.model.MenuItem;
+import com.javabite.app.model.User;
+import com.javabite.app.service.StaffCapacityService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not @Transactional: the second-level cache only comes into play across sessions,
+ * so every step runs in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StaffCapacityService staffCapacityService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void menuItemsComeFromTheCacheAfterTheFirstLoad() {
+        Long id = inTx(() -> menuItemRepository.findByAvailableTrue().get(0).getId());
+        entityManagerFactory.getCache().evict(MenuItem.class);
+
+        inTx(() -> menuItemRepository.findById(id));
+        long hits = statistics.getCacheRegionStatistics("menu-items").getHitCount();
+        inTx(() -> menuItemRepository.findById(id));
+
+        assertThat(statistics.getCacheRegionStatistics("menu-items").getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void menuFinderResultsAreCachedUntilTheMenuChanges() {
+        List<MenuItem> before = inTx(() -> menuItemRepository.findByAvailableTrue());
+        long hits = statistics.getQueryCacheHitCount();
+        assertThat(inTx(() -> menuItemRepository.findByAvailableTrue())).hasSameSizeAs(before);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+
+        MenuItem item = before.get(0);
+        setAvailable(item.getId(), false);
+        try {
+            assertThat(inTx(() -> menuItemRepository.findByAvailableTrue()))
+                    .extracting(MenuItem::getId)
+                    .doesNotContain(item.getId());
+        } finally {
+            setAvailable(item.getId(), true);
+        }
+    }
+
+    @Test
+    void capacityChangesEvictOnlyThatStaffMember() {
+        User chef = inTx(() -> userRepository.findByEmail("chef@javabite.com").orElseThrow());
+        User waiter = inTx(() -> userRepository.findByEmail("waiter@javabite.com").orElseThrow());
+        inTx(() -> userRepository.findById(chef.getId()));
+        inTx(() -> userRepository.findById(waiter.getId()));
+        assertThat(entityManagerFactory.getCache().contains(User.class, chef.getId())).isTrue();
+
+        inTx(() -> staffCapacityService.tryClaim(userRepository.findById(chef.getId()).orElseThrow()));
+        try {
+            assertThat(entityManagerFactory.getCache().contains(User.class, chef.getId())).isFalse();
+            assertThat(entityManagerFactory.getCache().contains(User.class, waiter.getId())).isTrue();
+            assertThat(inTx(() -> userRepository.findById(chef.getId()).orElseThrow().getCurrentActiveOrders()))
+                    .isEqualTo(chef.getCurrentActiveOrders() + 1);
+        } finally {
+            inTx(() -> {
+                staffCapacityService.release(userRepository.findById(chef.getId()).orElseThrow());
+                return null;
+            });
+        }
+    }
+
+    private void setAvailable(Long id, boolean available) {
+        inTx(() -> {
+            MenuItem item = menuItemRepository.findById(id).orElseThrow();
+            item.setAvailable(available);
+            return menuItemRepository.save(item);
+        });
+    }
+
+    private <T> T inTx(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+}
@@ -0,0 +1,151 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.*;
+import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CapacityReconciliationServiceTest {
+
+    @Autowired
+    private CapacityReconciliationService reconciliationService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User chef;
+    private User waiter;
+    private TableBooking booking;
+
+    @BeforeEach
+    void setUp() {
+        chef = userRepository.save(staff(Role.CHEF, "reconcile-chef@javabite.test"));
+        waiter = userRepository.save(staff(Role.WAITER, "reconcile-waiter@javabite.test"));
+
+        booking = bookingRepository.save(TableBooking.builder()
+                .customer(userRepository.findByEmail("customer@javabite.com").orElseThrow())
+                .bookingDate(LocalDate.now())
+                .bookingTime("12:00")
+                .numberOfGuests(2)
+                .tableNumber(4)
+                .status(BookingStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    void reconcileCorrectsDriftedCountersAndRecordsMetric() {
+        // Chef really holds 2 (PENDING + PREPARING), waiter 1 (one table)
+        orderRepository.save(order(OrderStatus.PENDING));
+        orderRepository.save(order(OrderStatus.PREPARING));
+        orderRepository.save(order(OrderStatus.READY));
+        orderRepository.save(order(OrderStatus.COMPLETED));
+        setActiveOrders(chef, 5);
+        setActiveOrders(waiter, 0);
+        double driftBefore = drift(Role.CHEF) + drift(Role.WAITER);
+
+        int corrected = reconciliationService.reconcile();
+
+        assertThat(corrected).isGreaterThanOrEqualTo(2);
+        assertThat(activeOrders(chef)).isEqualTo(2);
+        assertThat(activeOrders(waiter)).isEqualTo(1);
+        assertThat(drift(Role.CHEF) + drift(Role.WAITER) - driftBefore).isGreaterThanOrEqualTo(2);
+
+        // Nothing left to fix for these two
+        reconciliationService.reconcile();
+        assertThat(activeOrders(chef)).isEqualTo(2);
+        assertThat(activeOrders(waiter)).isEqualTo(1);
+    }
+
+    @Test
+    void servingReadyOrderReleasesOnlyTheWaiter() {
+        orderRepository.save(order(OrderStatus.PREPARING));
+        Order ready = orderRepository.save(order(OrderStatus.READY));
+        setActiveOrders(chef, 1);
+        setActiveOrders(waiter, 1);
+
+        orderService.waiterMarkServed(ready.getId(), waiter.getId());
+
+        // The chef still has the PREPARING order; the table still has an open order
+        assertThat(activeOrders(chef)).isEqualTo(1);
+        assertThat(activeOrders(waiter)).isEqualTo(1);
+        assertThat(reconciliationService.reconcile()).isZero();
+    }
+
+    private User staff(Role role, String email) {
+        return User.builder()
+                .name("Reconcile " + role)
+                .email(email)
+                .password("x")
+                .role(role)
+                .enabled(true)
+                .storeId(StoreContext.DEFAULT_STORE_ID)
+                .maxActiveOrders(5)
+                .build();
+    }
+
+    private Order order(OrderStatus status) {
+        Order order = Order.builder()
+                .customer(booking.getCustomer())
+                .tableBooking(booking)
+                .chef(chef)
+                .waiter(waiter)
+                .status(status)
+                .build();
+        order.getItems().add(OrderItem.builder()
+                .order(order)
+                .menuItem(menuItemRepository.findByAvailableTrue().get(0))
+                .quantity(1)
+                .priceAtOrder(4.0)
+                .build());
+        return order;
+    }
+
+    private void setActiveOrders(User user, int value) {
+        jdbcTemplate.update("UPDATE users SET current_active_orders = ? WHERE id = ?", value, user.getId());
+    }
+
+    private int activeOrders(User user) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_active_orders FROM users WHERE id = ?", Integer.class, user.getId());
+    }
+
+    private double drift(Role role) {
+        var counter = meterRegistry.find("javabite.capacity.drift").tag("role", role.name()).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
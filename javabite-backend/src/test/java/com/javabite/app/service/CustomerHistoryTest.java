@@ -0,0 +1,193 @@
+package com.javabite.app.service;
+
+import com.javabite.app.dto.BookingDTO;
+import com.javabite.app.model.*;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Customer history pages and summary counters, checked against the rows behind them.
+ * Runs for a customer of its own, so the seed data doesn't show up in the counts.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CustomerHistoryTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(User.builder()
+                .name("History Customer")
+                .email("history-customer@javabite.test")
+                .password("not-a-real-hash")
+                .role(Role.CUSTOMER)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    void bookingCountersMatchTheBookings() {
+        LocalDate today = LocalDate.now();
+        booking(today.plusDays(2), "19:00", BookingStatus.CONFIRMED);
+        booking(today.plusDays(5), "12:30", BookingStatus.ACTIVE);
+        booking(today.minusDays(3), "18:00", BookingStatus.COMPLETED);
+        booking(today.minusDays(10), "20:00", BookingStatus.COMPLETED);
+        booking(today.plusDays(1), "13:00", BookingStatus.CANCELLED);
+        TableBooking refunded = booking(today.plusDays(4), "18:30", BookingStatus.CONFIRMED);
+        refunded.cancelWithRefund("Change of plans", customer.getId(), new BigDecimal("10.00"));
+        refunded.completeRefund();
+        // Confirmed but already past: neither upcoming nor completed
+        booking(today.minusDays(1), "09:00", BookingStatus.CONFIRMED);
+        bookingRepository.flush();
+
+        Map<String, Object> stats = bookingService.getCustomerBookingStats(customer.getId());
+
+        assertThat(stats)
+                .containsEntry("totalBookings", 7L)
+                .containsEntry("upcomingBookings", 2L)
+                .containsEntry("completedBookings", 2L)
+                .containsEntry("cancelledBookings", 2L)
+                .containsEntry("refundedBookings", 1L);
+    }
+
+    @Test
+    void countersAreZeroWithoutHistory() {
+        assertThat(bookingService.getCustomerBookingStats(customer.getId()))
+                .containsEntry("totalBookings", 0L)
+                .containsEntry("upcomingBookings", 0L)
+                .containsEntry("refundedBookings", 0L);
+        assertThat(orderService.getCustomerOrderSummary(customer.getId()))
+                .containsEntry("totalOrders", 0L)
+                .containsEntry("activeOrders", 0L);
+    }
+
+    @Test
+    void bookingHistoryPagesAreNewestFirst() {
+        LocalDate day = LocalDate.now().minusDays(30);
+        TableBooking oldest = booking(day, "18:00", BookingStatus.COMPLETED);
+        TableBooking lunch = booking(day.plusDays(1), "12:00", BookingStatus.COMPLETED);
+        TableBooking dinner = booking(day.plusDays(1), "19:30", BookingStatus.COMPLETED);
+        TableBooking newest = booking(day.plusDays(2), "09:15", BookingStatus.CANCELLED);
+        bookingRepository.flush();
+
+        Page<BookingDTO> first = bookingService.getCustomerBookingHistoryPage(customer.getId(), 0, 3);
+        Page<BookingDTO> second = bookingService.getCustomerBookingHistoryPage(customer.getId(), 1, 3);
+
+        assertThat(first.getContent()).extracting(BookingDTO::getId)
+                .containsExactly(newest.getId(), dinner.getId(), lunch.getId());
+        assertThat(first.getContent()).allSatisfy(b -> assertThat(b.getCustomerId()).isEqualTo(customer.getId()));
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(first.isLast()).isFalse();
+        assertThat(second.getContent()).extracting(BookingDTO::getId).containsExactly(oldest.getId());
+        assertThat(second.isLast()).isTrue();
+    }
+
+    @Test
+    void pageSizeIsCappedAndNegativePagesStartAtTheFirst() {
+        booking(LocalDate.now().minusDays(1), "18:00", BookingStatus.COMPLETED);
+        bookingRepository.flush();
+
+        Page<BookingDTO> page = bookingService.getCustomerBookingHistoryPage(customer.getId(), -1, 500);
+
+        assertThat(page.getNumber()).isZero();
+        assertThat(page.getSize()).isEqualTo(50);
+        assertThat(page.getContent()).hasSize(1);
+    }
+
+    @Test
+    void orderSummaryAndPagesMatchTheOrders() {
+        Order pending = order(OrderStatus.PENDING, 5);
+        Order served = order(OrderStatus.SERVED, 4);
+        Order completed = order(OrderStatus.COMPLETED, 3);
+        Order earlier = order(OrderStatus.COMPLETED, 2);
+        Order cancelled = order(OrderStatus.CANCELLED, 1);
+        orderRepository.flush();
+        entityManager.clear();
+
+        Map<String, Object> summary = orderService.getCustomerOrderSummary(customer.getId());
+        Page<Order> first = orderService.getCustomerOrdersPage(customer.getId(), 0, 2);
+        Page<Order> last = orderService.getCustomerOrdersPage(customer.getId(), 2, 2);
+
+        assertThat(summary)
+                .containsEntry("totalOrders", 5L)
+                .containsEntry("activeOrders", 2L)
+                .containsEntry("completedOrders", 2L)
+                .containsEntry("cancelledOrders", 1L);
+        assertThat(first.getContent()).extracting(Order::getId).containsExactly(cancelled.getId(), earlier.getId());
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+        assertThat(last.getContent()).extracting(Order::getId).containsExactly(pending.getId());
+        assertThat(orderService.getCustomerOrdersPage(customer.getId(), 1, 2).getContent())
+                .extracting(Order::getId).containsExactly(completed.getId(), served.getId());
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private TableBooking booking(LocalDate date, String time, BookingStatus status) {
+        return bookingRepository.save(TableBooking.builder()
+                .customer(customer)
+                .bookingDate(date)
+                .bookingTime(time)
+                .numberOfGuests(2)
+                .tableNumber(1)
+                .status(status)
+                .build());
+    }
+
+    /**
+     * An order placed the given number of hours ago (created_at is stamped on insert, so it is set afterwards)
+     */
+    private Order order(OrderStatus status, int hoursAgo) {
+        Order order = orderRepository.saveAndFlush(Order.builder()
+                .customer(customer)
+                .status(status)
+                .build());
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(hoursAgo), order.getId());
+        return order;
+    }
+}
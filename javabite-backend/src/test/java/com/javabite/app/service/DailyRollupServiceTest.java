@@ -0,0 +1,150 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.*;
+import com.javabite.app.repository.DailyRollupRepository;
+import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DailyRollupServiceTest {
+
+    @Autowired
+    private DailyRollupService rollupService;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+
+    private Order pending;
+
+    @BeforeEach
+    void setUp() {
+        User customer = userRepository.findByEmail("customer@javabite.com").orElseThrow();
+
+        TableBooking booking = bookingRepository.save(TableBooking.builder()
+                .customer(customer)
+                .bookingDate(today)
+                .bookingTime("12:00")
+                .numberOfGuests(2)
+                .tableNumber(3)
+                .status(BookingStatus.COMPLETED)
+                .build());
+
+        TableBooking refunded = TableBooking.builder()
+                .customer(customer)
+                .bookingDate(today)
+                .bookingTime("13:00")
+                .numberOfGuests(4)
+                .tableNumber(5)
+                .status(BookingStatus.CANCELLED)
+                .build();
+        refunded.cancelWithRefund("Plans changed", customer.getId(), new BigDecimal("20.00"));
+        refunded.completeRefund();
+        bookingRepository.save(refunded);
+
+        // Two live orders (10.00 and 6.00 before 10% tax) and one cancelled
+        Order served = order(customer, booking, OrderStatus.COMPLETED, 2, 5.0);
+        served.setPreparationStartedAt(LocalDateTime.now().minusMinutes(10));
+        served.setReadyAt(LocalDateTime.now());
+        orderRepository.save(served);
+        pending = orderRepository.save(order(customer, booking, OrderStatus.PENDING, 1, 6.0));
+        orderRepository.save(order(customer, booking, OrderStatus.CANCELLED, 3, 4.0));
+    }
+
+    @Test
+    void closeDayRollsUpOrdersBookingsAndRefunds() {
+        DailyRollup rollup = rollupService.closeDay(today);
+
+        assertThat(rollup.getOrdersTotal()).isEqualTo(3);
+        assertThat(rollup.getOrdersCompleted()).isEqualTo(1);
+        assertThat(rollup.getOrdersCancelled()).isEqualTo(1);
+        assertThat(rollup.getGrossSales()).isEqualByComparingTo("16.00");
+        assertThat(rollup.getTaxTotal()).isEqualByComparingTo("1.60");
+        assertThat(rollup.getNetSales()).isEqualByComparingTo("17.60");
+        assertThat(rollup.getAvgTicket()).isEqualByComparingTo("8.80");
+
+        assertThat(rollup.getBookingsTotal()).isEqualTo(2);
+        assertThat(rollup.getBookingsCompleted()).isEqualTo(1);
+        assertThat(rollup.getBookingsCancelled()).isEqualTo(1);
+        assertThat(rollup.getRefundsCount()).isEqualTo(1);
+        assertThat(rollup.getRefundsAmount()).isEqualByComparingTo("20.00");
+        assertThat(rollup.getAvgPrepSeconds()).isBetween(590L, 610L);
+    }
+
+    @Test
+    void backfillIsRepeatableAndWritesOneRowPerDay() {
+        rollupService.backfill(today.minusDays(2), today);
+        rollupService.backfill(today.minusDays(2), today);
+
+        assertThat(rollupService.getRollups(today.minusDays(2), today))
+                .extracting(DailyRollup::getBusinessDate)
+                .containsExactly(today.minusDays(2), today.minusDays(1), today);
+        assertThat(rollupRepository.findByBusinessDate(today.minusDays(1)).orElseThrow().getOrdersTotal()).isZero();
+    }
+
+    @Test
+    void avgOrderValueKeepsDaysThatAreNotRolledUpYet() {
+        // An order from two days ago, before any close has run
+        orderRepository.flush();
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?",
+                today.minusDays(2).atTime(12, 0), pending.getId());
+        assertThat(rollupService.coversOrdersBefore(today)).isFalse();
+
+        Object beforeClose = orderService.getOrderStatistics().get("avgOrderValue");
+        rollupService.closeThrough(today.minusDays(1));
+        assertThat(rollupService.coversOrdersBefore(today)).isTrue();
+
+        assertThat(orderService.getOrderStatistics().get("avgOrderValue")).isEqualTo(beforeClose);
+    }
+
+    private Order order(User customer, TableBooking booking, OrderStatus status, int quantity, double price) {
+        Order order = Order.builder()
+                .customer(customer)
+                .tableBooking(booking)
+                .status(status)
+                .build();
+        order.getItems().add(OrderItem.builder()
+                .order(order)
+                .menuItem(menuItemRepository.findByAvailableTrue().get(0))
+                .quantity(quantity)
+                .priceAtOrder(price)
+                .build());
+        return order;
+    }
+}
@@ -0,0 +1,109 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DashboardStatsCacheTest {
+
+    private static final long HOUR_MS = 3_600_000;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<Map<String, Object>> loader = () -> Map.of("pendingOrders", (long) loads.incrementAndGet());
+
+    @Test
+    void snapshotIsSharedWithinTheTtl() {
+        DashboardStatsCache cache = new DashboardStatsCache(Runnable::run, registry, HOUR_MS, 0);
+
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 1L);
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 1L);
+        assertThat(loads).hasValue(1);
+
+        // Other dashboards and other stores have their own snapshots
+        cache.get(DashboardStatsCache.BOOKING_STATS, loader);
+        StoreContext.runAs(2L, () -> cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        DashboardStatsCache cache = new DashboardStatsCache(Runnable::run, registry, 0, 0);
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Map<String, Object>> slowLoader = () -> {
+            computing.countDown();
+            await(release);
+            return loader.get();
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(20);
+        List<Future<Map<String, Object>>> results = new ArrayList<>();
+        results.add(pool.submit(() -> cache.get(DashboardStatsCache.ADMIN_DASHBOARD, slowLoader)));
+        computing.await();
+        for (int i = 1; i < 20; i++) {
+            results.add(pool.submit(() -> cache.get(DashboardStatsCache.ADMIN_DASHBOARD, slowLoader)));
+        }
+        // Let the followers reach the in-flight computation before it finishes
+        while (registry.counter("javabite.dashboard.cache", "dashboard", DashboardStatsCache.ADMIN_DASHBOARD,
+                "result", "coalesced").count() < 19) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<Map<String, Object>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).containsEntry("pendingOrders", 1L);
+        }
+        pool.shutdown();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void staleSnapshotIsServedWhileItRefreshes() {
+        List<Runnable> refreshes = new ArrayList<>();
+        DashboardStatsCache cache = new DashboardStatsCache(refreshes::add, registry, 0, HOUR_MS);
+
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 1L);
+
+        // Expired: the old snapshot comes back at once, and only one refresh is queued
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 1L);
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 1L);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 2L);
+    }
+
+    @Test
+    void failedComputationIsRetriedByTheNextCaller() {
+        DashboardStatsCache cache = new DashboardStatsCache(Runnable::run, registry, HOUR_MS, 0);
+
+        assertThatThrownBy(() -> cache.get(DashboardStatsCache.ADMIN_DASHBOARD, () -> {
+            throw new RuntimeException("Database unavailable");
+        })).hasMessage("Database unavailable");
+
+        assertThat(cache.get(DashboardStatsCache.ADMIN_DASHBOARD, loader)).containsEntry("pendingOrders", 1L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.*;
+import com.javabite.app.repository.FeedbackRepository;
+import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    private TableBooking booking;
+
+    @BeforeEach
+    void setUp() {
+        User customer = userRepository.findByEmail("customer@javabite.com").orElseThrow();
+
+        booking = bookingRepository.save(TableBooking.builder()
+                .customer(customer)
+                .bookingDate(LocalDate.of(2024, 3, 15))
+                .bookingTime("19:30")
+                .numberOfGuests(2)
+                .tableNumber(4)
+                .status(BookingStatus.COMPLETED)
+                .specialRequests("Window seat")
+                .build());
+
+        Order order = Order.builder()
+                .customer(customer)
+                .tableBooking(booking)
+                .status(OrderStatus.COMPLETED)
+                .createdAt(LocalDateTime.of(2024, 3, 15, 19, 45))
+                .build();
+        order.getItems().add(OrderItem.builder()
+                .order(order)
+                .menuItem(menuItemRepository.findByAvailableTrue().get(0))
+                .quantity(2)
+                .priceAtOrder(5.0)
+                .build());
+        order = orderRepository.save(order);
+
+        feedbackRepository.save(Feedback.builder()
+                .order(order)
+                .customer(customer)
+                .overallRating(5)
+                .comment("=HYPERLINK(\"x\"), great \"flat white\"")
+                .build());
+    }
+
+    @Test
+    void ordersExportAsCsvWithComputedTotal() {
+        String csv = export(out -> exportService.exportOrders(null, null, ExportService.Format.CSV, out));
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines[0]).startsWith("id,createdAt,status,customerName");
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .contains(",COMPLETED,", "customer@javabite.com", ",4,,,1,10.00,1.00,0.00,11.00,"));
+    }
+
+    @Test
+    void bookingsExportHonoursDateRange() {
+        String inRange = export(out -> exportService.exportBookings(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), ExportService.Format.NDJSON, out));
+        String outOfRange = export(out -> exportService.exportBookings(
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), ExportService.Format.NDJSON, out));
+
+        assertThat(inRange.lines()).anySatisfy(line -> assertThat(line)
+                .contains("\"id\":" + booking.getId(), "\"bookingDate\":\"2024-03-15\"", "\"status\":\"COMPLETED\""));
+        assertThat(outOfRange.lines()).noneSatisfy(line -> assertThat(line)
+                .contains("\"id\":" + booking.getId() + ","));
+    }
+
+    @Test
+    void feedbackCommentsAreQuotedAndDefused() {
+        String csv = export(out -> exportService.exportFeedback(null, null, ExportService.Format.CSV, out));
+
+        assertThat(csv).contains("\"'=HYPERLINK(\"\"x\"\"), great \"\"flat white\"\"\"");
+    }
+
+    private interface ExportCall {
+        void run(ByteArrayOutputStream out);
+    }
+
+    private static String export(ExportCall call) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        call.run(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,162 @@
+package com.javabite.app.service;
+
+import com.javabite.app.payload.ApiResponse;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Without a test transaction: the service runs each request in its own transaction,
+ * and what it commits or rolls back is what these tests check.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        customerId = userRepository.findByEmail("customer@javabite.com").orElseThrow().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ?", customerId);
+    }
+
+    @Test
+    void retryWithSameKeyReplaysFirstResponse() {
+        Map<String, Object> request = Map.of("tableBookingId", 7, "items", 2);
+
+        ResponseEntity<?> first = idempotencyService.execute(customerId, "orders", "key-1", request, this::created);
+        ResponseEntity<?> retry = idempotencyService.execute(customerId, "orders", "key-1", request, this::created);
+
+        assertThat(runs).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat((String) retry.getBody()).contains("\"message\":\"created #1\"");
+        assertThat(first.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        idempotencyService.execute(customerId, "orders", "key-2", Map.of("items", 1), this::created);
+        ResponseEntity<?> reused = idempotencyService.execute(customerId, "orders", "key-2", Map.of("items", 5), this::created);
+
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void failedRequestReleasesTheKey() {
+        Map<String, Object> request = Map.of("items", 1);
+
+        ResponseEntity<?> failed = idempotencyService.execute(customerId, "bookings", "key-3", request,
+                () -> ResponseEntity.badRequest().body(new ApiResponse(false, "Table already booked")));
+        ResponseEntity<?> retry = idempotencyService.execute(customerId, "bookings", "key-3", request, this::created);
+
+        assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void failedRequestRollsBackWithItsReservation() {
+        Map<String, Object> request = Map.of("items", 1);
+
+        ResponseEntity<?> failed = idempotencyService.execute(customerId, "orders", "key-4", request, () -> {
+            renameCustomer("Half-placed order");
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "Menu item not available"));
+        });
+
+        assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(customerName()).isNotEqualTo("Half-placed order");
+        assertThat(keyCount("key-4")).isZero();
+    }
+
+    @Test
+    void responseThatCannotBeStoredIsStillReplayed() {
+        Map<String, Object> request = Map.of("items", 1);
+        String name = customerName();
+
+        // The action succeeds but its body cannot be serialized for replay
+        try {
+            ResponseEntity<?> first = idempotencyService.execute(customerId, "orders", "key-5", request, () -> {
+                renameCustomer("Placed once");
+                runs.incrementAndGet();
+                return ResponseEntity.status(HttpStatus.CREATED).body(new Unserializable());
+            });
+            ResponseEntity<?> retry = idempotencyService.execute(customerId, "orders", "key-5", request, this::created);
+
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(customerName()).isEqualTo("Placed once");
+            assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(runs).hasValue(1);
+        } finally {
+            renameCustomer(name);
+        }
+    }
+
+    @Test
+    void crashedRequestLeavesNoReservationBehind() {
+        Map<String, Object> request = Map.of("items", 1);
+
+        assertThatThrownBy(() -> idempotencyService.execute(customerId, "orders", "key-6", request, () -> {
+            throw new OutOfMemoryError("simulated crash");
+        })).isInstanceOf(OutOfMemoryError.class);
+        ResponseEntity<?> retry = idempotencyService.execute(customerId, "orders", "key-6", request, this::created);
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+        assertThat(runs).hasValue(1);
+    }
+
+    private ResponseEntity<?> created() {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponse(true, "created #" + runs.incrementAndGet()));
+    }
+
+    private void renameCustomer(String name) {
+        jdbcTemplate.update("UPDATE users SET name = ? WHERE id = ?", name, customerId);
+    }
+
+    private String customerName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = ?", String.class, customerId);
+    }
+
+    private int keyCount(String key) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = ?",
+                Integer.class, key);
+    }
+
+    private static class Unserializable {
+        public String getValue() {
+            throw new IllegalStateException("not serializable");
+        }
+    }
+}
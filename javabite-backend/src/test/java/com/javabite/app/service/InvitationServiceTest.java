@@ -0,0 +1,81 @@
+package com.javabite.app.service;
+
+import com.javabite.app.payload.SendInvitationRequest;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Invitation mails go out only once the invite has committed. No test transaction,
+ * so the commit (or rollback) really happens.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InvitationServiceTest {
+
+    private static final String EMAIL = "invited-barista@javabite.test";
+
+    @Autowired
+    private InvitationService invitationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private JavaMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void invitationIsMailedAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            invitationService.sendInvitation(request(), null);
+            verify(mailSender, never()).send(any(SimpleMailMessage.class));
+        });
+
+        ArgumentCaptor<SimpleMailMessage> sent = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender).send(sent.capture());
+        assertThat(sent.getValue().getTo()).containsExactly(EMAIL);
+        assertThat(sent.getValue().getText())
+                .contains(userRepository.findByEmail(EMAIL).orElseThrow().getInvitationToken());
+    }
+
+    @Test
+    void rolledBackInvitationIsNotMailed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            invitationService.sendInvitation(request(), null);
+            status.setRollbackOnly();
+        });
+
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+        assertThat(userRepository.findByEmail(EMAIL)).isEmpty();
+    }
+
+    private static SendInvitationRequest request() {
+        SendInvitationRequest request = new SendInvitationRequest();
+        request.setName("Invited Barista");
+        request.setEmail(EMAIL);
+        request.setRole("WAITER");
+        return request;
+    }
+}
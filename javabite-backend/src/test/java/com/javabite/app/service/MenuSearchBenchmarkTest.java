@@ -0,0 +1,108 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.Category;
+import com.javabite.app.payload.MenuItemResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency on a menu two hundred times the seed menu: exact words, prefixes as
+ * typed, and typos (the slow path, which walks the term dictionary).
+ * Run with mvn -Pbenchmark test. Prints percentiles per kind of query and the cost of
+ * one incremental update.
+ */
+@Tag("benchmark")
+class MenuSearchBenchmarkTest {
+
+    private static final int ITEMS = 2000;
+    private static final int QUERIES = 20000;
+
+    private static final String[] WORDS = {
+            "espresso", "cappuccino", "latte", "americano", "mocha", "macchiato", "cortado", "flat", "white",
+            "cold", "brew", "iced", "vanilla", "caramel", "hazelnut", "cinnamon", "oat", "almond", "soy",
+            "croissant", "muffin", "blueberry", "chocolate", "cookie", "scone", "bagel", "brownie", "roll",
+            "lemon", "raspberry", "pistachio", "matcha", "chai", "ginger", "honey", "maple", "pecan",
+            "sandwich", "panini", "toastie", "cheese", "ham", "turkey", "avocado", "salad", "wrap", "soup"};
+
+    @Test
+    void searchStaysUnderAMillisecond() {
+        SplittableRandom random = new SplittableRandom(50);
+        List<MenuItemResponse> menu = new ArrayList<>();
+        for (int i = 1; i <= ITEMS; i++) {
+            menu.add(MenuSearchIndexTest.item(i, phrase(random, 2) + " " + i, phrase(random, 8),
+                    Category.values()[i % Category.values().length]));
+        }
+
+        long started = System.nanoTime();
+        MenuSearchIndex index = MenuSearchIndex.of(menu);
+        double buildMillis = (System.nanoTime() - started) / 1e6;
+
+        QueryMaker exactQueries = q -> phrase(q, 2);
+        QueryMaker prefixQueries = q -> WORDS[q.nextInt(WORDS.length)].substring(0, 3);
+        QueryMaker typoQueries = q -> {
+            char[] word = WORDS[q.nextInt(WORDS.length)].toCharArray();
+            int i = q.nextInt(1, word.length);
+            char swapped = word[i];
+            word[i] = word[i - 1];
+            word[i - 1] = swapped;
+            return new String(word);
+        };
+        // Warm up every path before measuring any of them
+        for (QueryMaker queries : List.of(exactQueries, prefixQueries, typoQueries)) {
+            p99(index, random, queries);
+        }
+        double exact = p99(index, random, exactQueries);
+        double prefix = p99(index, random, prefixQueries);
+        double typo = p99(index, random, typoQueries);
+
+        started = System.nanoTime();
+        for (int i = 1; i <= 100; i++) {
+            index = index.with(MenuSearchIndexTest.item(i, phrase(random, 2), phrase(random, 8), Category.COFFEE));
+        }
+        double updateMillis = (System.nanoTime() - started) / 1e6 / 100;
+
+        System.out.printf("📊 Menu search on %d items: build %.1f ms, update %.3f ms, p99 exact %.3f ms, "
+                + "prefix %.3f ms, typo %.3f ms%n", ITEMS, buildMillis, updateMillis, exact, prefix, typo);
+        assertThat(exact).isLessThan(1.0);
+        assertThat(prefix).isLessThan(1.0);
+        assertThat(typo).isLessThan(1.0);
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    /**
+     * 99th percentile in ms of QUERIES searches
+     */
+    private static double p99(MenuSearchIndex index, SplittableRandom random, QueryMaker queries) {
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String query = queries.next(random);
+            long started = System.nanoTime();
+            index.search(query, 20);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos[(int) (QUERIES * 0.99)] / 1e6;
+    }
+
+    private static String phrase(SplittableRandom random, int words) {
+        StringBuilder phrase = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < words; i++) {
+            phrase.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return phrase.toString();
+    }
+
+    private interface QueryMaker {
+        String next(SplittableRandom random);
+    }
+}
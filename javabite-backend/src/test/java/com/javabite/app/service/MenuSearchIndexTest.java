@@ -0,0 +1,101 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.Category;
+import com.javabite.app.payload.MenuItemResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Matching and ranking of the menu search index, on the seed menu
+ */
+class MenuSearchIndexTest {
+
+    private final MenuSearchIndex index = MenuSearchIndex.of(List.of(
+            item(1, "Espresso", "Rich and bold shot of pure coffee", Category.COFFEE),
+            item(2, "Cappuccino", "Perfect balance of espresso, steamed milk, and foam", Category.COFFEE),
+            item(3, "Latte", "Smooth espresso with steamed milk and light foam", Category.COFFEE),
+            item(4, "Cold Brew", "Smooth, refreshing cold steeped coffee", Category.COFFEE),
+            item(5, "Croissant", "Buttery and flaky French pastry", Category.PASTRIES),
+            item(6, "Blueberry Muffin", "Fresh baked with real blueberries", Category.PASTRIES),
+            item(7, "Chocolate Chip Cookie", "Warm and gooey with premium chocolate", Category.PASTRIES),
+            item(8, "Crème Brûlée Latte", "Caramelised sugar over steamed milk", Category.COFFEE)));
+
+    @Test
+    void namesOutrankDescriptions() {
+        assertThat(names(index.search("espresso", 10))).containsExactly("Espresso", "Cappuccino", "Latte");
+    }
+
+    @Test
+    void prefixesMatchAsYouType() {
+        assertThat(names(index.search("cro", 10))).containsExactly("Croissant");
+        assertThat(index.autocomplete("choc", 5)).containsExactly("Chocolate Chip Cookie");
+        assertThat(index.autocomplete("c", 3)).hasSize(3);
+    }
+
+    @Test
+    void everyWordMustMatch() {
+        assertThat(names(index.search("steamed latte", 10))).containsExactly("Crème Brûlée Latte", "Latte");
+        assertThat(index.search("cold muffin", 10)).isEmpty();
+    }
+
+    @Test
+    void toleratesTyposAndAccents() {
+        assertThat(names(index.search("expresso", 10))).startsWith("Espresso");
+        assertThat(names(index.search("capucino", 10))).containsExactly("Cappuccino");
+        assertThat(names(index.search("croisant", 10))).containsExactly("Croissant");
+        assertThat(names(index.search("creme brulee", 10))).containsExactly("Crème Brûlée Latte");
+        // Short words must match exactly or as a prefix
+        assertThat(index.search("lxt", 10)).isEmpty();
+    }
+
+    @Test
+    void categoriesAreSearchable() {
+        assertThat(names(index.search("pastries", 10)))
+                .containsExactly("Blueberry Muffin", "Chocolate Chip Cookie", "Croissant");
+    }
+
+    @Test
+    void updatesReplaceTheOldTermsWithoutTouchingTheOriginal() {
+        MenuSearchIndex renamed = index.with(item(5, "Pain au Chocolat", "Buttery pastry", Category.PASTRIES));
+
+        assertThat(renamed.search("croissant", 10)).isEmpty();
+        assertThat(names(renamed.search("pain", 10))).containsExactly("Pain au Chocolat");
+        assertThat(names(index.search("croissant", 10))).containsExactly("Croissant");
+
+        MenuSearchIndex removed = renamed.without(5L);
+        assertThat(removed.search("pain", 10)).isEmpty();
+        assertThat(removed.size()).isEqualTo(index.size() - 1);
+        assertThat(removed.without(99L)).isSameAs(removed);
+    }
+
+    @Test
+    void unavailableItemsAreNotReturned() {
+        MenuItemResponse soldOut = item(4, "Cold Brew", "Smooth, refreshing cold steeped coffee", Category.COFFEE);
+        soldOut.setAvailable(false);
+
+        assertThat(index.with(soldOut).search("cold", 10)).isEmpty();
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    static MenuItemResponse item(long id, String name, String description, Category category) {
+        return MenuItemResponse.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(new BigDecimal("3.00"))
+                .category(category)
+                .available(true)
+                .build();
+    }
+
+    private static List<String> names(List<MenuItemResponse> items) {
+        return items.stream().map(MenuItemResponse::getName).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.Category;
+import com.javabite.app.model.MenuItem;
+import com.javabite.app.payload.CreateMenuItemRequest;
+import com.javabite.app.payload.MenuItemResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Menu search through the service and the public endpoints: the index follows menu
+ * writes as soon as they commit, without waiting for a rebuild.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MenuSearchTest {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void searchEndpointsAnswerFromTheSeedMenu() throws Exception {
+        mockMvc.perform(get("/api/menu/search").param("q", "capucino"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("Cappuccino"));
+        mockMvc.perform(get("/api/menu/autocomplete").param("q", "cinn"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0]").value("Cinnamon Roll"));
+        mockMvc.perform(get("/api/menu/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void writesAreSearchableOnceCommitted() {
+        // Build the index first, so the writes below patch it rather than seed it
+        assertThat(menuService.searchMenuItems("matcha", 10)).isEmpty();
+
+        MenuItem created = menuService.createMenuItem(request("Matcha Latte", "Stone-ground green tea with steamed milk"));
+        try {
+            assertThat(names(menuService.searchMenuItems("matcha", 10))).containsExactly("Matcha Latte");
+
+            menuService.updateMenuItem(created.getId(), request("Hojicha Latte", "Roasted green tea with steamed milk"));
+            assertThat(menuService.searchMenuItems("matcha", 10)).isEmpty();
+            assertThat(menuService.autocompleteMenuItems("hoji", 5)).containsExactly("Hojicha Latte");
+        } finally {
+            menuService.deleteMenuItem(created.getId());
+        }
+        assertThat(menuService.searchMenuItems("hojicha", 10)).isEmpty();
+    }
+
+    @Test
+    void concurrentSearchesShareOneIndexBuild() throws Exception {
+        // A store nobody has searched yet, so every thread finds no index
+        long storeId = 9050L;
+        int threads = 16;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long queriesBefore = statistics.getQueryExecutionCount();
+
+        CyclicBarrier start = new CyclicBarrier(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<MenuItemResponse>>> searches = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                searches.add(pool.submit(() -> {
+                    start.await();
+                    return StoreContext.callAs(storeId, () -> menuService.searchMenuItems("latte", 10));
+                }));
+            }
+            for (Future<List<MenuItemResponse>> search : searches) {
+                assertThat(search.get()).isEmpty();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(statistics.getQueryExecutionCount() - queriesBefore).isEqualTo(1);
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private static CreateMenuItemRequest request(String name, String description) {
+        CreateMenuItemRequest request = new CreateMenuItemRequest();
+        request.setName(name);
+        request.setDescription(description);
+        request.setPrice(new BigDecimal("4.50"));
+        request.setCategory(Category.BEVERAGES);
+        return request;
+    }
+
+    private static List<String> names(List<MenuItemResponse> items) {
+        return items.stream().map(MenuItemResponse::getName).toList();
+    }
+}
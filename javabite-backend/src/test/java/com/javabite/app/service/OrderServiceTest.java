@@ -0,0 +1,158 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.*;
+import com.javabite.app.payload.CreateBatchOrderRequest;
+import com.javabite.app.payload.CreateOrderRequest;
+import com.javabite.app.payload.OrderResponse;
+import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    private User customer;
+    private TableBooking booking;
+    private List<MenuItem> menu;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByEmail("customer@javabite.com").orElseThrow();
+        booking = bookingRepository.save(TableBooking.builder()
+                .customer(customer)
+                .bookingDate(LocalDate.now())
+                .bookingTime("12:00")
+                .numberOfGuests(6)
+                .tableNumber(11)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+        menu = menuItemRepository.findByAvailableTrue();
+    }
+
+    @Test
+    void batchPlacesOneOrderPerCartAndActivatesBooking() {
+        CreateBatchOrderRequest request = batch(
+                cart(item(menu.get(0), 2)),
+                cart(item(menu.get(1), 1), item(menu.get(0), 1)),
+                cart(item(menu.get(2), 3)));
+
+        List<Order> orders = orderService.createOrders(customer.getId(), request);
+
+        assertThat(orders).hasSize(3).allSatisfy(order -> {
+            assertThat(order.getId()).isNotNull();
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(order.getChef()).isNull();
+        });
+        assertThat(orders.get(1).getItems()).hasSize(2);
+        assertThat(orderRepository.findByTableBooking(booking)).hasSize(3);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.ACTIVE);
+    }
+
+    @Test
+    void batchReusesStaffAlreadyServingTheTable() {
+        User chef = userRepository.findByEmail("chef@javabite.com").orElseThrow();
+        Order earlier = orderService.createOrders(customer.getId(), batch(cart(item(menu.get(0), 1)))).get(0);
+        earlier.setChef(chef);
+
+        List<Order> orders = orderService.createOrders(customer.getId(),
+                batch(cart(item(menu.get(0), 1)), cart(item(menu.get(1), 1))));
+
+        assertThat(orders).allSatisfy(order -> {
+            assertThat(order.getChef()).isEqualTo(chef);
+            assertThat(order.getAutoAssigned()).isTrue();
+        });
+    }
+
+    @Test
+    void batchWithUnknownMenuItemPlacesNothing() {
+        CreateOrderRequest.OrderItemRequest unknown = new CreateOrderRequest.OrderItemRequest();
+        unknown.setMenuItemId(-1L);
+        unknown.setQuantity(1);
+
+        assertThatThrownBy(() -> orderService.createOrders(customer.getId(),
+                batch(cart(item(menu.get(0), 1)), cart(unknown))))
+                .hasMessage("Menu item not found");
+        assertThat(orderRepository.findByTableBooking(booking)).isEmpty();
+    }
+
+    @Test
+    void boardsFollowTheOrderThroughItsLifecycle() {
+        User chef = userRepository.findByEmail("chef@javabite.com").orElseThrow();
+        User waiter = userRepository.findByEmail("waiter@javabite.com").orElseThrow();
+        Long id = orderService.createOrders(customer.getId(), batch(cart(item(menu.get(0), 2)))).get(0).getId();
+
+        orderService.assignChefToOrder(id, chef.getId());
+        orderService.assignWaiterToOrder(id, waiter.getId());
+        OrderResponse ticket = orderService.getChefNewOrders(chef.getId()).stream()
+                .filter(response -> response.getId().equals(id))
+                .findFirst().orElseThrow();
+        assertThat(ticket.getTableNumber()).isEqualTo(11);
+        assertThat(ticket.getWaiterName()).isEqualTo(waiter.getName());
+        assertThat(ticket.getItems()).singleElement().satisfies(line -> {
+            assertThat(line.getQuantity()).isEqualTo(2);
+            assertThat(line.getMenuItem().getName()).isEqualTo(menu.get(0).getName());
+        });
+
+        orderService.startPreparation(id, chef.getId());
+        assertThat(orderService.getChefNewOrders(chef.getId())).extracting(OrderResponse::getId).doesNotContain(id);
+        assertThat(orderService.getChefActiveOrders(chef.getId())).extracting(OrderResponse::getId).contains(id);
+        assertThat(orderService.getWaiterPreparingOrders(waiter.getId())).extracting(OrderResponse::getId).contains(id);
+
+        orderService.markOrderReady(id, chef.getId());
+        assertThat(orderService.getChefActiveOrders(chef.getId())).extracting(OrderResponse::getId).doesNotContain(id);
+        assertThat(orderService.getWaiterReadyOrders(waiter.getId())).extracting(OrderResponse::getId).contains(id);
+
+        orderService.waiterMarkServed(id, waiter.getId());
+        assertThat(orderService.getWaiterAssignedOrders(waiter.getId())).extracting(OrderResponse::getId).doesNotContain(id);
+    }
+
+    private CreateBatchOrderRequest batch(CreateBatchOrderRequest.Cart... carts) {
+        CreateBatchOrderRequest request = new CreateBatchOrderRequest();
+        request.setTableBookingId(booking.getId());
+        request.setOrders(List.of(carts));
+        return request;
+    }
+
+    private static CreateBatchOrderRequest.Cart cart(CreateOrderRequest.OrderItemRequest... items) {
+        CreateBatchOrderRequest.Cart cart = new CreateBatchOrderRequest.Cart();
+        cart.setItems(List.of(items));
+        return cart;
+    }
+
+    private static CreateOrderRequest.OrderItemRequest item(MenuItem menuItem, int quantity) {
+        CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+        item.setMenuItemId(menuItem.getId());
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -0,0 +1,162 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.BookingStatus;
+import com.javabite.app.model.MenuItem;
+import com.javabite.app.model.Order;
+import com.javabite.app.model.TableBooking;
+import com.javabite.app.model.User;
+import com.javabite.app.payload.CreateOrderRequest;
+import com.javabite.app.repository.BoardTicketRepository;
+import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.OrderRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Order creation with and without the second-level cache: each order is its own
+ * transaction on its own booking, the way orders arrive from the API.
+ * Run with mvn -Pbenchmark test. Prints time and SQL statements per order.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheBenchmarkTest {
+
+    private static final int ORDERS_PER_RUN = 200;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final String RETRIEVE_MODE = "jakarta.persistence.cache.retrieveMode";
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private BoardTicketRepository boardTicketRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<TableBooking> bookings = new ArrayList<>();
+    private final List<Long> orderIds = new ArrayList<>();
+    private User customer;
+    private List<MenuItem> menu;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByEmail("customer@javabite.com").orElseThrow();
+        menu = menuItemRepository.findByAvailableTrue().subList(0, ITEMS_PER_ORDER);
+        for (int i = 0; i < 2 * ORDERS_PER_RUN; i++) {
+            bookings.add(bookingRepository.save(TableBooking.builder()
+                    .customer(customer)
+                    .bookingDate(LocalDate.now())
+                    .bookingTime("12:00")
+                    .numberOfGuests(2)
+                    .tableNumber(1 + i % 20)
+                    .status(BookingStatus.CONFIRMED)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardTicketRepository.deleteAllById(orderIds);
+        orderRepository.deleteAllById(orderIds);
+        bookingRepository.deleteAll(bookings);
+    }
+
+    @Test
+    void orderCreationWithAndWithoutTheCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm-up: JIT, connection pool and the cache itself
+        createOrders(bookings.subList(0, 20), true, statistics);
+
+        Run uncached = createOrders(bookings.subList(20, ORDERS_PER_RUN), false, statistics);
+        Run cached = createOrders(bookings.subList(ORDERS_PER_RUN, bookings.size() - 20), true, statistics);
+
+        System.out.printf("Order creation without L2 cache: %s%n", uncached);
+        System.out.printf("Order creation with L2 cache:    %s%n", cached);
+
+        // Customer and menu item lookups come from the cache instead of the database
+        assertThat(cached.statementsPerOrder()).isLessThan(uncached.statementsPerOrder());
+    }
+
+    private Run createOrders(List<TableBooking> tables, boolean cached, Statistics statistics) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long statements = statistics.getPrepareStatementCount();
+        long started = System.nanoTime();
+        for (TableBooking table : tables) {
+            Order order = tx.execute(status -> {
+                entityManager.setProperty(RETRIEVE_MODE, cached ? CacheRetrieveMode.USE : CacheRetrieveMode.BYPASS);
+                entityManager.setProperty(STORE_MODE, cached ? CacheStoreMode.USE : CacheStoreMode.BYPASS);
+                return orderService.createOrder(customer.getId(), request(table));
+            });
+            orderIds.add(order.getId());
+        }
+        return new Run(tables.size(), System.nanoTime() - started, statistics.getPrepareStatementCount() - statements);
+    }
+
+    private CreateOrderRequest request(TableBooking table) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setTableBookingId(table.getId());
+        request.setItems(menu.stream().map(menuItem -> {
+            CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+            item.setMenuItemId(menuItem.getId());
+            item.setQuantity(1);
+            return item;
+        }).toList());
+        return request;
+    }
+
+    private record Run(int orders, long nanos, long statements) {
+
+        double statementsPerOrder() {
+            return (double) statements / orders;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d orders in %.0f ms (%.2f ms/order, %.1f SQL statements/order)",
+                    orders, nanos / 1_000_000.0, nanos / 1_000_000.0 / orders, statementsPerOrder());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.Role;
+import com.javabite.app.model.User;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not @Transactional: the claims race from many threads, each in its own transaction.
+ * The contention benchmark (tag "benchmark") runs with mvn -Pbenchmark test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StaffCapacityServiceTest {
+
+    private static final int CHEFS = 5;
+    private static final int MAX_ACTIVE = 3;
+    private static final int THREADS = 50;
+    private static final int ROUNDS_PER_THREAD = 200;
+
+    @Autowired
+    private StaffCapacityService staffCapacityService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> chefs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CHEFS; i++) {
+            chefs.add(userRepository.save(User.builder()
+                    .name("Capacity Chef " + i)
+                    .email("capacity-chef-" + i + "@javabite.test")
+                    .password("x")
+                    .role(Role.CHEF)
+                    .enabled(true)
+                    .maxActiveOrders(MAX_ACTIVE)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(chefs);
+    }
+
+    @Test
+    void concurrentClaimsNeverExceedCapacity() throws InterruptedException {
+        AtomicInteger claimed = new AtomicInteger();
+        race(i -> {
+            if (staffCapacityService.tryClaim(copyOf(chefs.get(i % CHEFS)))) {
+                claimed.incrementAndGet();
+            }
+        });
+
+        assertThat(claimed).hasValue(CHEFS * MAX_ACTIVE);
+        chefs.forEach(chef -> assertThat(activeOrders(chef)).isEqualTo(MAX_ACTIVE));
+    }
+
+    @Test
+    void concurrentReleasesNeverGoBelowZero() throws InterruptedException {
+        chefs.forEach(chef -> staffCapacityService.tryClaim(copyOf(chef)));
+
+        race(i -> staffCapacityService.release(copyOf(chefs.get(i % CHEFS))));
+
+        chefs.forEach(chef -> assertThat(activeOrders(chef)).isZero());
+    }
+
+    @Test
+    void entitySaveDoesNotOverwriteCounter() {
+        User stale = copyOf(chefs.get(0));
+        staffCapacityService.tryClaim(copyOf(chefs.get(0)));
+
+        stale.setName("Renamed Chef");
+        userRepository.save(stale);
+
+        assertThat(activeOrders(chefs.get(0))).isEqualTo(1);
+    }
+
+    /**
+     * 50 threads claiming and freeing 5 chefs as fast as they can: every counter must end
+     * where it started and never pass capacity. Prints throughput.
+     */
+    @Test
+    @Tag("benchmark")
+    void fiftyThreadsOnFiveChefsKeepCountersExact() throws InterruptedException {
+        AtomicInteger claims = new AtomicInteger();
+        AtomicInteger rejections = new AtomicInteger();
+        AtomicInteger overCapacity = new AtomicInteger();
+
+        long started = System.nanoTime();
+        race(thread -> {
+            for (int round = 0; round < ROUNDS_PER_THREAD; round++) {
+                User chef = copyOf(chefs.get((thread + round) % CHEFS));
+                if (staffCapacityService.tryClaim(chef)) {
+                    claims.incrementAndGet();
+                    if (activeOrders(chef) > MAX_ACTIVE) {
+                        overCapacity.incrementAndGet();
+                    }
+                    staffCapacityService.release(chef);
+                } else {
+                    rejections.incrementAndGet();
+                }
+            }
+        }, TimeUnit.MINUTES.toSeconds(5));
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        int attempts = THREADS * ROUNDS_PER_THREAD;
+        System.out.printf("Staff capacity: %d attempts in %.2fs (%.0f/s), %d claimed, %d rejected at capacity%n",
+                attempts, seconds, attempts / seconds, claims.get(), rejections.get());
+
+        assertThat(claims.get() + rejections.get()).isEqualTo(attempts);
+        assertThat(overCapacity).hasValue(0);
+        chefs.forEach(chef -> assertThat(activeOrders(chef)).as(chef.getName()).isZero());
+    }
+
+    private interface Attempt {
+        void run(int index);
+    }
+
+    private void race(Attempt attempt) throws InterruptedException {
+        race(attempt, 30);
+    }
+
+    private void race(Attempt attempt, long timeoutSeconds) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            pool.submit(() -> {
+                start.await();
+                attempt.run(index);
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // Each thread works on its own detached copy, like separate requests would
+    private User copyOf(User chef) {
+        return userRepository.findById(chef.getId()).orElseThrow();
+    }
+
+    private int activeOrders(User chef) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_active_orders FROM users WHERE id = ?", Integer.class, chef.getId());
+    }
+}
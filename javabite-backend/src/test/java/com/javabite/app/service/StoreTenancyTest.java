@@ -0,0 +1,131 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.Category;
+import com.javabite.app.model.MenuItem;
+import com.javabite.app.model.Store;
+import com.javabite.app.payload.CreateMenuItemRequest;
+import com.javabite.app.repository.MenuItemRepository;
+import com.javabite.app.repository.StoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not @Transactional: the Hibernate session picks its store when it opens, so each
+ * step opens its own transaction inside StoreContext.callAs.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StoreTenancyTest {
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Store store;
+    private MenuItem item;
+
+    @BeforeEach
+    void setUp() {
+        store = storeService.createStore("tenancy-test", "Tenancy Test", 6);
+        item = inStore(store.getId(), () -> menuItemRepository.save(MenuItem.builder()
+                .name("Downtown Cold Brew")
+                .price(new BigDecimal("4.50"))
+                .category(Category.COFFEE)
+                .available(true)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inStore(store.getId(), () -> {
+            menuItemRepository.deleteById(item.getId());
+            return null;
+        });
+        storeRepository.deleteById(store.getId());
+        storeService.reload();
+    }
+
+    @Test
+    void newStoreGetsItsOwnIdAndRowsAreStamped() {
+        assertThat(store.getId()).isNotEqualTo(StoreContext.DEFAULT_STORE_ID);
+        assertThat(item.getStoreId()).isEqualTo(store.getId());
+        assertThat(storeService.isActiveStore(store.getId())).isTrue();
+    }
+
+    @Test
+    void queriesOnlySeeTheCurrentStore() {
+        assertThat(inStore(store.getId(), () -> menuItemRepository.findAll()))
+                .extracting(MenuItem::getName)
+                .containsExactly("Downtown Cold Brew");
+
+        assertThat(inStore(StoreContext.DEFAULT_STORE_ID, () -> menuItemRepository.findAll()))
+                .isNotEmpty()
+                .noneMatch(menuItem -> menuItem.getId().equals(item.getId()));
+    }
+
+    @Test
+    void cachedMenuItemsAreKeyedByStore() {
+        CacheRegionStatistics menuCache = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics().getCacheRegionStatistics("menu-items");
+        inStore(store.getId(), () -> menuItemRepository.findById(item.getId()));
+        long hits = menuCache.getHitCount();
+        inStore(store.getId(), () -> menuItemRepository.findById(item.getId()));
+        assertThat(menuCache.getHitCount()).isEqualTo(hits + 1);
+
+        // Another store's session never gets this store's cache entry, nor the row
+        assertThat(inStore(StoreContext.DEFAULT_STORE_ID, () -> menuItemRepository.findById(item.getId()))).isEmpty();
+        assertThat(menuCache.getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void otherStoresItemsCannotBeLoadedOrChangedById() {
+        CreateMenuItemRequest rename = new CreateMenuItemRequest();
+        rename.setName("Hijacked");
+        rename.setPrice(new BigDecimal("0.01"));
+        rename.setCategory(Category.COFFEE);
+
+        StoreContext.runAs(StoreContext.DEFAULT_STORE_ID, () -> {
+            assertThatThrownBy(() -> menuService.getMenuItemById(item.getId())).hasMessageContaining("not found");
+            assertThatThrownBy(() -> menuService.updateMenuItem(item.getId(), rename)).hasMessageContaining("not found");
+            assertThatThrownBy(() -> menuService.deleteMenuItem(item.getId())).hasMessageContaining("not found");
+        });
+
+        assertThat(inStore(store.getId(), () -> menuItemRepository.findById(item.getId())))
+                .get().extracting(MenuItem::getName).isEqualTo("Downtown Cold Brew");
+    }
+
+    private <T> T inStore(Long storeId, Supplier<T> work) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        return StoreContext.callAs(storeId, () -> tx.execute(status -> work.get()));
+    }
+}
@@ -0,0 +1,206 @@
+package com.javabite.app.service;
+
+import com.javabite.app.config.StoreContext;
+import com.javabite.app.model.BookingStatus;
+import com.javabite.app.model.Store;
+import com.javabite.app.model.TableBooking;
+import com.javabite.app.model.User;
+import com.javabite.app.payload.CreateBookingRequest;
+import com.javabite.app.payload.FloorPlanRequest;
+import com.javabite.app.repository.StoreRepository;
+import com.javabite.app.repository.TableBookingRepository;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs in a store of its own with this floor plan: 2-tops 1-6, 4-tops 7-14,
+ * 6-tops 15-18, 8-tops 19-20, neighbours paired (1+2, 3+4, ...). Nothing runs in a
+ * test transaction, so the plan cache sees commits and rollbacks as in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TableAllocationServiceTest {
+
+    private static final String TIME = "19:00";
+
+    @Autowired
+    private TableAllocationService allocationService;
+
+    @Autowired
+    private TableBookingService bookingService;
+
+    @Autowired
+    private TableBookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate date = LocalDate.now().plusDays(7);
+    private User customer;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByEmail("customer@javabite.com").orElseThrow();
+        store = storeService.createStore("floor-plan-test", "Floor Plan Test", 20);
+        StoreContext.setCurrentStoreId(store.getId());
+        allocationService.replaceFloorPlan(plan(
+                table(1, 2, 2), table(2, 2, 1), table(3, 2, 4), table(4, 2, 3), table(5, 2, 6), table(6, 2, 5),
+                table(7, 4, 8), table(8, 4, 7), table(9, 4, 10), table(10, 4, 9),
+                table(11, 4, 12), table(12, 4, 11), table(13, 4, 14), table(14, 4, 13),
+                table(15, 6, 16), table(16, 6, 15), table(17, 6, 18), table(18, 6, 17),
+                table(19, 8, 20), table(20, 8, 19)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        StoreContext.clear();
+        jdbcTemplate.update("DELETE FROM table_bookings WHERE store_id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM dining_tables WHERE store_id = ?", store.getId());
+        storeRepository.deleteById(store.getId());
+        storeService.reload();
+    }
+
+    @Test
+    void partiesGetTheSmallestTableThatSeatsThem() {
+        assertThat(allocationService.allocate(date, TIME, 2, null).getTableNumber()).isEqualTo(1);
+        assertThat(allocationService.allocate(date, TIME, 3, null).getTableNumber()).isEqualTo(7);
+        assertThat(allocationService.allocate(date, TIME, 6, null).getTableNumber()).isEqualTo(15);
+    }
+
+    @Test
+    void largePartiesGetTheTightestCombinedPair() {
+        TableAllocationService.Allocation allocation = allocationService.allocate(date, TIME, 10, null);
+
+        assertThat(allocation.getTableNumber()).isEqualTo(15);
+        assertThat(allocation.getJoinedTableNumber()).isEqualTo(16);
+        assertThat(allocation.getSeats()).isEqualTo(12);
+
+        assertThatThrownBy(() -> allocationService.allocate(date, TIME, 17, null))
+                .hasMessageContaining("at most 16 guests");
+    }
+
+    @Test
+    void heldTablesAreSkippedIncludingJoinedOnes() {
+        for (int table = 1; table <= 6; table++) {
+            hold(table, null);
+        }
+        hold(15, 16);
+
+        assertThat(allocationService.allocate(date, TIME, 2, null).getTableNumber()).isEqualTo(7);
+        assertThat(allocationService.allocate(date, TIME, 6, null).getTableNumber()).isEqualTo(17);
+        assertThat(bookingService.getAvailableTablesForSlot(date, TIME, 6)).containsExactly(17, 18, 19, 20);
+    }
+
+    @Test
+    void createBookingAllocatesAndRejectsTooSmallPicks() {
+        TableBooking booking = bookingService.createBooking(customer.getId(), request(8, null));
+        assertThat(booking.getTableNumber()).isEqualTo(19);
+        assertThat(booking.getJoinedTableNumber()).isNull();
+
+        assertThatThrownBy(() -> bookingService.createBooking(customer.getId(), request(4, 1)))
+                .hasMessageContaining("Table 1 seats 2");
+        assertThatThrownBy(() -> bookingService.createBooking(customer.getId(), request(2, 19)))
+                .hasMessageContaining("already booked");
+    }
+
+    @Test
+    void bookingTimesAreStoredAsMinuteOfDayAndQueriedByRange() {
+        TableBooking booking = bookingService.createBooking(customer.getId(), request(2, null, "9:05"));
+        assertThat(booking.getBookingTime()).isEqualTo("09:05");
+        assertThat(booking.getBookingMinute()).isEqualTo(545);
+
+        hold(7, null);
+        assertThat(bookingService.getBookingsForTimeRange(date, "18:00", "20:00"))
+                .extracting(TableBooking::getTableNumber)
+                .containsExactly(7);
+        assertThat(bookingService.getBookingsForTimeRange(date, null, "10:00"))
+                .extracting(TableBooking::getBookingTime)
+                .containsExactly("09:05");
+
+        assertThatThrownBy(() -> bookingService.createBooking(customer.getId(), request(2, null, "7pm")))
+                .hasMessageContaining("Invalid booking time");
+    }
+
+    @Test
+    void replacedPlanIsServedOnlyOnceCommitted() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            allocationService.replaceFloorPlan(plan(table(1, 12, null)));
+            status.setRollbackOnly();
+        });
+        assertThat(allocationService.getFloorPlan().getTables()).hasSize(20);
+
+        TableAllocationService.FloorPlan replaced = allocationService.replaceFloorPlan(plan(table(1, 12, null)));
+        assertThat(replaced.getLargestParty()).isEqualTo(12);
+        assertThat(allocationService.getFloorPlan().getTables()).singleElement()
+                .satisfies(table -> assertThat(table.getSeats()).isEqualTo(12));
+        assertThat(allocationService.allocate(date, TIME, 9, null).getTableNumber()).isEqualTo(1);
+    }
+
+    private void hold(int table, Integer joined) {
+        bookingRepository.save(TableBooking.builder()
+                .customer(customer)
+                .bookingDate(date)
+                .bookingTime(TIME)
+                .numberOfGuests(2)
+                .tableNumber(table)
+                .joinedTableNumber(joined)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+    }
+
+    private static FloorPlanRequest plan(FloorPlanRequest.Table... tables) {
+        FloorPlanRequest plan = new FloorPlanRequest();
+        plan.setTables(new ArrayList<>(List.of(tables)));
+        return plan;
+    }
+
+    private static FloorPlanRequest.Table table(int number, int seats, Integer combinableWith) {
+        FloorPlanRequest.Table table = new FloorPlanRequest.Table();
+        table.setTableNumber(number);
+        table.setSeats(seats);
+        table.setZone(seats == 2 ? "WINDOW" : seats == 8 ? "PATIO" : "MAIN");
+        table.setCombinableWith(combinableWith);
+        return table;
+    }
+
+    private CreateBookingRequest request(int guests, Integer table) {
+        return request(guests, table, TIME);
+    }
+
+    private CreateBookingRequest request(int guests, Integer table, String time) {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setBookingDate(date);
+        request.setBookingTime(time);
+        request.setNumberOfGuests(guests);
+        request.setTableNumber(table);
+        return request;
+    }
+}
@@ -0,0 +1,42 @@
+package com.javabite.app.service;
+
+import com.javabite.app.model.User;
+import com.javabite.app.payload.CreateChefRequest;
+import com.javabite.app.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void newStaffCanLogInWithTheReturnedPassword() {
+        CreateChefRequest request = new CreateChefRequest();
+        request.setName("New Chef");
+        request.setEmail("new-chef@javabite.test");
+
+        User created = userService.createChef(request);
+        userRepository.flush();
+
+        String stored = userRepository.findByEmail("new-chef@javabite.test").orElseThrow().getPassword();
+        assertThat(stored).isNotEqualTo(created.getPassword());
+        assertThat(passwordEncoder.matches(created.getPassword(), stored)).isTrue();
+    }
+}